@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.1"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 fun getGitHash(): String {
@@ -15,7 +16,8 @@ version = getGitHash()
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		// 가상 스레드(spring.threads.virtual.enabled)를 쓰려면 -PjavaVersion=21로 빌드
+		languageVersion = JavaLanguageVersion.of((findProperty("javaVersion") as String?)?.toInt() ?: 17)
 	}
 }
 
@@ -56,6 +58,7 @@ dependencies {
 	// Redis Cache
 	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
 	// Kafka
 	implementation("org.springframework.kafka:spring-kafka")
@@ -83,6 +86,9 @@ tasks.withType<Test> {
 	minHeapSize = "512m"
 	maxHeapSize = "2g"
 
+	// 락 백엔드 전환 (예: ./gradlew test -PlockProfile=mysql-lock), 지정하지 않으면 redisson
+	(findProperty("lockProfile") as String?)?.let { systemProperty("spring.profiles.active", "local,$it") }
+
 	// 테스트 타임아웃 설정
 	systemProperty("junit.jupiter.execution.timeout.default", "5m")
 
@@ -100,6 +106,15 @@ tasks.withType<Test> {
 	}
 }
 
+// JMH 벤치마크 설정 (./gradlew jmh, 소스: src/jmh/java)
+jmh {
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	benchmarkMode = listOf("avgt")
+	timeUnit = "ns"
+}
+
 // Gradle Wrapper 설정
 tasks.wrapper {
 	gradleVersion = "8.5"  // 안정적인 버전으로 고정
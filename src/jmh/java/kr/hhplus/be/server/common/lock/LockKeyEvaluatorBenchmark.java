@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.common.lock;
+
+import kr.hhplus.be.server.common.lock.aspect.LockKeyEvaluator;
+import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.product.application.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.List;
+
+/**
+ * @DistributedLock 키 평가 비용 비교
+ * - parsePerCall: 기존 방식 (호출마다 파서 생성 + 파싱 + StandardEvaluationContext)
+ * - cached: LockKeyEvaluator (메서드별 Expression 캐시 + 컴파일 + MethodBasedEvaluationContext)
+ */
+@State(Scope.Benchmark)
+public class LockKeyEvaluatorBenchmark {
+
+    private final LockKeyEvaluator evaluator = new LockKeyEvaluator();
+
+    private Method singleKeyMethod;
+    private String singleKey;
+    private Object[] singleKeyArgs;
+
+    private Method multiKeyMethod;
+    private String multiKey;
+    private Object[] multiKeyArgs;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        singleKeyMethod = ProductService.class.getMethod("decreaseStockWithDistributedLock", Long.class, int.class);
+        singleKey = singleKeyMethod.getAnnotation(DistributedLock.class).key();
+        singleKeyArgs = new Object[]{1L, 1};
+
+        multiKeyMethod = OrderFacade.class.getMethod("placeOrder", OrderRequest.class);
+        multiKey = multiKeyMethod.getAnnotation(DistributedLock.class).key();
+        multiKeyArgs = new Object[]{new OrderRequest(1L, List.of(
+                new OrderRequest.OrderItemRequest(3L, 1),
+                new OrderRequest.OrderItemRequest(1L, 2),
+                new OrderRequest.OrderItemRequest(2L, 1)))};
+    }
+
+    @Benchmark
+    public Object singleKeyParsePerCall() {
+        return parsePerCall(singleKeyMethod, singleKeyArgs, singleKey);
+    }
+
+    @Benchmark
+    public Object singleKeyCached() {
+        return evaluator.evaluate(singleKeyMethod, singleKeyArgs, singleKey);
+    }
+
+    @Benchmark
+    public Object multiKeyParsePerCall() {
+        return parsePerCall(multiKeyMethod, multiKeyArgs, multiKey);
+    }
+
+    @Benchmark
+    public Object multiKeyCached() {
+        return evaluator.evaluate(multiKeyMethod, multiKeyArgs, multiKey);
+    }
+
+    private static Object parsePerCall(Method method, Object[] args, String key) {
+        ExpressionParser parser = new SpelExpressionParser();
+        Expression expression = parser.parseExpression(key);
+        EvaluationContext context = new StandardEvaluationContext();
+
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            context.setVariable(parameters[i].getName(), args[i]);
+        }
+
+        return expression.getValue(context, Object.class);
+    }
+}
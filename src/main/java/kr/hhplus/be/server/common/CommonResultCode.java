@@ -14,9 +14,17 @@ public enum CommonResultCode {
     // product
     GET_PRODUCT_SUCCESS(200, "PR01", "상품 상세 조회 성공"),
     GET_POPULAR_PRODUCTS_SUCCESS(200, "PR02", "상위 상품 조회 성공"),
+    UPDATE_STOCK_BUCKETS_SUCCESS(200, "PR03", "재고 버킷 변경 성공"),
 
     // order
     ORDER_SUCCESS(200, "OR01", "주문 성공"),
+    ORDER_RESERVE_SUCCESS(200, "OR02", "주문 예약 성공"),
+    ORDER_CONFIRM_SUCCESS(200, "OR03", "주문 확정 성공"),
+    GET_ORDER_RESERVATION_SUCCESS(200, "OR04", "주문 예약 조회 성공"),
+    ORDER_RESERVATION_CANCEL_SUCCESS(200, "OR05", "주문 예약 취소 성공"),
+    ORDER_ACCEPTED(202, "OR06", "주문 접수 완료"),
+    GET_ORDER_TICKET_SUCCESS(200, "OR07", "주문 접수 상태 조회 성공"),
+    ORDER_RETRY_LATER(409, "OR08", "잠시 후 다시 시도해주세요"),
 
     // coupon
     ISSUE_COUPON_SUCCESS(200, "CO01", "쿠폰 발급 성공"),
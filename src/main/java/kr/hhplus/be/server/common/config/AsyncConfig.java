@@ -1,9 +1,12 @@
 package kr.hhplus.be.server.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.Executor;
 
@@ -27,4 +30,106 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 주문 확정 전용 스레드 풀
+     * 포인트/쿠폰/주문 저장을 처리하며, 대기 큐가 가득 차면 즉시 거절하여 예약 만료로 재고를 돌려받음
+     */
+    @Bean(name = "orderConfirmExecutor")
+    public Executor orderConfirmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("Order-Confirm-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 분산락 후속 실행기
+     * CompletableFuture를 반환하는 @DistributedLock 메서드를 락 획득 후 Redis 응답 스레드가 아닌 이 실행기에서 호출
+     * (비동기 획득을 지원하지 않는 백엔드는 이 실행기에서 기존 방식으로 획득)
+     * spring.threads.virtual.enabled=true(Java 21)이면 요청마다 가상 스레드를 사용
+     */
+    @Bean(name = "lockAsyncExecutor")
+    public Executor lockAsyncExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Lock-Async-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("Lock-Async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * @Scheduled 작업 공용 스케줄러
+     * 전용 ThreadPoolTaskScheduler 빈이 여러 개 있으면 Boot 자동 설정이 물러나고
+     * @Scheduled가 단일 스레드 스케줄러로 떨어지므로 taskScheduler 이름으로 직접 등록
+     * (한 작업이 오래 걸려도 다른 주기 작업이 밀리지 않게 함)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("Scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 재고 차감 결합기 전용 스케줄러
+     * 상품별 묶음을 window 뒤에 반영하며, 상품마다 동시에 하나의 묶음만 처리
+     */
+    @Bean(name = "stockCombinerScheduler")
+    public ThreadPoolTaskScheduler stockCombinerScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("Stock-Combiner-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 포인트 충전 batch 기록 전용 스케줄러
+     * 충전 요청을 window 동안 모아 한 번의 batch INSERT로 기록
+     */
+    @Bean(name = "pointLedgerScheduler")
+    public ThreadPoolTaskScheduler pointLedgerScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("Point-Ledger-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 인기상품 로컬 스냅샷 갱신 전용 스케줄러
+     * 주기 갱신과 순위 변경 알림(pub/sub)에 의한 갱신을 한 스레드에서 순서대로 처리
+     */
+    @Bean(name = "popularSnapshotScheduler")
+    public ThreadPoolTaskScheduler popularSnapshotScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("Popular-Snapshot-");
+        scheduler.initialize();
+        return scheduler;
+    }
+}
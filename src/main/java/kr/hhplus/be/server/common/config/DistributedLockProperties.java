@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "lock")
+@Data
+public class DistributedLockProperties {
+
+    /**
+     * 락 백엔드: redisson(기본값) | mysql | in-jvm
+     */
+    private String provider = "redisson";
+
+    /**
+     * 2단계 락(@DistributedLock(localQueue = true)) 설정 (redisson 백엔드)
+     */
+    private Local local = new Local();
+
+    /**
+     * 공정 락(@DistributedLock(fair = true)) 설정 (redisson 백엔드)
+     */
+    private Fair fair = new Fair();
+
+    /**
+     * in-jvm 백엔드 설정
+     */
+    private InJvm inJvm = new InJvm();
+
+    /**
+     * mysql 백엔드 설정
+     */
+    private Mysql mysql = new Mysql();
+
+    /**
+     * 락 경합 지표 설정
+     */
+    private Metrics metrics = new Metrics();
+
+    @Data
+    public static class Local {
+
+        /**
+         * 로컬 락 스트라이프 수 (2의 거듭제곱으로 올림)
+         */
+        private int stripes = 256;
+
+        /**
+         * Redis 락을 놓지 않고 같은 노드의 다음 대기자에게 연속으로 넘길 수 있는 최대 횟수
+         * (다른 노드가 굶지 않도록 이 횟수를 넘으면 Redis 락을 해제)
+         */
+        private int maxHandoffs = 16;
+
+        /**
+         * 넘겨받을 대기자가 오지 않은 Redis 락을 보관하는 최대 시간
+         */
+        private Duration parkTimeout = Duration.ofMillis(50);
+    }
+
+    @Data
+    public static class Fair {
+
+        /**
+         * 키별 최대 대기열 길이 (이 이상 대기 중이면 입장 거절)
+         */
+        private int maxQueueLength = 1000;
+    }
+
+    @Data
+    public static class InJvm {
+
+        /**
+         * 락 스트라이프 수 (2의 거듭제곱으로 올림)
+         */
+        private int stripes = 1024;
+    }
+
+    @Data
+    public static class Mysql {
+
+        /**
+         * 락 전용 커넥션 풀 크기 (노드당 동시에 락을 보유/대기할 수 있는 스레드 수)
+         */
+        private int poolSize = 16;
+    }
+
+    @Data
+    public static class Metrics {
+
+        /**
+         * 인기 락 키 추적 건수 (Space-Saving 카운터 수)
+         */
+        private int hotKeyCapacity = 200;
+
+        /**
+         * 인기 락 키 표본 비율 (N건 중 1건만 기록)
+         */
+        private int hotKeySampleRate = 8;
+    }
+}
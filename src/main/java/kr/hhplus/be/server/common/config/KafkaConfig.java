@@ -4,10 +4,13 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
@@ -42,6 +45,33 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * 아웃박스 릴레이 전용 프로듀서
+     * 이미 JSON으로 저장된 payload를 그대로 보내므로 StringSerializer 사용,
+     * 한 번에 많은 이벤트를 보내므로 linger/batch/압축을 크게 잡음
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory(OrderProperties orderProperties) {
+        OrderProperties.Outbox outbox = orderProperties.getOutbox();
+
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, outbox.getLingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, outbox.getBatchBytes());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, outbox.getCompressionType());
+
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate(ProducerFactory<String, String> outboxProducerFactory) {
+        return new KafkaTemplate<>(outboxProducerFactory);
+    }
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -72,4 +102,35 @@ public class KafkaConfig {
 
         return factory;
     }
-}
\ No newline at end of file
+
+    /**
+     * 묶음 처리 컨슈머용 (poll 한 번에 받은 레코드를 List로 전달)
+     * 상품 일 판매량 집계처럼 여러 이벤트를 한 트랜잭션으로 반영하는 컨슈머에서 사용
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            ProductSalesRollupProperties rollupProperties) {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, rollupProperties.getBatchSize());
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setConcurrency(3);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        return factory;
+    }
+
+    /**
+     * 비동기 주문 접수 토픽
+     * 상품 ID를 키로 발행하여 같은 상품 주문은 한 파티션에서 순서대로 처리됨
+     */
+    @Bean
+    public NewTopic orderRequestedTopic(OrderProperties orderProperties) {
+        return TopicBuilder.name(OrderEventProducer.ORDER_REQUESTED_TOPIC)
+                .partitions(orderProperties.getIntake().getPartitions())
+                .replicas(1)
+                .build();
+    }
+}
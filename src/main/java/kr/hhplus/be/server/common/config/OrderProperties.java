@@ -0,0 +1,131 @@
+package kr.hhplus.be.server.common.config;
+
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "order")
+@Data
+public class OrderProperties {
+
+    /**
+     * 주문 재고 차감 방식 (기본: 상품별 멀티락)
+     */
+    private StockDeductionMode stockMode = StockDeductionMode.DISTRIBUTED_LOCK;
+
+    /**
+     * 2단계 주문(예약 → 확정) 설정
+     */
+    private Reservation reservation = new Reservation();
+
+    /**
+     * 주문 중복 요청 방지(Idempotency-Key) 설정
+     */
+    private Idempotency idempotency = new Idempotency();
+
+    /**
+     * 비동기 주문 접수(order.requested) 설정
+     */
+    private Intake intake = new Intake();
+
+    /**
+     * 주문 이벤트 아웃박스 릴레이 설정
+     */
+    private Outbox outbox = new Outbox();
+
+    @Data
+    public static class Reservation {
+
+        /**
+         * 예약 유효 시간 (이 시간 안에 확정하지 않으면 만료되어 재고 복구)
+         */
+        private Duration ttl = Duration.ofMinutes(5);
+
+        /**
+         * 만료 처리 1회당 최대 건수
+         */
+        private int expireBatchSize = 100;
+    }
+
+    @Data
+    public static class Idempotency {
+
+        /**
+         * 완료된 주문 응답 보관 시간 (Redis)
+         */
+        private Duration ttl = Duration.ofHours(24);
+
+        /**
+         * 처리 중 표시 유지 시간 (처리 중에는 1/3 주기로 연장, 처리 노드가 죽으면 이 시간이 지나 같은 키로 재시도 가능)
+         */
+        private Duration inFlightTtl = Duration.ofSeconds(30);
+
+        /**
+         * 로컬 캐시 최대 건수
+         */
+        private long localMaximumSize = 10_000;
+
+        /**
+         * 로컬 캐시 보관 시간
+         */
+        private Duration localTtl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class Intake {
+
+        /**
+         * order.requested 토픽 파티션 수 (상품 ID 키로 분산)
+         */
+        private int partitions = 12;
+
+        /**
+         * 접수 티켓 보관 시간
+         */
+        private Duration ticketTtl = Duration.ofHours(1);
+
+        /**
+         * 접수 이벤트 발행 확인 대기 시간
+         */
+        private Duration publishTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class Outbox {
+
+        /**
+         * 릴레이 1회에 발행할 최대 이벤트 수
+         */
+        private int batchSize = 500;
+
+        /**
+         * 배치 전체의 브로커 확인 대기 시간 (초과분은 다음 주기에 재발행)
+         */
+        private Duration sendTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 릴레이가 선점한 이벤트를 다른 노드가 다시 가져가기까지의 시간 (sendTimeout보다 길어야 함)
+         * 선점한 노드가 발행 결과를 기록하지 못하고 죽으면 이 시간 뒤에 재발행됨
+         */
+        private Duration claimTimeout = Duration.ofSeconds(30);
+
+        /**
+         * 릴레이 전용 프로듀서 linger.ms (배치를 채울 때까지 대기)
+         */
+        private int lingerMs = 20;
+
+        /**
+         * 릴레이 전용 프로듀서 batch.size (파티션별 배치 최대 바이트)
+         */
+        private int batchBytes = 256 * 1024;
+
+        /**
+         * 릴레이 전용 프로듀서 압축 방식
+         */
+        private String compressionType = "lz4";
+    }
+}
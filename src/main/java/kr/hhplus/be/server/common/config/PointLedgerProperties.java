@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "point.ledger")
+@Data
+public class PointLedgerProperties {
+
+    /**
+     * 충전 요청을 모아 한 번의 batch INSERT로 기록하는 구간
+     */
+    private Duration chargeWindow = Duration.ofMillis(2);
+
+    /**
+     * 충전 batch INSERT 1회당 최대 건수
+     */
+    private int chargeBatchSize = 500;
+
+    /**
+     * 충전 요청별 기록 완료 대기 한도
+     */
+    private Duration chargeTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 스냅샷 압축 주기
+     */
+    private long compactionIntervalMs = 1000;
+
+    /**
+     * 압축 대상 최소 경과 시간
+     * 이보다 최근 거래는 아직 커밋되지 않은 더 작은 ID의 거래가 있을 수 있어 압축하지 않음
+     * 구간 안의 빠진 거래 ID도 이 시간 동안 계속 비어 있어야 롤백된 것으로 보고 건너뜀
+     * (충전 묶음 트랜잭션 최대 수행 시간보다 길게 설정)
+     */
+    private Duration compactionLag = Duration.ofSeconds(10);
+
+    /**
+     * 압축 1회당 처리할 거래 ID 구간 크기
+     */
+    private int compactionBatchSize = 5000;
+
+    /**
+     * 잔액 캐시 유지 시간 (다른 노드에서 발생한 변경이 반영되기까지의 최대 지연)
+     */
+    private Duration balanceCacheTtl = Duration.ofSeconds(1);
+
+    /**
+     * 잔액 캐시 최대 사용자 수
+     */
+    private long balanceCacheSize = 100_000;
+}
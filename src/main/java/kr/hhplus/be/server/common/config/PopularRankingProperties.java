@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "product.popular-ranking")
+@Data
+public class PopularRankingProperties {
+
+    /**
+     * Redis 랭킹으로 제공할 조회 기간(일) 목록, 기간별 합산 결과를 고정 키에 미리 만들어 둠
+     */
+    private List<Integer> windows = List.of(3, 7);
+
+    /**
+     * 기간별 합산 키 재생성 주기 (랭킹 반영 지연 = 이 주기)
+     */
+    private long rebuildIntervalMs = 5_000;
+
+    /**
+     * 합산 키 보관 시간 (재생성이 멈추면 만료되어 조회 시 다시 만듦)
+     */
+    private Duration unionTtl = Duration.ofMinutes(1);
+
+    /**
+     * 한 번에 조회할 수 있는 최대 순위 수
+     */
+    private int maxPageSize = 100;
+
+    /**
+     * 노드 로컬 랭킹 스냅샷 설정
+     */
+    private LocalSnapshot localSnapshot = new LocalSnapshot();
+
+    // 일별 키 보관 기간: 가장 긴 조회 기간 + 1일 여유
+    public Duration dailyKeyTtl() {
+        int longest = windows.stream().mapToInt(Integer::intValue).max().orElse(3);
+        return Duration.ofDays(longest + 1L);
+    }
+
+    @Data
+    public static class LocalSnapshot {
+
+        /**
+         * 사용 여부 (false면 매 요청 Redis 랭킹 조회)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 순위 변경 알림이 없어도 다시 만드는 주기 (DB 집계 폴백 결과 갱신용)
+         */
+        private Duration refreshInterval = Duration.ofSeconds(30);
+
+        /**
+         * 기본 조회(첫 페이지) 크기, 이 크기의 목록은 미리 잘라 두어 조회 시 할당이 없음
+         */
+        private int headSize = 5;
+    }
+}
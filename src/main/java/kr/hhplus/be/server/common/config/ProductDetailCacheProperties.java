@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product.detail-cache")
+@Data
+public class ProductDetailCacheProperties {
+
+    /**
+     * 상품 상세 캐시(Redis) 보관 시간 (인기상품 응답의 재고는 이 시간만큼 늦게 반영될 수 있음)
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
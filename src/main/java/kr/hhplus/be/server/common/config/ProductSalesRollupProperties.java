@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "product.sales-rollup")
+@Data
+public class ProductSalesRollupProperties {
+
+    /**
+     * 집계 컨슈머가 한 번에 가져와 한 트랜잭션으로 반영할 최대 이벤트 수 (max.poll.records)
+     */
+    private int batchSize = 500;
+
+    /**
+     * 반영한 이벤트 ID 보관 기간 (아웃박스 재발행/컨슈머 재처리 가능 기간보다 길어야 함)
+     */
+    private Duration appliedEventRetention = Duration.ofDays(7);
+
+    /**
+     * 반영 이벤트 ID 정리 주기
+     */
+    private long cleanupIntervalMs = 3_600_000;
+
+    /**
+     * 기동 시 백필할 과거 일수 (어제부터 거슬러 올라감, 0이면 실행하지 않음)
+     */
+    private int backfillDays = 0;
+}
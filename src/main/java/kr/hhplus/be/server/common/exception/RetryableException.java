@@ -0,0 +1,17 @@
+package kr.hhplus.be.server.common.exception;
+
+/**
+ * 같은 요청을 다시 시도하면 성공할 수 있는 일시적 실패
+ * (대기 시간 초과, 락 점유 만료, 동일 요청 처리 중 등)
+ * - 재고/잔액 부족 같은 업무 실패와 구분하여, 비동기 처리에서는 실패로 확정하지 않고 재처리함
+ * - 동기 API 호출자에게는 기존과 같이 IllegalStateException으로 보이도록 상속
+ */
+public class RetryableException extends IllegalStateException {
+    public RetryableException(String message) {
+        super(message);
+    }
+
+    public RetryableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -26,6 +26,42 @@ public @interface DistributedLock {
      */
     String keyPrefix() default "MULTI_LOCK:";
 
+    /**
+     * 2단계 락 사용 여부 (단일락에만 적용)
+     * 같은 노드의 스레드는 로컬 락에서 먼저 줄을 서고 선두만 Redis 락을 요청함
+     * 한 키에 요청이 몰리는 경우(인기 상품 재고, 선착순 쿠폰)에 사용
+     */
+    boolean localQueue() default false;
+
+    /**
+     * 공정(FIFO) 대기 여부 (단일락에만 적용, redisson 백엔드)
+     * true이면 Redis 대기열 순서대로 획득하여 먼저 온 요청이 먼저 처리됨 (localQueue보다 우선)
+     * 대기열이 lock.fair.max-queue-length 이상이거나 예상 대기 시간(앞선 대기자 수 × 평균 보유 시간)이
+     * waitTime을 넘으면 기다리지 않고 바로 실패 (fairAdmission = false이면 입장 제한 없이 waitTime까지 대기)
+     */
+    boolean fair() default false;
+
+    /**
+     * 공정 락 입장 제한 여부 (fair = true일 때만 적용)
+     * false이면 대기열 길이/예상 대기 시간으로 미리 거절하지 않음
+     * 락 안에서 판정한 결과(예: 쿠폰 소진)를 모든 요청이 받아야 하는 경우에 사용
+     */
+    boolean fairAdmission() default true;
+
+    /**
+     * 점유 시간 자동 연장 여부
+     * true이면 leaseTime을 사용하지 않고 메서드가 끝날 때까지 watchdog이 주기적으로 연장함
+     * (보유 노드가 죽으면 watchdog 주기 안에 만료되므로 긴 leaseTime을 잡아 둘 필요가 없음)
+     */
+    boolean watchdog() default false;
+
+    /**
+     * 펜싱 토큰 발급 여부
+     * true이면 획득할 때마다 증가하는 토큰을 FencingTokens.current(키)로 조회할 수 있음
+     * (토큰은 락 백엔드와 무관하게 FencingTokenSequence가 발급하므로 lock.provider를 바꿔도 계속 증가)
+     */
+    boolean fencing() default false;
+
     /**
      * 락 대기시간 (초)
      */
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.common.lock;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RList;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공정(FIFO) 분산락 (Redisson RFairLock + 입장 제한)
+ * - 대기자는 Redis 대기열(redisson_lock_queue:{락 키}) 순서대로 획득하므로
+ *   늦게 온 요청이 먼저 온 요청을 앞질러 waitTime을 소진시키지 않음
+ * - 대기열에 들어가기 전에 깊이를 확인하여, maxQueueLength 이상이거나
+ *   예상 대기 시간(앞선 대기자 수 × 키별 평균 보유 시간)이 waitTime을 넘으면 기다리지 않고 바로 거절
+ *   (확인과 입장이 원자적이지 않으므로 대기열 상한은 근사값)
+ * - 평균 보유 시간은 이 노드에서 해제한 기록의 지수 이동 평균 (기록이 없으면 거절하지 않음)
+ */
+@Component
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "redisson", matchIfMissing = true)
+@Slf4j
+public class FairQueuedLock {
+
+    // 보유 시간을 추적하는 최대 키 수
+    private static final int MAX_TRACKED_KEYS = 10_000;
+
+    private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
+    private final int maxQueueLength;
+    // 키별 보유 시간 지수 이동 평균 (ns)
+    private final Cache<String, AtomicLong> holdEstimates = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_KEYS)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public FairQueuedLock(RedissonClient redissonClient, LockMetrics lockMetrics,
+                          DistributedLockProperties properties) {
+        this.redissonClient = redissonClient;
+        this.lockMetrics = lockMetrics;
+        this.maxQueueLength = properties.getFair().getMaxQueueLength();
+    }
+
+    /**
+     * 대기열 입장 확인 후 공정 락 획득 (소유자는 현재 스레드)
+     * @param lockName  지표용 락 이름 (클래스.메서드)
+     * @param leaseTime 0보다 작으면 Redisson watchdog이 해제할 때까지 자동 연장
+     * @param admission false이면 입장 확인 없이 waitTime까지 대기
+     * @return 획득한 락, 입장이 거절되었거나 대기 시간 안에 획득하지 못하면 null
+     */
+    public Held tryLock(String lockName, String lockKey, long waitTime, long leaseTime, TimeUnit timeUnit,
+                        boolean admission) throws InterruptedException {
+        if (admission) {
+            int depth = queueOf(lockKey).size();
+            if (!admit(lockName, lockKey, depth, timeUnit.toNanos(waitTime))) {
+                return null;
+            }
+        }
+
+        RLock lock = redissonClient.getFairLock(lockKey);
+        if (!lock.tryLock(waitTime, leaseTime, timeUnit)) {
+            return null;
+        }
+        return new Held(lockKey, lock, Thread.currentThread().getId(), System.nanoTime());
+    }
+
+    public void unlock(Held held) {
+        long holdNanos = System.nanoTime() - held.acquiredAt;
+        holdEstimates.get(held.lockKey, key -> new AtomicLong())
+                .accumulateAndGet(holdNanos,
+                        (estimate, sample) -> estimate == 0 ? sample : estimate + (sample - estimate) / 8);
+
+        try {
+            held.lock.unlockAsync(held.ownerId).toCompletableFuture().join();
+        } catch (Exception e) {
+            log.warn("공정 락 해제 실패 - 이미 만료되었거나 다른 소유자가 보유: {}", held.lockKey);
+        }
+    }
+
+    private boolean admit(String lockName, String lockKey, int depth, long waitNanos) {
+        lockMetrics.queued(lockName, depth);
+
+        if (depth >= maxQueueLength) {
+            lockMetrics.rejected(lockName, "full");
+            log.debug("공정 락 대기열 초과로 거절: {} (대기 {}명)", lockKey, depth);
+            return false;
+        }
+
+        AtomicLong estimate = holdEstimates.getIfPresent(lockKey);
+        if (estimate != null && depth * estimate.get() > waitNanos) {
+            lockMetrics.rejected(lockName, "wait");
+            log.debug("공정 락 예상 대기 시간 초과로 거절: {} (대기 {}명, 평균 보유 {}ms)",
+                    lockKey, depth, Duration.ofNanos(estimate.get()).toMillis());
+            return false;
+        }
+        return true;
+    }
+
+    // RedissonFairLock 대기열 키 (락 이름을 해시 태그로 감싼 형식)
+    private RList<String> queueOf(String lockKey) {
+        return redissonClient.getList("redisson_lock_queue:{" + lockKey + "}", StringCodec.INSTANCE);
+    }
+
+    public static final class Held {
+        private final String lockKey;
+        private final RLock lock;
+        private final long ownerId;
+        private final long acquiredAt;
+
+        private Held(String lockKey, RLock lock, long ownerId, long acquiredAt) {
+            this.lockKey = lockKey;
+            this.lock = lock;
+            this.ownerId = ownerId;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 펜싱 토큰 발급기 (모든 락 백엔드가 공유하는 영속 시퀀스)
+ * - lock_fence 테이블(LockFence)의 키별 카운터를 1씩 올려 발급하므로
+ *   재기동, lock.provider 변경, Redis 키 유실과 관계없이 같은 키의 토큰은 계속 증가함
+ * - 호출자 트랜잭션과 분리된 자동 커밋으로 발급 (카운터 행 락을 호출자 커밋까지 잡고 있지 않음)
+ * - 락 획득마다 DB 왕복이 1회 늘어나므로 fencing = true인 락에서만 사용
+ */
+@Component
+public class FencingTokenSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate autoCommit;
+
+    public FencingTokenSequence(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.autoCommit = new TransactionTemplate(transactionManager);
+        this.autoCommit.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+    }
+
+    /**
+     * 키별 다음 토큰 발급
+     * @param lockKeys @DistributedLock 키 (예: "STOCK:1")
+     * @return 키 → 토큰 (입력 순서 유지)
+     */
+    public Map<String, Long> next(Collection<String> lockKeys) {
+        return autoCommit.execute(status -> jdbcTemplate.execute((ConnectionCallback<Map<String, Long>>) connection -> {
+            Map<String, Long> tokens = new LinkedHashMap<>();
+            // LAST_INSERT_ID(expr)는 같은 커넥션에서만 조회되므로 발급과 조회를 한 커넥션에서 수행
+            try (PreparedStatement increment = connection.prepareStatement(
+                    "INSERT INTO lock_fence (lock_key, token) VALUES (?, LAST_INSERT_ID(1)) " +
+                            "ON DUPLICATE KEY UPDATE token = LAST_INSERT_ID(token + 1)");
+                 Statement select = connection.createStatement()) {
+                for (String lockKey : lockKeys) {
+                    increment.setString(1, lockKey);
+                    increment.executeUpdate();
+                    try (ResultSet resultSet = select.executeQuery("SELECT LAST_INSERT_ID()")) {
+                        resultSet.next();
+                        tokens.put(lockKey, resultSet.getLong(1));
+                    }
+                }
+            }
+            return tokens;
+        }));
+    }
+
+    /**
+     * 저장된 토큰을 floor 이상으로 올림 (이미 더 크면 유지)
+     * 다른 경로로 발급되어 데이터에 남아 있는 토큰(예: product.stock_version)보다 다음 토큰이 커지도록 맞출 때 사용
+     * @param floors 키 → 최소 토큰
+     */
+    public void advanceTo(Map<String, Long> floors) {
+        if (floors.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(floors.size());
+        floors.forEach((lockKey, floor) -> batchArgs.add(new Object[]{lockKey, floor}));
+
+        autoCommit.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "INSERT INTO lock_fence (lock_key, token) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE token = GREATEST(token, VALUES(token))",
+                batchArgs));
+    }
+}
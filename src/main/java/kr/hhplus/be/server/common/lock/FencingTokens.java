@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.common.lock;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 분산락 펜싱 토큰 (@DistributedLock(fencing = true))
+ * - 락을 획득할 때마다 FencingTokenSequence가 키별로 1씩 증가하는 토큰을 발급하여, 락 메서드 실행 중에만 현재 스레드에서 조회 가능
+ * - 쓰기 쪽은 "저장된 토큰 <= 내 토큰"인 경우에만 반영하여,
+ *   점유 시간이 만료된 뒤에도 실행 중인 이전 보유자의 쓰기를 거부함 (예: product.stock_version)
+ */
+public final class FencingTokens {
+
+    private static final ThreadLocal<Map<String, Long>> TOKENS = ThreadLocal.withInitial(HashMap::new);
+
+    private FencingTokens() {
+    }
+
+    /**
+     * 현재 보유 중인 락의 펜싱 토큰
+     * @param key @DistributedLock 키 (예: "STOCK:1")
+     * @throws IllegalStateException 펜싱 토큰을 발급받은 락 안에서 호출하지 않은 경우
+     */
+    public static long current(String key) {
+        Long token = TOKENS.get().get(key);
+        if (token == null) {
+            throw new IllegalStateException("펜싱 토큰이 없습니다. 락 밖에서 호출되었습니다: " + key);
+        }
+        return token;
+    }
+
+    /**
+     * 토큰 등록 (DistributedLockAspect 전용), 반환값은 unbind에 넘길 이전 상태 (중첩 락 대비)
+     */
+    public static Map<String, Long> bind(Map<String, Long> tokens) {
+        Map<String, Long> current = TOKENS.get();
+        Map<String, Long> previous = new HashMap<>();
+        tokens.forEach((key, token) -> previous.put(key, current.put(key, token)));
+        return previous;
+    }
+
+    public static void unbind(Map<String, Long> previous) {
+        Map<String, Long> current = TOKENS.get();
+        previous.forEach((key, token) -> {
+            if (token == null) {
+                current.remove(key);
+            } else {
+                current.put(key, token);
+            }
+        });
+        if (current.isEmpty()) {
+            TOKENS.remove();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package kr.hhplus.be.server.common.lock;
+
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import kr.hhplus.be.server.common.lock.exception.DistributedLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 2단계 분산락 (로컬 스트라이프 락 → Redisson 락)
+ * - 같은 노드의 스레드는 키 해시로 고른 공정(fair) ReentrantLock에서 먼저 줄을 서고,
+ *   로컬 락을 잡은 스레드만 Redis 락을 요청하므로 노드당 한 스레드만 Redis를 폴링/구독함
+ * - 해제 시 같은 스트라이프에 대기자가 있으면 Redis 락을 놓지 않고 보관(park)하여
+ *   다음 대기자가 키가 같으면 점유 시간만 연장해 바로 사용 (maxHandoffs회까지)
+ * - Redis 락 소유자는 스레드가 아닌 노드 내 고유 ID이므로 스레드 간에 넘겨줄 수 있음
+ *   (같은 키를 스레드 기준 락으로 잡는 경로와는 서로 배제되며, 재진입은 되지 않음)
+ */
+@Component
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "redisson", matchIfMissing = true)
+@Slf4j
+public class LocalQueuedLock {
+
+    /**
+     * KEYS[1]: 락 키, ARGV[1]: 점유 시간(ms), ARGV[2]: 락 소유자 이름
+     * 반환: 1 연장 성공, 0 이미 만료되어 소유하지 않음
+     */
+    private static final String EXTEND_SCRIPT = """
+            if redis.call('hexists', KEYS[1], ARGV[2]) == 1 then
+                redis.call('pexpire', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final Stripe[] stripes;
+    private final int maxHandoffs;
+    private final long parkTimeoutNanos;
+    private final AtomicLong ownerSequence = new AtomicLong();
+
+    public LocalQueuedLock(RedissonClient redissonClient, DistributedLockProperties properties) {
+        this.redissonClient = redissonClient;
+        DistributedLockProperties.Local local = properties.getLocal();
+
+        int size = Integer.highestOneBit(Math.max(1, local.getStripes() - 1)) << 1;
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxHandoffs = local.getMaxHandoffs();
+        this.parkTimeoutNanos = local.getParkTimeout().toNanos();
+    }
+
+    /**
+     * 로컬 락 → Redis 락 순으로 획득 (대기 시간은 두 단계 합산)
+     * @param leaseTime 0보다 작으면 Redisson watchdog이 해제할 때까지 자동 연장
+     * @return 획득한 락, 대기 시간 안에 획득하지 못하면 null
+     */
+    public Held tryLock(String lockKey, long waitTime, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        long leaseMillis = leaseTime < 0 ? -1 : timeUnit.toMillis(leaseTime);
+        Stripe stripe = stripeOf(lockKey);
+
+        if (!stripe.lock.tryLock(waitTime, timeUnit)) {
+            return null;
+        }
+
+        boolean acquired = false;
+        try {
+            Parked parked = stripe.parked;
+            stripe.parked = null;
+
+            if (parked != null) {
+                if (parked.lockKey().equals(lockKey) && extend(lockKey, parked.ownerId(), leaseMillis)) {
+                    acquired = true;
+                    log.debug("분산락 로컬 인계: {} (연속 인계 {}회)", lockKey, parked.handoffs() + 1);
+                    return new Held(stripe, lockKey, parked.ownerId(), parked.handoffs() + 1);
+                }
+                // 다른 키의 락이거나 이미 만료된 경우 보관 중인 락 해제
+                unlock(parked.lockKey(), parked.ownerId());
+            }
+
+            long ownerId = -ownerSequence.incrementAndGet();
+            long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+            acquired = redissonClient.getLock(lockKey)
+                    .tryLockAsync(remainingMillis, leaseMillis, TimeUnit.MILLISECONDS, ownerId)
+                    .get();
+
+            return acquired ? new Held(stripe, lockKey, ownerId, 0) : null;
+
+        } catch (ExecutionException e) {
+            throw new DistributedLockException("락 획득 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            if (!acquired) {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 락 해제 (같은 스트라이프에 대기자가 있으면 Redis 락은 보관하여 인계)
+     */
+    public void unlock(Held held) {
+        Stripe stripe = held.stripe;
+        try {
+            if (held.handoffs < maxHandoffs && stripe.lock.hasQueuedThreads()) {
+                stripe.parked = new Parked(held.lockKey, held.ownerId, held.handoffs, System.nanoTime());
+            } else {
+                unlock(held.lockKey, held.ownerId);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 대기자가 시간 초과로 떠나 인계되지 못한 Redis 락 정리
+     */
+    @Scheduled(fixedDelayString = "${lock.local.sweep-interval-ms:50}")
+    public void releaseIdleParked() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            Parked parked = stripe.parked;
+            if (parked == null || now - parked.parkedAt() < parkTimeoutNanos || !stripe.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (stripe.parked == parked) {
+                    stripe.parked = null;
+                    unlock(parked.lockKey(), parked.ownerId());
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private boolean extend(String lockKey, long ownerId, long leaseMillis) {
+        if (leaseMillis < 0) {
+            leaseMillis = redissonClient.getConfig().getLockWatchdogTimeout();
+        }
+        Long extended = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, EXTEND_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(lockKey), String.valueOf(leaseMillis), redissonClient.getId() + ":" + ownerId);
+        return extended != null && extended == 1;
+    }
+
+    private void unlock(String lockKey, long ownerId) {
+        redissonClient.getLock(lockKey).unlockAsync(ownerId)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("분산락 해제 실패 - 이미 만료됨: {}", lockKey);
+                    }
+                });
+    }
+
+    private Stripe stripeOf(String lockKey) {
+        int hash = lockKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        // lock을 잡은 스레드만 변경 (정리 작업의 사전 확인용으로 volatile)
+        private volatile Parked parked;
+    }
+
+    private record Parked(String lockKey, long ownerId, int handoffs, long parkedAt) {
+    }
+
+    public static final class Held {
+        private final Stripe stripe;
+        private final String lockKey;
+        private final long ownerId;
+        private final int handoffs;
+
+        private Held(Stripe stripe, String lockKey, long ownerId, int handoffs) {
+            this.stripe = stripe;
+            this.lockKey = lockKey;
+            this.ownerId = ownerId;
+            this.handoffs = handoffs;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.common.lock;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 락 키별 마지막 펜싱 토큰 (FencingTokenSequence가 JDBC로 발급/갱신)
+ */
+@Entity
+@Table(name = "lock_fence")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LockFence {
+
+    @Id
+    @Column(name = "lock_key", length = 191)
+    private String lockKey;
+
+    @Column(name = "token", nullable = false)
+    private long token;
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인기 락 키 조회 (GET /actuator/lockhotkeys?limit=20)
+ */
+@Component
+@Endpoint(id = "lockhotkeys")
+@RequiredArgsConstructor
+public class LockHotKeyEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockHotKeyTracker lockHotKeyTracker;
+
+    @ReadOperation
+    public List<LockHotKeyTracker.HotKey> hotKeys(@Nullable Integer limit) {
+        return lockHotKeyTracker.top(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
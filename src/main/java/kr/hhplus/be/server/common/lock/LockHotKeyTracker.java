@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.common.lock;
+
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인기 락 키 추적 (표본 추출 + Space-Saving top-K)
+ * - 락 획득 N건 중 1건만 기록하여 요청 경로 비용을 줄이고, 추정 횟수는 표본 비율을 곱해 계산
+ * - 고정된 개수의 카운터만 유지하므로 키가 아무리 많아도 메모리가 늘지 않음
+ * - 주기적으로 횟수를 절반으로 줄여 최근 경합이 위로 오도록 함
+ */
+@Component
+public class LockHotKeyTracker {
+
+    private final int capacity;
+    private final int sampleRate;
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public LockHotKeyTracker(DistributedLockProperties properties) {
+        this.capacity = properties.getMetrics().getHotKeyCapacity();
+        this.sampleRate = Math.max(1, properties.getMetrics().getHotKeySampleRate());
+    }
+
+    public void record(List<String> lockKeys, long waitNanos, boolean failed) {
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        synchronized (entries) {
+            for (String lockKey : lockKeys) {
+                entryOf(lockKey).add(waitNanos, failed);
+            }
+        }
+    }
+
+    public List<HotKey> top(int limit) {
+        List<HotKey> result = new ArrayList<>();
+        synchronized (entries) {
+            entries.forEach((key, entry) -> result.add(new HotKey(
+                    key,
+                    entry.count * sampleRate,
+                    entry.error * sampleRate,
+                    entry.failures * sampleRate,
+                    entry.count == 0 ? 0 : entry.waitNanos / entry.count / 1_000_000.0
+            )));
+        }
+        result.sort(Comparator.comparingLong(HotKey::estimatedCount).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    @Scheduled(fixedDelayString = "${lock.metrics.hot-key-decay-interval-ms:60000}")
+    public void decay() {
+        synchronized (entries) {
+            entries.values().removeIf(Entry::halve);
+        }
+    }
+
+    // entries 락 안에서 호출
+    private Entry entryOf(String lockKey) {
+        Entry entry = entries.get(lockKey);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() < capacity) {
+            entry = new Entry(0);
+        } else {
+            // 가장 적게 나온 키를 내보내고 그 횟수를 오차로 물려받음
+            Map.Entry<String, Entry> min = entries.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().count))
+                    .orElseThrow();
+            entries.remove(min.getKey());
+            entry = new Entry(min.getValue().count);
+        }
+        entries.put(lockKey, entry);
+        return entry;
+    }
+
+    public record HotKey(String lockKey, long estimatedCount, long maxOverestimate,
+                         long estimatedFailures, double avgWaitMillis) {
+    }
+
+    private static final class Entry {
+        private long count;
+        private long error;
+        private long failures;
+        private long waitNanos;
+
+        private Entry(long inherited) {
+            this.count = inherited;
+            this.error = inherited;
+        }
+
+        private void add(long waitNanos, boolean failed) {
+            this.count++;
+            this.waitNanos += waitNanos;
+            if (failed) {
+                this.failures++;
+            }
+        }
+
+        // 반환값: 더 이상 의미 없는 항목이면 true
+        private boolean halve() {
+            count /= 2;
+            error /= 2;
+            failures /= 2;
+            waitNanos /= 2;
+            return count == 0;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산락 경합 지표
+ * 태그(lock)는 키 값이 아닌 락 이름(클래스.메서드)을 사용하여 지표 수가 키 개수만큼 늘어나지 않게 함
+ * - lock.wait{result=acquired|failed}: 획득 대기 시간
+ * - lock.hold: 획득부터 해제까지 보유 시간
+ * - lock.acquire.failures: 대기 시간 안에 획득하지 못한 횟수
+ * - lock.lease.overruns: 보유 시간이 점유 시간(leaseTime)을 넘긴 횟수 (락이 먼저 만료되어 상호 배제가 깨졌을 수 있음)
+ * - lock.queue.depth: 공정 락(fair) 입장 시점의 대기열 깊이
+ * - lock.queue.rejections{reason=full|wait}: 대기열 초과/예상 대기 시간 초과로 바로 거절한 횟수
+ * 키별 경합은 LockHotKeyTracker(/actuator/lockhotkeys)로 확인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LockMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final LockHotKeyTracker lockHotKeyTracker;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public void acquired(String lockName, List<String> lockKeys, long waitNanos) {
+        metersOf(lockName).waitAcquired().record(waitNanos, TimeUnit.NANOSECONDS);
+        lockHotKeyTracker.record(lockKeys, waitNanos, false);
+    }
+
+    public void failed(String lockName, List<String> lockKeys, long waitNanos) {
+        Meters m = metersOf(lockName);
+        m.waitFailed().record(waitNanos, TimeUnit.NANOSECONDS);
+        m.failures().increment();
+        lockHotKeyTracker.record(lockKeys, waitNanos, true);
+    }
+
+    public void released(String lockName, List<String> lockKeys, long holdNanos, long leaseNanos) {
+        Meters m = metersOf(lockName);
+        m.hold().record(holdNanos, TimeUnit.NANOSECONDS);
+        if (holdNanos > leaseNanos) {
+            m.leaseOverruns().increment();
+            log.warn("분산락 점유 시간 초과: lock={}, keys={}, 보유={}ms, 점유시간={}ms",
+                    lockName, lockKeys, Duration.ofNanos(holdNanos).toMillis(), Duration.ofNanos(leaseNanos).toMillis());
+        }
+    }
+
+    public void queued(String lockName, int depth) {
+        metersOf(lockName).queueDepth().record(depth);
+    }
+
+    public void rejected(String lockName, String reason) {
+        Meters m = metersOf(lockName);
+        ("full".equals(reason) ? m.rejectedFull() : m.rejectedWait()).increment();
+    }
+
+    private Meters metersOf(String lockName) {
+        return meters.computeIfAbsent(lockName, name -> new Meters(
+                Timer.builder("lock.wait").tag("lock", name).tag("result", "acquired")
+                        .description("분산락 획득 대기 시간").register(meterRegistry),
+                Timer.builder("lock.wait").tag("lock", name).tag("result", "failed")
+                        .description("분산락 획득 대기 시간").register(meterRegistry),
+                Timer.builder("lock.hold").tag("lock", name)
+                        .description("분산락 보유 시간").register(meterRegistry),
+                Counter.builder("lock.acquire.failures").tag("lock", name)
+                        .description("분산락 획득 실패 횟수").register(meterRegistry),
+                Counter.builder("lock.lease.overruns").tag("lock", name)
+                        .description("분산락 점유 시간 초과 횟수").register(meterRegistry),
+                DistributionSummary.builder("lock.queue.depth").tag("lock", name)
+                        .description("공정 락 입장 시점의 대기열 깊이").register(meterRegistry),
+                Counter.builder("lock.queue.rejections").tag("lock", name).tag("reason", "full")
+                        .description("공정 락 입장 거절 횟수").register(meterRegistry),
+                Counter.builder("lock.queue.rejections").tag("lock", name).tag("reason", "wait")
+                        .description("공정 락 입장 거절 횟수").register(meterRegistry)
+        ));
+    }
+
+    private record Meters(Timer waitAcquired, Timer waitFailed, Timer hold, Counter failures, Counter leaseOverruns,
+                          DistributionSummary queueDepth, Counter rejectedFull, Counter rejectedWait) {
+    }
+}
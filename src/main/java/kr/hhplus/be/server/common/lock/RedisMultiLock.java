@@ -0,0 +1,277 @@
+package kr.hhplus.be.server.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 키를 Lua 스크립트 한 번으로 전부 획득하거나 하나도 획득하지 않는 멀티락
+ * - 각 키는 Redisson RLock과 같은 해시 구조({clientId}:{threadId} → 재진입 횟수)로 기록되므로
+ *   같은 키를 단일 RLock(@DistributedLock 단일 키)으로 잡는 쪽과 서로 배제됨
+ * - 해제는 RLock.unlockAsync로 동시에 요청하여 대기 중인 RLock에 해제 알림이 전달되도록 함
+ * - 비동기 획득(tryLockAllAsync)은 스레드 대신 호출자가 준 소유자 ID로 잡고, 재시도 사이에 스레드를 점유하지 않음
+ * - 점유 시간을 지정하지 않으면(leaseTime < 0) Redisson watchdog과 같은 주기로 보유 중인 키를 연장
+ * - 단일 Redis 노드 기준 (클러스터에서는 키가 같은 슬롯에 있어야 함)
+ */
+@Component
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "redisson", matchIfMissing = true)
+@Slf4j
+public class RedisMultiLock {
+
+    /**
+     * KEYS: 락 키, ARGV[1]: 점유 시간(ms), ARGV[2]: 락 소유자 이름
+     * 반환: {0} 획득 성공, {양수} 실패(막고 있는 락의 남은 시간 ms)
+     */
+    private static final String ACQUIRE_SCRIPT = """
+            for i = 1, #KEYS do
+                if redis.call('exists', KEYS[i]) == 1 and redis.call('hexists', KEYS[i], ARGV[2]) == 0 then
+                    local ttl = redis.call('pttl', KEYS[i])
+                    if ttl < 1 then
+                        ttl = 1
+                    end
+                    return {ttl}
+                end
+            end
+            for i = 1, #KEYS do
+                redis.call('hincrby', KEYS[i], ARGV[2], 1)
+                redis.call('pexpire', KEYS[i], ARGV[1])
+            end
+            return {0}
+            """;
+
+    /**
+     * KEYS: 락 키, ARGV[1]: 점유 시간(ms), ARGV[2]: 락 소유자 이름
+     * 반환: 연장한 키 수
+     */
+    private static final String RENEW_SCRIPT = """
+            local renewed = 0
+            for i = 1, #KEYS do
+                if redis.call('hexists', KEYS[i], ARGV[2]) == 1 then
+                    redis.call('pexpire', KEYS[i], ARGV[1])
+                    renewed = renewed + 1
+                end
+            end
+            return renewed
+            """;
+
+    // 재시도 간격 상한 (막고 있는 락의 남은 시간이 더 짧으면 그만큼만 대기)
+    private static final long MAX_BACKOFF_MILLIS = 50L;
+
+    private final RedissonClient redissonClient;
+    // watchdog 연장과 비동기 획득 재시도 예약용
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "multi-lock-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisMultiLock(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    /**
+     * 전체 키 획득 시도 (waitTime 동안 재시도, 소유자는 현재 스레드)
+     * @param lockKeys  정렬/중복 제거된 락 키
+     * @param leaseTime 0보다 작으면 해제할 때까지 자동 연장
+     * @return 획득한 락, 대기 시간 안에 획득하지 못하면 null
+     */
+    public Held tryLockAll(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit)
+            throws InterruptedException {
+        Attempt attempt = new Attempt(lockKeys, waitTime, leaseTime, timeUnit, Thread.currentThread().getId());
+
+        while (true) {
+            List<Long> result = redissonClient.getScript(StringCodec.INSTANCE)
+                    .eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.MULTI,
+                            attempt.keys, attempt.acquireArgs());
+            long blockedTtl = blockedTtl(result);
+
+            if (blockedTtl == 0) {
+                return attempt.held();
+            }
+
+            long remaining = attempt.deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return null;
+            }
+            Thread.sleep(Math.min(remaining, backoff(blockedTtl)));
+        }
+    }
+
+    /**
+     * 스레드를 점유하지 않는 전체 키 획득 시도 (재시도는 스케줄러에서 예약)
+     * @param ownerId 락 소유자 ID (스레드 ID와 겹치지 않는 노드 내 고유 값, 해제도 이 ID로 수행)
+     * @return 획득한 락으로 완료, 대기 시간 안에 획득하지 못하면 null로 완료
+     */
+    public CompletableFuture<Held> tryLockAllAsync(List<String> lockKeys, long waitTime, long leaseTime,
+                                                   TimeUnit timeUnit, long ownerId) {
+        Attempt attempt = new Attempt(lockKeys, waitTime, leaseTime, timeUnit, ownerId);
+        CompletableFuture<Held> future = new CompletableFuture<>();
+        attemptAsync(attempt, future);
+        return future;
+    }
+
+    /**
+     * 보유한 키 전체 해제 (해제 완료까지 대기)
+     */
+    public void unlockAll(Held held) {
+        List<String> lockKeys = held.lockKeys;
+        List<CompletableFuture<Void>> futures = unlockEach(held);
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            } catch (Exception e) {
+                log.warn("멀티락 해제 실패 - 이미 만료되었거나 다른 스레드가 소유: {}", lockKeys.get(i));
+            }
+        }
+    }
+
+    /**
+     * 스레드를 점유하지 않는 전체 해제 (키별 해제 실패는 로그만 남김)
+     */
+    public CompletableFuture<Void> unlockAllAsync(Held held) {
+        List<String> lockKeys = held.lockKeys;
+        List<CompletableFuture<Void>> futures = unlockEach(held);
+
+        for (int i = 0; i < futures.size(); i++) {
+            String lockKey = lockKeys.get(i);
+            futures.set(i, futures.get(i).exceptionally(e -> {
+                log.warn("멀티락 해제 실패 - 이미 만료되었거나 다른 소유자가 보유: {}", lockKey);
+                return null;
+            }));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void attemptAsync(Attempt attempt, CompletableFuture<Held> future) {
+        RFuture<List<Long>> evaluation = redissonClient.getScript(StringCodec.INSTANCE)
+                .evalAsync(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.MULTI,
+                        attempt.keys, attempt.acquireArgs());
+
+        evaluation.whenComplete((result, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+
+            long blockedTtl = blockedTtl(result);
+            if (blockedTtl == 0) {
+                Held held = attempt.held();
+                // 호출자가 이미 포기(취소)했으면 잡은 키를 바로 반납
+                if (!future.complete(held)) {
+                    unlockAllAsync(held);
+                }
+                return;
+            }
+
+            long remaining = attempt.deadline - System.currentTimeMillis();
+            if (remaining <= 0 || future.isDone()) {
+                future.complete(null);
+                return;
+            }
+            scheduler.schedule(() -> attemptAsync(attempt, future),
+                    Math.min(remaining, backoff(blockedTtl)), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private List<CompletableFuture<Void>> unlockEach(Held held) {
+        if (held.renewal != null) {
+            held.renewal.cancel(false);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(held.lockKeys.size());
+        for (String lockKey : held.lockKeys) {
+            futures.add(redissonClient.getLock(lockKey).unlockAsync(held.ownerId).toCompletableFuture());
+        }
+        return futures;
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(List<Object> keys, String lockName, long leaseMillis) {
+        long period = Math.max(1, leaseMillis / 3);
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        return scheduler.scheduleAtFixedRate(() -> {
+            try {
+                script.eval(RScript.Mode.READ_WRITE, RENEW_SCRIPT, RScript.ReturnType.INTEGER,
+                        keys, String.valueOf(leaseMillis), lockName);
+            } catch (Exception e) {
+                log.warn("멀티락 점유 시간 연장 실패: {}, error={}", keys, e.getMessage());
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static long blockedTtl(List<Long> result) {
+        return result == null || result.isEmpty() ? MAX_BACKOFF_MILLIS : result.get(0);
+    }
+
+    private static long backoff(long blockedTtl) {
+        return ThreadLocalRandom.current().nextLong(1, Math.min(MAX_BACKOFF_MILLIS, blockedTtl) + 1);
+    }
+
+    /**
+     * 한 번의 획득 요청 (동기/비동기 재시도가 공유하는 인자)
+     */
+    private final class Attempt {
+        private final List<String> lockKeys;
+        private final List<Object> keys;
+        private final long deadline;
+        private final boolean useWatchdog;
+        private final long leaseMillis;
+        private final long ownerId;
+        // RedissonLock과 동일한 소유자 이름
+        private final String lockName;
+
+        private Attempt(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit, long ownerId) {
+            this.lockKeys = lockKeys;
+            this.keys = new ArrayList<>(lockKeys);
+            this.deadline = System.currentTimeMillis() + timeUnit.toMillis(waitTime);
+            this.useWatchdog = leaseTime < 0;
+            this.leaseMillis = useWatchdog
+                    ? redissonClient.getConfig().getLockWatchdogTimeout()
+                    : timeUnit.toMillis(leaseTime);
+            this.ownerId = ownerId;
+            this.lockName = redissonClient.getId() + ":" + ownerId;
+        }
+
+        private Object[] acquireArgs() {
+            return new Object[]{String.valueOf(leaseMillis), lockName};
+        }
+
+        private Held held() {
+            ScheduledFuture<?> renewal = useWatchdog
+                    ? scheduleRenewal(keys, lockName, leaseMillis)
+                    : null;
+            return new Held(lockKeys, renewal, ownerId);
+        }
+    }
+
+    public static final class Held {
+        private final List<String> lockKeys;
+        private final ScheduledFuture<?> renewal;
+        private final long ownerId;
+
+        private Held(List<String> lockKeys, ScheduledFuture<?> renewal, long ownerId) {
+            this.lockKeys = lockKeys;
+            this.renewal = renewal;
+            this.ownerId = ownerId;
+        }
+    }
+}
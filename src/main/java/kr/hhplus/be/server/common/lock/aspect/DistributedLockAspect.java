@@ -1,32 +1,56 @@
 package kr.hhplus.be.server.common.lock.aspect;
 
 import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.common.lock.FencingTokenSequence;
+import kr.hhplus.be.server.common.lock.FencingTokens;
+import kr.hhplus.be.server.common.lock.LockMetrics;
 import kr.hhplus.be.server.common.lock.exception.DistributedLockException;
-import lombok.RequiredArgsConstructor;
+import kr.hhplus.be.server.common.lock.provider.LockHandle;
+import kr.hhplus.be.server.common.lock.provider.LockOptions;
+import kr.hhplus.be.server.common.lock.provider.LockProvider;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
 @Aspect
 @Component
-@RequiredArgsConstructor
 @Slf4j
 @Order(1) // 트랜잭션(@Transactional)보다 먼저 실행되도록 높은 우선순위 설정
 public class DistributedLockAspect {
-    private final RedissonClient redissonClient;
+    private final LockProvider lockProvider;
+    private final LockMetrics lockMetrics;
+    private final FencingTokenSequence fencingTokenSequence;
+    private final Executor lockAsyncExecutor;
+    private final LockKeyEvaluator lockKeyEvaluator = new LockKeyEvaluator();
+    private final Map<Method, String> lockNames = new ConcurrentHashMap<>();
+
+    public DistributedLockAspect(LockProvider lockProvider, LockMetrics lockMetrics,
+                                 FencingTokenSequence fencingTokenSequence,
+                                 @Qualifier("lockAsyncExecutor") Executor lockAsyncExecutor) {
+        this.lockProvider = lockProvider;
+        this.lockMetrics = lockMetrics;
+        this.fencingTokenSequence = fencingTokenSequence;
+        this.lockAsyncExecutor = lockAsyncExecutor;
+    }
 
     /**
      * 분산락 처리 - @Order(1)로 트랜잭션보다 먼저 실행
@@ -36,63 +60,251 @@ public class DistributedLockAspect {
      * 3. 실제 비즈니스 로직 실행
      * 4. TransactionInterceptor - 트랜잭션 종료 (커밋/롤백)
      * 5. DistributedLockAspect.lock() finally - 락 해제
+     * 락 획득/해제는 lock.provider로 선택한 LockProvider가 담당
+     * 반환 타입이 CompletableFuture/CompletionStage이면 호출 스레드를 점유하지 않고 획득하며,
+     * 반환된 비동기 결과가 끝날 때 해제함 (메서드 본문과 트랜잭션은 lockAsyncExecutor 스레드에서 실행)
      */
     @Around("@annotation(distributedLock)")
     public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        String lockKey = LOCK_PREFIX + getDynamicValue(signature.getParameterNames(),
-                joinPoint.getArgs(),
-                distributedLock.key());
+        String lockName = lockNames.computeIfAbsent(method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName());
 
-        RLock rLock = redissonClient.getLock(lockKey);
+        Object keyValue = lockKeyEvaluator.evaluate(method, joinPoint.getArgs(), distributedLock.key());
+        List<String> lockKeys = distributedLock.multiLock()
+                ? toLockKeys(keyValue, distributedLock.keyPrefix())
+                : List.of(LOCK_PREFIX + keyValue);
 
-        try {
-            // 1. 락 획득 시도
-            boolean available = rLock.tryLock(distributedLock.waitTime(),
-                    distributedLock.leaseTime(),
-                    distributedLock.timeUnit());
+        if (lockKeys.isEmpty()) {
+            return joinPoint.proceed();
+        }
 
-            if (!available) {
-                log.warn("분산락 획득 실패: {}", lockKey);
-                throw new DistributedLockException(distributedLock.failMessage());
-            }
+        Class<?> returnType = method.getReturnType();
+        if (returnType == CompletableFuture.class || returnType == CompletionStage.class) {
+            LockOptions options = LockOptions.from(lockName, distributedLock);
+            return lockProvider.supportsAsync(lockKeys, options)
+                    ? lockAsync(joinPoint, distributedLock, lockName, lockKeys, options)
+                    : lockOnExecutor(joinPoint, distributedLock, lockName, lockKeys);
+        }
+        return lockBlocking(joinPoint, distributedLock, lockName, lockKeys,
+                () -> proceed(joinPoint, distributedLock, lockKeys));
+    }
 
-            log.info("분산락 획득 성공: {} (스레드: {})", lockKey, Thread.currentThread().getName());
+    private Object lockBlocking(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                                String lockName, List<String> lockKeys, Invocation invocation) throws Throwable {
+        long startedAt = System.nanoTime();
+        Acquired acquired = null;
+
+        try {
+            // 1. 락 획득 시도
+            acquired = acquired(lockProvider.tryLock(lockKeys, LockOptions.from(lockName, distributedLock)),
+                    distributedLock, lockName, lockKeys, startedAt);
 
             // 2. 다음 Aspect 체인 실행 (트랜잭션 Aspect -> 실제 메서드)
             // @Order(1)이므로 @Transactional Aspect가 이후에 실행됨
-            return joinPoint.proceed();
+            return invocation.proceed();
 
         } catch (InterruptedException e) {
-            log.error("락 획득 중 인터럽트 발생: {}", lockKey, e);
+            log.error("락 획득 중 인터럽트 발생: {}", lockKeys, e);
             Thread.currentThread().interrupt();
             throw new DistributedLockException("락 획득 중 인터럽트가 발생했습니다.", e);
         } finally {
             // 3. 락 해제 (트랜잭션 종료 후)
-            try {
-                if (rLock.isHeldByCurrentThread()) {
-                    rLock.unlock();
-                    log.info("분산락 해제 완료: {} (스레드: {})", lockKey, Thread.currentThread().getName());
-                }
-            } catch (IllegalMonitorStateException e) {
-                log.warn("락 해제 실패 - 이미 해제되었거나 다른 스레드가 소유: {}", lockKey);
+            if (acquired != null) {
+                recordRelease(acquired, distributedLock, lockName, lockKeys);
+                acquired.handle().unlock();
+                log.debug("분산락 해제 완료: {} (스레드: {})", lockKeys, Thread.currentThread().getName());
             }
         }
     }
 
-    private Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        ExpressionParser parser = new SpelExpressionParser();
-        Expression expression = parser.parseExpression(key);
-        EvaluationContext context = new StandardEvaluationContext();
+    /**
+     * CompletableFuture 반환 메서드: 락을 비동기로 획득한 뒤 lockAsyncExecutor에서 메서드를 호출하고,
+     * 반환된 future가 끝나면 결과와 관계없이 해제 (락을 기다리는 동안 어떤 스레드도 점유하지 않음)
+     */
+    private CompletableFuture<Object> lockAsync(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                                                String lockName, List<String> lockKeys, LockOptions options) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<Object> outcome = new CompletableFuture<>();
 
-        if (parameterNames != null) {
-            for (int i = 0; i < parameterNames.length; i++) {
-                context.setVariable(parameterNames[i], args[i]);
+        lockProvider.tryLockAsync(lockKeys, options).whenComplete((handle, error) -> {
+            if (error != null) {
+                outcome.completeExceptionally(error);
+                return;
             }
+
+            Acquired acquired;
+            try {
+                acquired = acquired(handle, distributedLock, lockName, lockKeys, startedAt);
+            } catch (DistributedLockException e) {
+                outcome.completeExceptionally(e);
+                return;
+            }
+
+            // 락 응답 스레드(Redis 이벤트 루프)에서 메서드를 실행하지 않도록 실행기로 넘김
+            try {
+                lockAsyncExecutor.execute(() -> proceedAsync(joinPoint, distributedLock, lockName, lockKeys,
+                        acquired, outcome));
+            } catch (RejectedExecutionException e) {
+                releaseAsync(acquired, distributedLock, lockName, lockKeys);
+                outcome.completeExceptionally(new DistributedLockException(distributedLock.failMessage(), e));
+            }
+        });
+        return outcome;
+    }
+
+    private void proceedAsync(ProceedingJoinPoint joinPoint, DistributedLock distributedLock, String lockName,
+                              List<String> lockKeys, Acquired acquired, CompletableFuture<Object> outcome) {
+        CompletionStage<?> result;
+        try {
+            result = (CompletionStage<?>) proceed(joinPoint, distributedLock, lockKeys);
+        } catch (Throwable e) {
+            releaseAsync(acquired, distributedLock, lockName, lockKeys)
+                    .whenComplete((ignored, releaseError) -> outcome.completeExceptionally(e));
+            return;
         }
+        if (result == null) {
+            releaseAsync(acquired, distributedLock, lockName, lockKeys)
+                    .whenComplete((ignored, releaseError) -> outcome.complete(null));
+            return;
+        }
+
+        result.whenComplete((value, error) -> releaseAsync(acquired, distributedLock, lockName, lockKeys)
+                .whenComplete((ignored, releaseError) -> {
+                    if (error != null) {
+                        outcome.completeExceptionally(error);
+                    } else {
+                        outcome.complete(value);
+                    }
+                }));
+    }
+
+    /**
+     * 비동기 획득을 지원하지 않는 백엔드(mysql, in-jvm, 단일 키 fair/localQueue):
+     * lockAsyncExecutor 스레드에서 기존 방식으로 획득하고 반환된 future가 끝날 때까지 보유 (호출 스레드는 바로 반환)
+     */
+    private CompletableFuture<Object> lockOnExecutor(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                                                     String lockName, List<String> lockKeys) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return lockBlocking(joinPoint, distributedLock, lockName, lockKeys, () -> {
+                    CompletionStage<?> result = (CompletionStage<?>) proceed(joinPoint, distributedLock, lockKeys);
+                    return result == null ? null : result.toCompletableFuture().join();
+                });
+            } catch (CompletionException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new CompletionException(e);
+            }
+        }, lockAsyncExecutor);
+    }
+
+    /**
+     * 다음 Aspect 체인 실행 (fencing이면 락을 잡은 뒤 토큰을 발급받아 실행하는 동안 현재 스레드에 등록)
+     */
+    private Object proceed(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                           List<String> lockKeys) throws Throwable {
+        if (!distributedLock.fencing()) {
+            return joinPoint.proceed();
+        }
+
+        Map<String, Long> previousTokens = bindFencingTokens(lockKeys);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            FencingTokens.unbind(previousTokens);
+        }
+    }
+
+    private Acquired acquired(LockHandle handle, DistributedLock distributedLock,
+                              String lockName, List<String> lockKeys, long startedAt) {
+        if (handle == null) {
+            throw lockFailed(distributedLock, lockName, lockKeys, startedAt);
+        }
+
+        long acquiredAt = System.nanoTime();
+        lockMetrics.acquired(lockName, lockKeys, acquiredAt - startedAt);
+        log.debug("분산락 획득 성공: {} (스레드: {})", lockKeys, Thread.currentThread().getName());
+        return new Acquired(handle, acquiredAt);
+    }
+
+    private DistributedLockException lockFailed(DistributedLock distributedLock,
+                                                String lockName, List<String> lockKeys, long startedAt) {
+        lockMetrics.failed(lockName, lockKeys, System.nanoTime() - startedAt);
+        log.warn("분산락 획득 실패: {}", lockKeys);
+        return new DistributedLockException(distributedLock.failMessage());
+    }
+
+    private void recordRelease(Acquired acquired, DistributedLock distributedLock,
+                               String lockName, List<String> lockKeys) {
+        lockMetrics.released(lockName, lockKeys, System.nanoTime() - acquired.acquiredAt(), leaseNanos(distributedLock));
+    }
+
+    // 해제 실패는 로그만 남기고 메서드 결과를 그대로 전달
+    private CompletableFuture<Void> releaseAsync(Acquired acquired, DistributedLock distributedLock,
+                                                 String lockName, List<String> lockKeys) {
+        recordRelease(acquired, distributedLock, lockName, lockKeys);
+        return acquired.handle().unlockAsync()
+                .handle((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("분산락 해제 실패: {}, error={}", lockKeys, error.getMessage());
+                    } else {
+                        log.debug("분산락 해제 완료: {}", lockKeys);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * 멀티락 키 구성
+     * SpEL 결과(컬렉션/배열)를 키별 락으로 펼쳐 정렬/중복 제거
+     * 예: [3, 1, 3] → ["REDISSON_LOCK:STOCK:1", "REDISSON_LOCK:STOCK:3"]
+     */
+    private List<String> toLockKeys(Object value, String keyPrefix) {
+        Stream<?> values;
+        if (value instanceof Collection<?> collection) {
+            values = collection.stream();
+        } else if (value instanceof Object[] array) {
+            values = Arrays.stream(array);
+        } else if (value == null) {
+            values = Stream.empty();
+        } else {
+            values = Stream.of(value);
+        }
+
+        return values
+                .filter(Objects::nonNull)
+                .map(String::valueOf)
+                .distinct()
+                .sorted()
+                .map(id -> LOCK_PREFIX + keyPrefix + id)
+                .toList();
+    }
+
+    /**
+     * 펜싱 토큰을 발급받아 현재 스레드에 등록 (키는 접두사를 뗀 @DistributedLock 키, 반환값은 해제 시 복원할 이전 상태)
+     * 락을 잡은 뒤에 발급하므로 같은 키의 다음 보유자는 항상 더 큰 토큰을 받음
+     */
+    private Map<String, Long> bindFencingTokens(List<String> lockKeys) {
+        List<String> keys = lockKeys.stream()
+                .map(lockKey -> lockKey.substring(LOCK_PREFIX.length()))
+                .toList();
+        return FencingTokens.bind(fencingTokenSequence.next(keys));
+    }
+
+    private static long leaseNanos(DistributedLock distributedLock) {
+        return distributedLock.watchdog()
+                ? Long.MAX_VALUE
+                : distributedLock.timeUnit().toNanos(distributedLock.leaseTime());
+    }
+
+    private record Acquired(LockHandle handle, long acquiredAt) {
+    }
 
-        return expression.getValue(context, Object.class);
+    @FunctionalInterface
+    private interface Invocation {
+        Object proceed() throws Throwable;
     }
 
     private static final String LOCK_PREFIX = "REDISSON_LOCK:";
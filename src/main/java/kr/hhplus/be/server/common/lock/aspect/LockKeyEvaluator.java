@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.common.lock.aspect;
+
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @DistributedLock 키(SpEL) 평가
+ * - 메서드별로 파싱한 Expression을 캐시하여 호출마다 파싱하지 않음
+ * - 컴파일 가능한 표현식은 바이트코드로 컴파일 (MIXED: 컴파일 결과가 실패하면 인터프리터로 복귀)
+ * - 파라미터 이름은 MethodBasedEvaluationContext가 참조될 때만 지연 바인딩
+ */
+public class LockKeyEvaluator {
+
+    private static final ExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, LockKeyEvaluator.class.getClassLoader()));
+
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final Map<Method, Expression> expressionCache = new ConcurrentHashMap<>();
+
+    public Object evaluate(Method method, Object[] args, String key) {
+        Expression expression = expressionCache.computeIfAbsent(method, m -> PARSER.parseExpression(key));
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(null, method, args, PARAMETER_NAME_DISCOVERER);
+        return expression.getValue(context, Object.class);
+    }
+}
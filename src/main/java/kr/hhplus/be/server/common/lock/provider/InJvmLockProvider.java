@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 락 백엔드 (네트워크 왕복 없음)
+ * - 키 해시로 고른 스트라이프 ReentrantLock을 인덱스 순으로 잡아 여러 키도 교착 없이 획득
+ * - 서로 다른 키가 같은 스트라이프에 걸리면 불필요하게 기다릴 수 있음 (stripes로 조절)
+ * - 점유 시간/watchdog은 의미가 없어 무시 (보유 스레드가 끝나면 해제, 프로세스가 죽으면 함께 사라짐)
+ * 단일 노드 운영과 통합 테스트 전용, 여러 노드에서는 상호 배제가 보장되지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "in-jvm")
+public class InJvmLockProvider implements LockProvider {
+
+    private final ReentrantLock[] locks;
+
+    public InJvmLockProvider(DistributedLockProperties properties) {
+        int size = Integer.highestOneBit(Math.max(1, properties.getInJvm().getStripes() - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public LockHandle tryLock(List<String> lockKeys, LockOptions options) throws InterruptedException {
+        int[] stripes = lockKeys.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        long deadline = System.nanoTime() + options.timeUnit().toNanos(options.waitTime());
+        int acquired = 0;
+        try {
+            for (int stripe : stripes) {
+                if (!locks[stripe].tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    return null;
+                }
+                acquired++;
+            }
+        } finally {
+            if (acquired < stripes.length) {
+                unlock(stripes, acquired);
+            }
+        }
+
+        return () -> unlock(stripes, stripes.length);
+    }
+
+    // 획득의 역순으로 해제
+    private void unlock(int[] stripes, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            locks[stripes[i]].unlock();
+        }
+    }
+
+    private int stripeOf(String lockKey) {
+        int hash = lockKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (locks.length - 1);
+    }
+}
@@ -0,0 +1,23 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 획득한 락 (tryLock으로 획득한 락은 획득한 스레드에서 해제해야 함)
+ */
+public interface LockHandle {
+
+    void unlock();
+
+    /**
+     * 스레드를 점유하지 않는 해제 (기본 구현은 호출 스레드에서 unlock)
+     */
+    default CompletableFuture<Void> unlockAsync() {
+        try {
+            unlock();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import kr.hhplus.be.server.common.lock.DistributedLock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 획득 옵션
+ * @param leaseTime  점유 시간, 0보다 작으면 해제할 때까지 자동 연장 (watchdog)
+ * @param name       지표용 락 이름 (클래스.메서드)
+ * @param localQueue 노드 안에서 먼저 줄을 세울지 여부 (지원하지 않는 백엔드에서는 무시)
+ * @param fair       도착 순서대로 획득할지 여부 (지원하지 않는 백엔드에서는 무시)
+ * @param fairAdmission 공정 락 대기열 입장 제한 여부 (fair일 때만 적용)
+ */
+public record LockOptions(String name, long waitTime, long leaseTime, TimeUnit timeUnit, boolean localQueue,
+                          boolean fair, boolean fairAdmission) {
+
+    public static LockOptions from(String name, DistributedLock distributedLock) {
+        return new LockOptions(
+                name,
+                distributedLock.waitTime(),
+                distributedLock.watchdog() ? -1L : distributedLock.leaseTime(),
+                distributedLock.timeUnit(),
+                distributedLock.localQueue(),
+                distributedLock.fair(),
+                distributedLock.fairAdmission()
+        );
+    }
+
+    public boolean watchdog() {
+        return leaseTime < 0;
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @DistributedLock 락 백엔드 SPI (lock.provider로 선택)
+ * - redisson: Redis (기본값, 여러 노드 운영)
+ * - mysql: MySQL GET_LOCK (Redis 없이 여러 노드 운영)
+ * - in-jvm: 프로세스 내 스트라이프 락 (단일 노드 운영, 통합 테스트)
+ */
+public interface LockProvider {
+
+    /**
+     * 전체 키 획득 시도 (전부 획득하거나 하나도 획득하지 않음)
+     * @param lockKeys 정렬/중복 제거된 락 키
+     * @return 획득한 락, 대기 시간 안에 획득하지 못하면 null
+     */
+    LockHandle tryLock(List<String> lockKeys, LockOptions options) throws InterruptedException;
+
+    /**
+     * 스레드를 점유하지 않는 획득(tryLockAsync) 지원 여부
+     * 지원하지 않으면 CompletableFuture를 반환하는 메서드도 lockAsyncExecutor 스레드에서 tryLock으로 대기함
+     */
+    default boolean supportsAsync(List<String> lockKeys, LockOptions options) {
+        return false;
+    }
+
+    /**
+     * 스레드를 점유하지 않는 획득 시도 (supportsAsync가 true인 옵션에서만 호출)
+     * 반환된 락은 어느 스레드에서든 해제할 수 있어야 함
+     * @return 획득한 락으로 완료, 대기 시간 안에 획득하지 못하면 null로 완료
+     */
+    default CompletableFuture<LockHandle> tryLockAsync(List<String> lockKeys, LockOptions options) {
+        return CompletableFuture.failedFuture(
+                new UnsupportedOperationException("비동기 락 획득을 지원하지 않는 백엔드입니다."));
+    }
+}
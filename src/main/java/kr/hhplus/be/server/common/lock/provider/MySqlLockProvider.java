@@ -0,0 +1,109 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import kr.hhplus.be.server.common.lock.exception.DistributedLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * MySQL GET_LOCK 락 백엔드 (Redis 없이 여러 노드 운영)
+ * - 락은 세션(커넥션)에 묶이므로 획득부터 해제까지 락 전용 커넥션 하나를 점유
+ *   (트랜잭션 커넥션 풀과 섞이면 락 보유자가 트랜잭션 커넥션을 못 얻는 교착이 생기므로 별도 풀 사용)
+ * - 여러 키는 정렬된 순서로 같은 세션에서 차례로 획득 (교착 방지)
+ * - 점유 시간/watchdog 대신 세션 수명으로 관리: 보유 노드가 죽으면 커넥션이 끊기면서 MySQL이 해제
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "mysql")
+public class MySqlLockProvider implements LockProvider {
+
+    // MySQL 락 이름 최대 길이
+    private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+    private final HikariDataSource lockDataSource;
+
+    public MySqlLockProvider(DataSourceProperties dataSourceProperties, DistributedLockProperties properties) {
+        this.lockDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        this.lockDataSource.setPoolName("LockDataSource");
+        this.lockDataSource.setMaximumPoolSize(properties.getMysql().getPoolSize());
+        this.lockDataSource.setAutoCommit(true);
+    }
+
+    @Override
+    public LockHandle tryLock(List<String> lockKeys, LockOptions options) throws InterruptedException {
+        long deadline = System.nanoTime() + options.timeUnit().toNanos(options.waitTime());
+        Connection connection = null;
+        boolean acquired = false;
+        try {
+            connection = lockDataSource.getConnection();
+
+            for (String lockKey : lockKeys) {
+                double timeoutSeconds = Math.max(0, deadline - System.nanoTime()) / 1_000_000_000.0;
+                if (!getLock(connection, lockName(lockKey), timeoutSeconds)) {
+                    return null;
+                }
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+
+            acquired = true;
+            Connection held = connection;
+            return () -> releaseAndClose(held);
+
+        } catch (SQLException e) {
+            throw new DistributedLockException("락 획득 중 오류가 발생했습니다.", e);
+        } finally {
+            if (!acquired && connection != null) {
+                releaseAndClose(connection);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lockDataSource.close();
+    }
+
+    private boolean getLock(Connection connection, String lockName, double timeoutSeconds) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, lockName);
+            statement.setDouble(2, timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                // 1: 획득, 0: 대기 시간 초과, NULL: 오류
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    // 커넥션은 풀로 돌아가도 세션이 유지되므로 반납 전에 이 세션의 락을 모두 해제
+    private void releaseAndClose(Connection connection) {
+        try (connection; Statement statement = connection.createStatement()) {
+            statement.execute("SELECT RELEASE_ALL_LOCKS()");
+        } catch (SQLException e) {
+            log.warn("MySQL 락 해제 실패 - 커넥션 폐기: {}", e.getMessage());
+            lockDataSource.evictConnection(connection);
+        }
+    }
+
+    private static String lockName(String lockKey) {
+        if (lockKey.length() <= MAX_LOCK_NAME_LENGTH) {
+            return lockKey;
+        }
+        // 너무 긴 키는 앞부분 + 해시로 줄임 (충돌 시 불필요한 대기만 생김)
+        return lockKey.substring(0, MAX_LOCK_NAME_LENGTH - 9) + ":" + String.format("%08x", lockKey.hashCode());
+    }
+}
@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.common.lock.provider;
+
+import kr.hhplus.be.server.common.lock.FairQueuedLock;
+import kr.hhplus.be.server.common.lock.LocalQueuedLock;
+import kr.hhplus.be.server.common.lock.RedisMultiLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Redis 락 백엔드
+ * - 단일 키: RLock (fair이면 FairQueuedLock, localQueue이면 LocalQueuedLock)
+ * - 여러 키: RedisMultiLock (Lua 스크립트 한 번으로 전체 획득)
+ * - 비동기 획득: 스레드 ID 대신 노드 내 고유 소유자 ID로 tryLockAsync/unlockAsync
+ *   (단일 키의 fair/localQueue는 대기열이 스레드 기준이므로 비동기 획득을 지원하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "lock", name = "provider", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockProvider implements LockProvider {
+
+    private final RedissonClient redissonClient;
+    private final RedisMultiLock redisMultiLock;
+    private final LocalQueuedLock localQueuedLock;
+    private final FairQueuedLock fairQueuedLock;
+    // 비동기 락 소유자 ID (스레드 ID(양수), LocalQueuedLock 소유자 ID(-1부터 감소)와 겹치지 않는 구간)
+    private final AtomicLong asyncOwnerSequence = new AtomicLong(Long.MIN_VALUE);
+
+    @Override
+    public LockHandle tryLock(List<String> lockKeys, LockOptions options) throws InterruptedException {
+        if (lockKeys.size() > 1) {
+            RedisMultiLock.Held held = redisMultiLock.tryLockAll(lockKeys,
+                    options.waitTime(), options.leaseTime(), options.timeUnit());
+            return held == null ? null : () -> redisMultiLock.unlockAll(held);
+        }
+
+        String lockKey = lockKeys.get(0);
+
+        if (options.fair()) {
+            FairQueuedLock.Held held = fairQueuedLock.tryLock(options.name(), lockKey,
+                    options.waitTime(), options.leaseTime(), options.timeUnit(), options.fairAdmission());
+            return held == null ? null : () -> fairQueuedLock.unlock(held);
+        }
+
+        if (options.localQueue()) {
+            LocalQueuedLock.Held held = localQueuedLock.tryLock(lockKey,
+                    options.waitTime(), options.leaseTime(), options.timeUnit());
+            return held == null ? null : () -> localQueuedLock.unlock(held);
+        }
+
+        RLock rLock = redissonClient.getLock(lockKey);
+        if (!rLock.tryLock(options.waitTime(), options.leaseTime(), options.timeUnit())) {
+            return null;
+        }
+        return () -> {
+            try {
+                if (rLock.isHeldByCurrentThread()) {
+                    rLock.unlock();
+                }
+            } catch (IllegalMonitorStateException e) {
+                log.warn("락 해제 실패 - 이미 해제되었거나 다른 스레드가 소유: {}", lockKey);
+            }
+        };
+    }
+
+    @Override
+    public boolean supportsAsync(List<String> lockKeys, LockOptions options) {
+        // 여러 키는 fair/localQueue와 관계없이 멀티락으로 획득
+        return lockKeys.size() > 1 || (!options.fair() && !options.localQueue());
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> tryLockAsync(List<String> lockKeys, LockOptions options) {
+        long ownerId = asyncOwnerSequence.incrementAndGet();
+
+        if (lockKeys.size() > 1) {
+            return redisMultiLock.tryLockAllAsync(lockKeys, options.waitTime(), options.leaseTime(),
+                            options.timeUnit(), ownerId)
+                    .thenApply(held -> held == null ? null : new AsyncHandle(
+                            () -> redisMultiLock.unlockAllAsync(held)));
+        }
+
+        String lockKey = lockKeys.get(0);
+        RLock rLock = redissonClient.getLock(lockKey);
+        return rLock.tryLockAsync(options.waitTime(), options.leaseTime(), options.timeUnit(), ownerId)
+                .toCompletableFuture()
+                .thenApply(locked -> locked ? new AsyncHandle(() -> rLock.unlockAsync(ownerId).toCompletableFuture()
+                        .exceptionally(e -> {
+                            log.warn("락 해제 실패 - 이미 만료되었거나 다른 소유자가 보유: {}", lockKey);
+                            return null;
+                        })) : null);
+    }
+
+    /**
+     * 비동기로 획득한 락 (소유자 ID로 해제하므로 어느 스레드에서든 해제 가능)
+     */
+    private record AsyncHandle(Supplier<CompletableFuture<Void>> release) implements LockHandle {
+        @Override
+        public void unlock() {
+            release.get().join();
+        }
+
+        @Override
+        public CompletableFuture<Void> unlockAsync() {
+            return release.get();
+        }
+    }
+}
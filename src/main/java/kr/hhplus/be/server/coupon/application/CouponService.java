@@ -40,6 +40,8 @@ public class CouponService {
      // 선착순 쿠폰 발급 (동시성 제어 적용)
     @DistributedLock(
             key = "'coupon:issue:' + #code",
+            fair = true, // 선착순: 먼저 도착한 요청부터 발급
+            fairAdmission = false, // 미리 거절하면 남은 수량이 있어도 실패하므로, 소진 여부는 락 안에서만 판정
             waitTime = 3L,
             leaseTime = 10L,
             failMessage = "쿠폰 발급이 지연되고 있습니다. 잠시 후 다시 시도해주세요."
@@ -1,27 +1,33 @@
 package kr.hhplus.be.server.order.application;
 
+import kr.hhplus.be.server.common.config.OrderProperties;
 import kr.hhplus.be.server.common.lock.DistributedLock;
 import kr.hhplus.be.server.coupon.application.CouponService;
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
 import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
-import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
 import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
 import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.application.stock.StockDeductor;
+import kr.hhplus.be.server.product.application.stock.StockDeductorResolver;
 import kr.hhplus.be.server.user.application.UserService;
-import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.order.domain.Order;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.product.domain.Product;
-import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -31,13 +37,11 @@ public class OrderFacade {
     private final OrderService orderService;
     private final ProductService productService;
     private final UserService userService;
-    private final StockRollbackService stockRollbackService;
     private final CouponService couponService;
-    private final ApplicationEventPublisher eventPublisher;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final OrderEventProducer orderEventProducer;
-
-    private static final String ORDER_COMPLETED_TOPIC = "order.completed";
+    private final OrderOutboxService orderOutboxService;
+    private final OrderProperties orderProperties;
+    private final StockDeductorResolver stockDeductorResolver;
+    private final OrderReservationService orderReservationService;
 
     /**
      * 주문 처리에 상품별 멀티락 적용
@@ -45,155 +49,222 @@ public class OrderFacade {
      * 멀티락 동작:
      * 1. request.items에서 productId 리스트 추출: [1, 3, 2]
      * 2. 정렬하여 데드락 방지: [1, 2, 3]
-     * 3. 각 상품별로 락 키 생성: ["MULTI_LOCK:1", "MULTI_LOCK:2", "MULTI_LOCK:3"]
-     * 4. 순서대로 락 획득 → 트랜잭션 시작 → 비즈니스 로직 → 트랜잭션 종료 → 락 해제
+     * 3. 각 상품별로 락 키 생성: ["STOCK:1", "STOCK:2", "STOCK:3"] (단일 상품 재고 락과 같은 키)
+     * 4. Lua 스크립트 한 번으로 전체 락 획득 → 트랜잭션 시작 → 비즈니스 로직 → 트랜잭션 종료 → 락 해제
      */
     @DistributedLock(
             key = "#request.items.![productId]", // 상품 ID 리스트 추출
             multiLock = true,
             keyPrefix = "STOCK:",
             waitTime = 10L,
-            leaseTime = 30L,
+            watchdog = true, // 처리 시간이 길어져도 끝날 때까지 자동 연장 (노드 장애 시 watchdog 주기 안에 만료)
             failMessage = "선택한 상품들이 다른 주문에서 처리 중입니다. 잠시 후 다시 시도해주세요."
     )
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderResponse placeOrder(OrderRequest request) {
+        return placeOrderWithLock(request);
+    }
+
+    /**
+     * placeOrder와 같은 멀티락 주문을 요청 스레드 점유 없이 처리
+     * 락은 비동기로 획득하고(대기 중 스레드 점유 없음), 획득 후 lockAsyncExecutor 스레드에서 트랜잭션을 실행,
+     * 반환된 future가 끝나면 락을 해제 (락 획득 실패는 DistributedLockException으로 완료)
+     */
+    @DistributedLock(
+            key = "#request.items.![productId]",
+            multiLock = true,
+            keyPrefix = "STOCK:",
+            waitTime = 10L,
+            watchdog = true,
+            failMessage = "선택한 상품들이 다른 주문에서 처리 중입니다. 잠시 후 다시 시도해주세요."
+    )
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<OrderResponse> placeOrderAsync(OrderRequest request) {
+        return CompletableFuture.completedFuture(placeOrderWithLock(request));
+    }
+
+    private OrderResponse placeOrderWithLock(OrderRequest request) {
         log.info("주문 처리 시작: userId={}, 상품수={} (상품별 멀티락 획득됨, 트랜잭션 시작됨)",
                 request.getUserId(), request.getItems().size());
 
-        // 1. 사용자 조회 (비관적 락 적용)
-        User user = userService.getPointByUserIdForUpdate(request.getUserId());
-
-        // 2. 주문 아이템 처리
+        // 1. 주문 아이템 구성 (상품 가격 일괄 조회, IN 쿼리 1회)
         List<OrderItem> orderItems = new ArrayList<>();
-        List<Product> processedProducts = new ArrayList<>();
-        int originalTotalAmount = 0; // 쿠폰 적용 전 원래 금액
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
 
         try {
-            for (OrderRequest.OrderItemRequest itemRequest : request.getItems()) {
-                // 일반 조회
-                Product product = productService.getProductById(itemRequest.getProductId());
-
-                if (product.getStock() < itemRequest.getQuantity()) {
-                    throw new IllegalStateException(
-                            String.format("재고가 부족한 상품입니다: %s (현재 재고: %d, 요청 수량: %d)",
-                                    product.getProductName(), product.getStock(), itemRequest.getQuantity())
-                    );
-                }
-
-                // 재고 차감
-                product.decreaseStock(itemRequest.getQuantity());
-                productService.saveProduct(product); // 명시적 저장
-                processedProducts.add(product);
-
-                OrderItem item = new OrderItem(itemRequest.getProductId(), itemRequest.getQuantity(), product.getPrice());
-                orderItems.add(item);
-                originalTotalAmount += item.getTotalPrice();
-
-                log.info("상품 재고 차감 완료: productId={}, quantity={}, 남은재고={}",
-                        itemRequest.getProductId(), itemRequest.getQuantity(), product.getStock());
-            }
-
-            // 3. 쿠폰 적용 전 총 주문 금액 계산
-            int finalTotalAmount = originalTotalAmount;
-
-            // 4. 쿠폰 적용 (낙관적 락 사용)
-            if (request.getCouponId() != null) {
-                finalTotalAmount = applyCouponDiscountOptimistic(request.getCouponId(), request.getUserId(), originalTotalAmount);
-                log.info("쿠폰 적용 완료: couponId={}, 할인전={}, 할인후={}",
-                        request.getCouponId(), originalTotalAmount, finalTotalAmount);
-            }
-
-            // 5. 잔액 검증 및 차감
-            if (user.getPoint() < finalTotalAmount) {
-                // 잔액 부족 시 재고 복구
-                rollbackStock(orderItems, processedProducts);
-                throw new IllegalStateException(
-                        String.format("잔액이 부족합니다. (현재 잔액: %d원, 필요 금액: %d원)",
-                                user.getPoint(), finalTotalAmount)
-                );
-            }
-
-            user.usePoint(finalTotalAmount);
-            log.info("포인트 차감 완료: userId={}, 차감액={}, 남은잔액={}",
-                    request.getUserId(), finalTotalAmount, user.getPoint());
-
-            // 6. 주문 생성 및 저장
-            Order savedOrder = orderService.saveOrder(user.getUserId(), orderItems);
-
-            // 7. 인기상품 데이터 실시간 업데이트 (Redis)
-            productService.updatePopularProductsData(orderItems);
-
-            log.info("주문 생성 완료: orderId={} (트랜잭션 커밋 예정)", savedOrder.getOrderId());
-
-            // 8. 주문 완료 이벤트 발행 (트랜잭션 커밋 후 처리됨) -> Kafka로 발행
-            OrderCompletedEvent orderCompletedEvent = new OrderCompletedEvent(
-                    savedOrder.getOrderId(),
-                    savedOrder.getUserId(),
-                    orderItems,
-                    finalTotalAmount,
-                    request.getCouponId()
-            );
-
-            // Kafka 메시지 발행
-            orderEventProducer.publishOrderCompletedEvent(orderCompletedEvent);
-            log.info("주문 완료 Kafka 이벤트 발행: orderId={}, eventId={}",
-                    savedOrder.getOrderId(), orderCompletedEvent.getEventId());
-
-            return OrderResponse.from(savedOrder, orderItems);
+            int originalTotalAmount = collectOrderItems(request, orderItems, quantities);
+
+            // 2. 재고 차감 (조건부 상대값 UPDATE를 JDBC batch로 실행)
+            // 예약/예약 해제/비동기 접수 경로는 이 락 없이 같은 상대값 UPDATE로 재고를 바꾸므로,
+            // 조회한 재고를 엔티티에 반영해 절대값으로 쓰면 그 사이 커밋된 변경을 덮어쓰게 됨
+            productService.decreaseStocksIfAvailable(quantities);
+            log.info("상품 재고 차감 완료: {}", quantities);
+
+            return completeOrder(request.getUserId(), request.getCouponId(), orderItems, originalTotalAmount);
 
         } catch (Exception e) {
-            log.error("주문 처리 실패 - 재고 롤백 시작: userId={}, 에러={} (트랜잭션 롤백 예정)",
+            // 재고 차감은 같은 트랜잭션의 UPDATE이므로 롤백 시 함께 취소됨 (별도 복구 불필요)
+            log.error("주문 처리 실패: userId={}, 에러={} (트랜잭션 롤백 예정)",
                     request.getUserId(), e.getMessage());
-
-            // 예외 발생 시 재고 복구
-            rollbackStock(orderItems, processedProducts);
             throw e; // 원래 예외 재전파
         }
     }
 
     /**
-     * Kafka로 주문 완료 이벤트 발행
+     * 분산락 없이 주문 처리 (order.stock-mode에 설정된 StockDeductor로 재고 차감)
+     * 재고 차감 → 쿠폰/주문 저장 → 포인트 차감 순으로 처리하여
+     * 품절 주문은 쿠폰/포인트를 건드리기 전에 빠르게 실패시킴
      */
-    private void publishOrderCompletedEvent(OrderCompletedEvent event) {
-        try {
-            kafkaTemplate.send(ORDER_COMPLETED_TOPIC, event.getOrderId().toString(), event)
-                    .whenComplete((result, throwable) -> {
-                        if (throwable != null) {
-                            log.error("Kafka 메시지 발행 실패: orderId={}, eventId={}, error={}",
-                                    event.getOrderId(), event.getEventId(), throwable.getMessage());
-                        } else {
-                            log.info("Kafka 메시지 발행 성공: orderId={}, eventId={}, partition={}",
-                                    event.getOrderId(), event.getEventId(), result.getRecordMetadata().partition());
-                        }
-                    });
-        } catch (Exception e) {
-            log.error("Kafka 메시지 발행 중 예외: orderId={}, eventId={}, error={}",
-                    event.getOrderId(), event.getEventId(), e.getMessage());
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public OrderResponse placeOrderLockFree(OrderRequest request) {
+        return placeOrderLockFree(request, orderProperties.getStockMode());
+    }
+
+    /**
+     * 지정한 재고 차감 방식으로 분산락 없이 주문 처리 (비동기 주문 접수 Consumer 등)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public OrderResponse placeOrderLockFree(OrderRequest request, StockDeductionMode mode) {
+        StockDeductor stockDeductor = stockDeductorResolver.resolve(mode);
+        log.info("주문 처리 시작 (락 미사용, 재고 차감 방식={}): userId={}, 상품수={}",
+                stockDeductor.mode(), request.getUserId(), request.getItems().size());
+
+        // 1. 주문 아이템 구성 (상품 가격 조회)
+        List<OrderItem> orderItems = new ArrayList<>();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        int originalTotalAmount = collectOrderItems(request, orderItems, quantities);
+
+        // 2. 재고 차감 (주문 라인 전체 all-or-nothing, 트랜잭션 롤백 시 복구는 StockDeductor 책임)
+        stockDeductor.deduct(quantities);
+
+        return completeOrder(request.getUserId(), request.getCouponId(), orderItems, originalTotalAmount);
+    }
+
+    /**
+     * 2단계 주문 - 1단계: 재고 예약
+     * 재고 차감과 예약 저장만 짧은 트랜잭션으로 처리하여 락 보유 구간을 재고 단계로 한정
+     * DISTRIBUTED_LOCK 방식에서는 조건부 UPDATE(행 락)로 재고를 차감
+     * (멀티락 주문도 같은 상대값 UPDATE로 차감하므로 락 없이 섞여 실행되어도 서로의 변경을 덮어쓰지 않음)
+     * @return PENDING 상태의 예약 (예약 ID로 확정/취소)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public OrderReservation reserveOrder(OrderRequest request) {
+        StockDeductionMode mode = orderProperties.getStockMode() == StockDeductionMode.DISTRIBUTED_LOCK
+                ? StockDeductionMode.CONDITIONAL_UPDATE
+                : orderProperties.getStockMode();
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        int originalTotalAmount = collectOrderItems(request, orderItems, quantities);
+
+        stockDeductorResolver.resolve(mode).deduct(quantities);
+
+        OrderReservation reservation = orderReservationService.create(
+                request.getUserId(), request.getCouponId(), mode, orderItems, originalTotalAmount);
+
+        log.info("주문 예약 완료: reservationId={}, userId={}, 재고 차감 방식={}, 만료={}",
+                reservation.getReservationId(), request.getUserId(), mode, reservation.getExpiresAt());
+        return reservation;
+    }
+
+    /**
+     * 2단계 주문 - 2단계: 예약 확정 (orderConfirmExecutor에서 실행)
+     * 예약 선점 → 쿠폰/주문 저장 → 포인트 차감
+     * 실패 시 트랜잭션이 롤백되어 예약은 PENDING으로 남고, 만료 전까지 재시도할 수 있음
+     */
+    @Async("orderConfirmExecutor")
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public CompletableFuture<OrderResponse> confirmOrder(Long reservationId) {
+        OrderReservation reservation = orderReservationService.claimForConfirm(reservationId);
+        List<OrderItem> orderItems = orderReservationService.getOrderItems(reservationId);
+
+        OrderResponse response = completeOrder(reservation.getUserId(), reservation.getCouponId(), orderItems,
+                reservation.getTotalAmount());
+        reservation.assignOrder(response.getOrderId());
+
+        log.info("주문 예약 확정: reservationId={}, orderId={}", reservationId, response.getOrderId());
+        return CompletableFuture.completedFuture(response);
+    }
+
+    /**
+     * 예약 취소 (재고 복구)
+     */
+    public void cancelReservation(Long reservationId) {
+        if (!orderReservationService.release(reservationId, ReservationStatus.CANCELLED)) {
+            throw new IllegalStateException("취소할 수 없는 주문 예약입니다 (이미 처리되었거나 만료됨): " + reservationId);
         }
     }
 
     /**
-     * 재고 롤백 (멀티락으로 이미 보호된 상태에서 처리)
+     * 주문 요청 → 주문 아이템/상품별 수량 구성
+     * @return 쿠폰 적용 전 총 금액
      */
-    private void rollbackStock(List<OrderItem> orderItems, List<Product> processedProducts) {
-        try {
-            for (OrderItem item : orderItems) {
-                Product product = processedProducts.stream()
-                        .filter(p -> p.getProductId().equals(item.getProductId()))
-                        .findFirst()
-                        .orElse(null);
-
-                if (product != null) {
-                    product.increaseStock(item.getQuantity());
-                    productService.saveProduct(product); // 명시적 저장
-                    log.info("재고 복구 완료: productId={}, 복구수량={}, 복구 후 재고={}",
-                            product.getProductId(), item.getQuantity(), product.getStock());
-                }
-            }
-        } catch (Exception rollbackException) {
-            log.error("재고 복구 실패: {}", rollbackException.getMessage());
+    private int collectOrderItems(OrderRequest request, List<OrderItem> orderItems, Map<Long, Integer> quantities) {
+        Map<Long, Product> products = productService.getProductsByIds(productIds(request));
+
+        int originalTotalAmount = 0;
+        for (OrderRequest.OrderItemRequest itemRequest : request.getItems()) {
+            Product product = products.get(itemRequest.getProductId());
+
+            OrderItem item = new OrderItem(itemRequest.getProductId(), itemRequest.getQuantity(), product.getPrice());
+            orderItems.add(item);
+            quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Integer::sum);
+            originalTotalAmount += item.getTotalPrice();
         }
+        return originalTotalAmount;
+    }
+
+    private static List<Long> productIds(OrderRequest request) {
+        return request.getItems().stream()
+                .map(OrderRequest.OrderItemRequest::getProductId)
+                .toList();
+    }
+
+    /**
+     * 재고 차감 이후 공통 처리: 쿠폰 적용 → 주문 저장 → 포인트 차감 → 인기상품 갱신 → 이벤트 발행
+     * 포인트는 원장에 사용 기록을 추가하며, 스냅샷 행 락이 커밋 직전 구간에만 걸리도록 DB 쓰기 중 마지막에 수행
+     * (원장 잔액을 최신 커밋 기준으로 읽도록 호출하는 주문 트랜잭션은 READ COMMITTED)
+     */
+    private OrderResponse completeOrder(Long userId, Long couponId, List<OrderItem> orderItems,
+                                        int originalTotalAmount) {
+        // 1. 쿠폰 적용 전 총 주문 금액 계산
+        int finalTotalAmount = originalTotalAmount;
+
+        // 2. 쿠폰 적용 (낙관적 락 사용)
+        if (couponId != null) {
+            finalTotalAmount = applyCouponDiscountOptimistic(couponId, userId, originalTotalAmount);
+            log.info("쿠폰 적용 완료: couponId={}, 할인전={}, 할인후={}",
+                    couponId, originalTotalAmount, finalTotalAmount);
+        }
+
+        // 3. 주문 생성 및 저장
+        Order savedOrder = orderService.saveOrder(userId, orderItems);
+
+        // 4. 잔액 차감 (스냅샷 행 락 후 원장 기록, 잔액 부족 시 예외 → 트랜잭션 전체 롤백)
+        if (finalTotalAmount > 0) {
+            userService.usePoint(userId, finalTotalAmount);
+        }
+        log.info("포인트 차감 완료: userId={}, 차감액={}", userId, finalTotalAmount);
+
+        // 5. 인기상품 데이터 실시간 업데이트 (Redis)
+        productService.updatePopularProductsData(orderItems);
+
+        log.info("주문 생성 완료: orderId={} (트랜잭션 커밋 예정)", savedOrder.getOrderId());
+
+        // 6. 주문 완료 이벤트를 아웃박스에 기록 (주문과 같은 트랜잭션, Kafka 발행은 릴레이가 담당)
+        OrderCompletedEvent orderCompletedEvent = new OrderCompletedEvent(
+                savedOrder.getOrderId(),
+                savedOrder.getUserId(),
+                orderItems,
+                finalTotalAmount,
+                couponId
+        );
+
+        orderOutboxService.append(orderCompletedEvent);
+        log.info("주문 완료 이벤트 아웃박스 기록: orderId={}, eventId={}",
+                savedOrder.getOrderId(), orderCompletedEvent.getEventId());
+
+        return OrderResponse.from(savedOrder, orderItems);
     }
 
     private int applyCouponDiscountOptimistic(Long couponId, Long userId, int totalAmount) {
@@ -0,0 +1,230 @@
+package kr.hhplus.be.server.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Idempotency-Key 기반 주문 중복 처리 방지
+ * - 완료된 응답은 로컬 캐시(Caffeine) → Redis 순으로 조회하여 재시도 요청에 락 없이 바로 응답
+ * - 처리 중인 키는 같은 노드면 진행 중인 결과를 함께 기다리고, 다른 노드면 즉시 거절
+ * - 같은 키로 다른 주문 내용을 보내면 거절 (요청 지문 비교)
+ * - 처리 중 표시는 주문이 끝날 때까지 주기적으로 연장하고, 해제/연장은 자신이 쓴 값일 때만 수행 (소유자 토큰 비교)
+ */
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    private static final String KEY_PREFIX = "order:idempotency:";
+    private static final String IN_FLIGHT = "IN_FLIGHT";
+    private static final String COMPLETED = "COMPLETED";
+
+    // 처리 중 표시가 자신의 것일 때만 삭제 (만료 후 다른 노드가 선점한 키를 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 처리 중 표시가 자신의 것일 때만 만료 연장
+    private static final RedisScript<Long> REFRESH_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final OrderProperties.Idempotency properties;
+    private final TaskScheduler scheduler;
+    private final Cache<String, Record> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<OrderResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(StringRedisTemplate stringRedisTemplate,
+                                   ObjectMapper objectMapper,
+                                   OrderProperties orderProperties,
+                                   @Qualifier("taskScheduler") TaskScheduler scheduler) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = orderProperties.getIdempotency();
+        this.scheduler = scheduler;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+    }
+
+    /**
+     * 같은 (사용자, Idempotency-Key)에 대해 주문을 한 번만 처리
+     * 주문이 실패하면 키를 해제하여 같은 키로 다시 시도할 수 있음
+     */
+    public OrderResponse execute(String idempotencyKey, OrderRequest request, Supplier<OrderResponse> placeOrder) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 100) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~100자여야 합니다.");
+        }
+
+        String key = KEY_PREFIX + request.getUserId() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+
+        // 1. 로컬 캐시
+        Record local = completed.getIfPresent(key);
+        if (local != null) {
+            return replay(local, fingerprint);
+        }
+
+        // 2. 같은 노드에서 처리 중인 요청이면 그 결과를 함께 기다림
+        CompletableFuture<OrderResponse> ownFuture = new CompletableFuture<>();
+        CompletableFuture<OrderResponse> running = inFlight.putIfAbsent(key, ownFuture);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            OrderResponse response = executeOnce(key, fingerprint, placeOrder);
+            ownFuture.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, ownFuture);
+        }
+    }
+
+    private OrderResponse executeOnce(String key, String fingerprint, Supplier<OrderResponse> placeOrder) {
+        // 3. Redis 선점 (SET NX), 실패하면 다른 노드가 처리 중이거나 이미 완료된 키
+        String inFlightValue = write(new Record(IN_FLIGHT, fingerprint, null, UUID.randomUUID().toString()));
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, inFlightValue, properties.getInFlightTtl());
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            String stored = stringRedisTemplate.opsForValue().get(key);
+            if (stored == null) {
+                throw new RetryableException("동일한 주문 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            Record record = read(stored);
+            if (!COMPLETED.equals(record.getStatus())) {
+                throw new RetryableException("동일한 주문 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            completed.put(key, record);
+            return replay(record, fingerprint);
+        }
+
+        // 락 대기 + 락 임대 연장으로 주문이 처리 중 표시 유지 시간보다 길어져도 다른 노드가 중복 처리하지 않도록 연장
+        ScheduledFuture<?> heartbeat = scheduler.scheduleAtFixedRate(
+                () -> refresh(key, inFlightValue), properties.getInFlightTtl().dividedBy(3));
+        OrderResponse response;
+        try {
+            response = placeOrder.get();
+        } catch (RuntimeException e) {
+            release(key, inFlightValue);
+            throw e;
+        } finally {
+            heartbeat.cancel(false);
+        }
+
+        Record record = new Record(COMPLETED, fingerprint, response, null);
+        completed.put(key, record);
+        try {
+            stringRedisTemplate.opsForValue().set(key, write(record), properties.getTtl());
+        } catch (Exception e) {
+            // 주문은 이미 커밋됨, 처리 중 표시는 만료되며 로컬 캐시로는 계속 중복 방지
+            log.error("주문 응답 캐시 저장 실패: key={}, orderId={}, error={}", key, response.getOrderId(), e.getMessage());
+        }
+
+        log.info("주문 멱등 키 처리 완료: key={}, orderId={}", key, response.getOrderId());
+        return response;
+    }
+
+    private void refresh(String key, String inFlightValue) {
+        try {
+            stringRedisTemplate.execute(REFRESH_SCRIPT, List.of(key), inFlightValue,
+                    String.valueOf(properties.getInFlightTtl().toMillis()));
+        } catch (Exception e) {
+            log.warn("주문 처리 중 표시 연장 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key, String inFlightValue) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), inFlightValue);
+        } catch (Exception e) {
+            // 해제하지 못해도 처리 중 표시는 만료되면 같은 키로 재시도 가능
+            log.warn("주문 처리 중 표시 해제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private OrderResponse replay(Record record, String fingerprint) {
+        if (!record.getFingerprint().equals(fingerprint)) {
+            throw new IllegalArgumentException("이미 다른 주문 요청에 사용된 Idempotency-Key입니다.");
+        }
+        log.debug("중복 주문 요청 - 저장된 응답 반환: orderId={}", record.getResponse().getOrderId());
+        return record.getResponse();
+    }
+
+    private static OrderResponse join(CompletableFuture<OrderResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static String fingerprint(OrderRequest request) {
+        String items = request.getItems().stream()
+                .sorted(Comparator.comparing(OrderRequest.OrderItemRequest::getProductId))
+                .map(item -> item.getProductId() + "x" + item.getQuantity())
+                .collect(Collectors.joining(","));
+        return request.getUserId() + "|" + items + "|" + request.getCouponId();
+    }
+
+    private String write(Record record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private Record read(String value) {
+        try {
+            return objectMapper.readValue(value, Record.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 주문 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Record {
+        private String status;
+        private String fingerprint;
+        private OrderResponse response;
+        // 처리 중 표시를 쓴 요청의 토큰 (완료 기록에는 없음)
+        private String owner;
+    }
+}
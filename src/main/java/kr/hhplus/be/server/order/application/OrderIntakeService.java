@@ -0,0 +1,160 @@
+package kr.hhplus.be.server.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.order.domain.OrderTicket;
+import kr.hhplus.be.server.order.domain.event.OrderRequestedEvent;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수
+ * 1. 요청 검증 → 티켓 저장(ACCEPTED) → order.requested 발행 후 바로 응답
+ * 2. Consumer가 파티션별로 순서대로 분산락 없이 주문 처리 → 티켓에 결과 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIntakeService {
+
+    private static final String TICKET_KEY_PREFIX = "order:ticket:";
+
+    private final OrderEventProducer orderEventProducer;
+    private final OrderFacade orderFacade;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderProperties orderProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OrderTicket submit(OrderRequest request) {
+        validate(request);
+
+        OrderTicket ticket = OrderTicket.accepted(UUID.randomUUID().toString(), request.getUserId());
+        saveTicket(ticket);
+
+        OrderRequestedEvent event = new OrderRequestedEvent(
+                ticket.getTicketId(),
+                request.getUserId(),
+                request.getItems().stream()
+                        .map(item -> new OrderRequestedEvent.ItemData(item.getProductId(), item.getQuantity()))
+                        .toList(),
+                request.getCouponId(),
+                LocalDateTime.now()
+        );
+
+        try {
+            orderEventProducer.publishOrderRequestedEvent(event, orderProperties.getIntake().getPublishTimeout());
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(ticketKey(ticket.getTicketId()));
+            throw e;
+        }
+
+        log.info("주문 접수: ticketId={}, userId={}, 상품수={}",
+                ticket.getTicketId(), request.getUserId(), request.getItems().size());
+        return ticket;
+    }
+
+    public OrderTicket getTicket(String ticketId) {
+        OrderTicket ticket = findTicket(ticketId);
+        if (ticket == null) {
+            throw new NoSuchElementException("해당 주문 접수 내역이 없습니다: " + ticketId);
+        }
+        return ticket;
+    }
+
+    /**
+     * 접수된 주문 처리 (Consumer에서 호출)
+     * 티켓 ID를 멱등 키로 사용하여 재전달되어도 주문은 한 번만 생성됨
+     * 재고/잔액 부족 등 업무 예외는 티켓에 실패로 기록하고,
+     * 대기 시간 초과/락 획득 실패/동일 요청 처리 중 같은 일시적 실패와 그 외 예외는 호출자에게 전파하여 재처리
+     */
+    public void process(OrderRequestedEvent event) {
+        OrderTicket ticket = findTicket(event.getTicketId());
+        if (ticket == null) {
+            ticket = OrderTicket.accepted(event.getTicketId(), event.getUserId());
+        } else if (ticket.isDone()) {
+            log.info("이미 처리된 주문 접수: ticketId={}, status={}", ticket.getTicketId(), ticket.getStatus());
+            return;
+        }
+
+        OrderRequest request = new OrderRequest(event.getUserId(), event.getItems().stream()
+                .map(item -> new OrderRequest.OrderItemRequest(item.getProductId(), item.getQuantity()))
+                .toList());
+        request.setCouponId(event.getCouponId());
+
+        // 분산락 대신 DB 조건부 갱신 기반 방식 사용
+        // 파티션 직렬 처리는 토픽 안의 순서만 보장하므로, 동기 주문(POST /orders)과의 정합성은
+        // 양쪽 모두 상대값 조건부 UPDATE로 차감하는 것으로 보장함 (절대값 쓰기 없음)
+        StockDeductionMode mode = orderProperties.getStockMode() == StockDeductionMode.DISTRIBUTED_LOCK
+                ? StockDeductionMode.CONDITIONAL_UPDATE
+                : orderProperties.getStockMode();
+
+        try {
+            OrderResponse response = orderIdempotencyService.execute(event.getTicketId(), request,
+                    () -> orderFacade.placeOrderLockFree(request, mode));
+            saveTicket(ticket.complete(response.getOrderId()));
+            log.info("접수 주문 처리 완료: ticketId={}, orderId={}", event.getTicketId(), response.getOrderId());
+        } catch (RetryableException e) {
+            // 티켓은 ACCEPTED로 두고 재전달에서 다시 처리
+            log.warn("접수 주문 일시적 실패, 재처리 예정: ticketId={}, reason={}", event.getTicketId(), e.getMessage());
+            throw e;
+        } catch (IllegalStateException | IllegalArgumentException | NoSuchElementException e) {
+            saveTicket(ticket.fail(e.getMessage()));
+            log.info("접수 주문 처리 실패: ticketId={}, reason={}", event.getTicketId(), e.getMessage());
+        }
+    }
+
+    private void validate(OrderRequest request) {
+        if (request.getUserId() == null) {
+            throw new IllegalArgumentException("사용자 ID는 null일 수 없습니다.");
+        }
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다.");
+        }
+        for (OrderRequest.OrderItemRequest item : request.getItems()) {
+            if (item.getProductId() == null) {
+                throw new IllegalArgumentException("상품 ID는 null일 수 없습니다.");
+            }
+            if (item.getQuantity() <= 0) {
+                throw new IllegalArgumentException("주문 수량은 0보다 커야 합니다.");
+            }
+        }
+    }
+
+    private OrderTicket findTicket(String ticketId) {
+        String value = stringRedisTemplate.opsForValue().get(ticketKey(ticketId));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, OrderTicket.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 티켓을 읽을 수 없습니다: " + ticketId, e);
+        }
+    }
+
+    private void saveTicket(OrderTicket ticket) {
+        try {
+            stringRedisTemplate.opsForValue().set(ticketKey(ticket.getTicketId()),
+                    objectMapper.writeValueAsString(ticket), orderProperties.getIntake().getTicketTtl());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 접수 티켓 저장에 실패했습니다.", e);
+        }
+    }
+
+    private static String ticketKey(String ticketId) {
+        return TICKET_KEY_PREFIX + ticketId;
+    }
+}
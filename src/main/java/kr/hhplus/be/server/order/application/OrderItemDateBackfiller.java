@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.order.application;
+
+import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기동 시 order_item.order_date가 비어 있는 행(컬럼 도입 이전 주문)에 orders.order_date를 복사
+ * - 인기상품 집계는 order_item.order_date만으로 기간을 거르므로, 비어 있는 행은 집계에서 빠짐
+ * - 요청을 받기 전(빈 초기화 단계)에 BATCH_SIZE건씩 짧은 트랜잭션으로 나눠 채워 행 락을 오래 잡지 않음
+ * - 비어 있는 행만 갱신하므로 여러 노드가 동시에 기동해도 안전하고, 다 채운 뒤에는 인덱스 조회 한 번으로 끝남
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderItemDateBackfiller implements InitializingBean {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            long total = 0;
+            int updated;
+            do {
+                updated = transactionTemplate.execute(status -> orderItemRepository.backfillOrderDate(BATCH_SIZE));
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("주문 아이템 주문 일시 백필 완료: {}건", total);
+            }
+        } catch (DataAccessException e) {
+            // 채우지 못한 행은 인기상품 집계에서 빠짐 (다음 기동 시 이어서 채움)
+            log.warn("주문 아이템 주문 일시 백필 실패 - 남은 행은 인기상품 집계에서 빠질 수 있음: {}", e.getMessage());
+        }
+    }
+}
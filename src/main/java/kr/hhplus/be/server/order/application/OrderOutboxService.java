@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.order.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
+import kr.hhplus.be.server.order.domain.repository.OrderOutboxRepository;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 이벤트 아웃박스 기록
+ * 호출한 주문 트랜잭션에 함께 커밋되므로 주문이 저장되면 이벤트도 반드시 남음
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxService {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OrderCompletedEvent event) {
+        orderOutboxRepository.save(new OrderOutbox(
+                OrderEventProducer.ORDER_COMPLETED_TOPIC,
+                event.getOrderId().toString(),
+                event.getClass().getName(),
+                toJson(event)
+        ));
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+}
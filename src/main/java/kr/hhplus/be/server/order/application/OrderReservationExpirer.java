@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.order.application;
+
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 유효 시간이 지난 주문 예약 만료 처리 (재고 복구)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReservationExpirer {
+
+    private final OrderReservationService orderReservationService;
+    private final OrderProperties orderProperties;
+
+    @Scheduled(fixedDelayString = "${order.reservation.expire-interval-ms:1000}")
+    public void expire() {
+        List<Long> expiredIds = orderReservationService.findExpiredIds(
+                orderProperties.getReservation().getExpireBatchSize());
+
+        int expired = 0;
+        for (Long reservationId : expiredIds) {
+            try {
+                if (orderReservationService.release(reservationId, ReservationStatus.EXPIRED)) {
+                    expired++;
+                }
+            } catch (Exception e) {
+                // PENDING으로 남아 다음 주기에 재시도
+                log.error("주문 예약 만료 처리 실패: reservationId={}, error={}", reservationId, e.getMessage(), e);
+            }
+        }
+
+        if (expired > 0) {
+            log.info("주문 예약 만료 처리 완료: {}건", expired);
+        }
+    }
+}
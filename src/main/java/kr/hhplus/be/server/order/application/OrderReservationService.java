@@ -0,0 +1,105 @@
+package kr.hhplus.be.server.order.application;
+
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.OrderReservationItem;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import kr.hhplus.be.server.order.domain.repository.OrderReservationRepository;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.application.stock.StockDeductorResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * 주문 예약 상태 관리
+ * 상태 전이는 조건부 UPDATE(status = PENDING)로 선점하여 확정/만료/취소가 동시에 일어나도 한 번만 처리됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReservationService {
+
+    private final OrderReservationRepository orderReservationRepository;
+    private final StockDeductorResolver stockDeductorResolver;
+    private final OrderProperties orderProperties;
+
+    /**
+     * 예약 저장 (재고 차감과 같은 트랜잭션)
+     */
+    @Transactional
+    public OrderReservation create(Long userId, Long couponId, StockDeductionMode stockMode,
+                                   List<OrderItem> orderItems, int totalAmount) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(orderProperties.getReservation().getTtl());
+        OrderReservation reservation = orderReservationRepository.save(
+                new OrderReservation(userId, couponId, stockMode, totalAmount, expiresAt));
+
+        orderReservationRepository.saveItems(orderItems.stream()
+                .map(item -> new OrderReservationItem(reservation.getReservationId(),
+                        item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .toList());
+
+        return reservation;
+    }
+
+    /**
+     * 확정 선점 (호출자 트랜잭션에 참여, 확정 처리가 롤백되면 PENDING으로 되돌아감)
+     * 선점 전에 예약을 조회하면 영속성 컨텍스트에 이전 상태가 남으므로 선점 후 조회
+     */
+    @Transactional
+    public OrderReservation claimForConfirm(Long reservationId) {
+        if (orderReservationRepository.confirmIfNotExpired(reservationId, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("확정할 수 없는 주문 예약입니다 (이미 처리되었거나 만료됨): " + reservationId);
+        }
+        return getReservation(reservationId);
+    }
+
+    @Transactional(readOnly = true)
+    public OrderReservation getReservation(Long reservationId) {
+        return orderReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new NoSuchElementException("해당 주문 예약이 없습니다: " + reservationId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderItem> getOrderItems(Long reservationId) {
+        return orderReservationRepository.findItems(reservationId).stream()
+                .map(OrderReservationItem::toOrderItem)
+                .toList();
+    }
+
+    /**
+     * 예약 해제 (만료/취소) 후 재고 복구
+     * 복구에 실패하면 트랜잭션이 롤백되어 PENDING으로 남고 다음 만료 처리에서 재시도됨
+     * @return 해제 여부 (이미 확정/해제된 예약이면 false)
+     */
+    @Transactional
+    public boolean release(Long reservationId, ReservationStatus status) {
+        if (orderReservationRepository.updateStatus(reservationId, ReservationStatus.PENDING, status) == 0) {
+            return false;
+        }
+
+        OrderReservation reservation = getReservation(reservationId);
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderReservationItem item : orderReservationRepository.findItems(reservationId)) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+
+        stockDeductorResolver.resolve(reservation.getStockMode()).restore(quantities);
+
+        log.info("주문 예약 해제: reservationId={}, status={}, 복구={}", reservationId, status, quantities);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findExpiredIds(int limit) {
+        return orderReservationRepository.findExpiredIds(LocalDateTime.now(), limit);
+    }
+}
@@ -26,7 +26,7 @@ public class OrderService {
 
         // 2. 주문 아이템들에 주문 ID 할당 후 저장
         for (OrderItem item : orderItems) {
-            item.assignToOrder(savedOrder.getOrderId());
+            item.assignToOrder(savedOrder.getOrderId(), savedOrder.getOrderDate());
             item.validateOrderItem();
         }
         orderItemRepository.saveAll(orderItems);
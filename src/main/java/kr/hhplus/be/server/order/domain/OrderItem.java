@@ -8,7 +8,8 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_item")
+@Table(name = "order_item",
+        indexes = @Index(name = "idx_order_item_date_product_qty", columnList = "order_date, product_id, quantity"))
 @Getter
 @NoArgsConstructor
 public class OrderItem {
@@ -48,10 +49,13 @@ public class OrderItem {
         this.productId = productId;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
+        this.totalPrice = quantity * unitPrice;
     }
 
-    public void assignToOrder(Long orderId) {
+    // 주문 일시를 함께 기록하여 인기상품 집계가 orders 조인 없이 인덱스만으로 처리되도록 함
+    public void assignToOrder(Long orderId, LocalDateTime orderDate) {
         this.orderId = orderId;
+        this.orderDate = orderDate;
     }
 
     public void validateOrderItem() {
@@ -62,5 +66,4 @@ public class OrderItem {
             throw new IllegalArgumentException("상품 가격은 0보다 커야 합니다.");
         }
     }
-
-    }
+}
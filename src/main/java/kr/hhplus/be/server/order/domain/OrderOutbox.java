@@ -0,0 +1,61 @@
+package kr.hhplus.be.server.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 이벤트 아웃박스
+ * 주문 트랜잭션 안에서 이벤트를 기록하고, 릴레이가 Kafka 발행에 성공하면 삭제함
+ * (테이블에 남아 있는 행 = 아직 발행되지 않은 이벤트)
+ */
+@Entity
+@Table(name = "order_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    // 컨슈머 JsonDeserializer가 사용할 타입 정보 (__TypeId__ 헤더)
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // 릴레이가 발행하려고 선점한 만료 시각 (null이거나 지났으면 다른 릴레이가 가져갈 수 있음)
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OrderOutbox(String topic, String messageKey, String eventType, String payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.order.domain;
+
+import jakarta.persistence.*;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 예약 (2단계 주문의 1단계)
+ * 재고만 차감된 상태로 expiresAt 전까지 확정(포인트/쿠폰/주문 저장)을 기다림
+ */
+@Entity
+@Table(name = "order_reservation",
+        indexes = @Index(name = "idx_order_reservation_status_expires", columnList = "status, expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "coupon_id")
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ReservationStatus status;
+
+    // 예약 시점의 재고 차감 방식 (복구 시 같은 방식으로 되돌림)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stock_mode", nullable = false, length = 30)
+    private StockDeductionMode stockMode;
+
+    // 쿠폰 적용 전 금액
+    @Column(name = "total_amount", nullable = false)
+    private int totalAmount;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OrderReservation(Long userId, Long couponId, StockDeductionMode stockMode,
+                            int totalAmount, LocalDateTime expiresAt) {
+        this.userId = userId;
+        this.couponId = couponId;
+        this.stockMode = stockMode;
+        this.totalAmount = totalAmount;
+        this.status = ReservationStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public void assignOrder(Long orderId) {
+        this.orderId = orderId;
+    }
+}
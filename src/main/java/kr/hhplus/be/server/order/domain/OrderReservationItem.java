@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.order.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "order_reservation_item",
+        indexes = @Index(name = "idx_order_reservation_item_reservation", columnList = "reservation_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderReservationItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_item_id")
+    private Long reservationItemId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "unit_price", nullable = false)
+    private int unitPrice;
+
+    public OrderReservationItem(Long reservationId, Long productId, int quantity, int unitPrice) {
+        this.reservationId = reservationId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public OrderItem toOrderItem() {
+        return new OrderItem(productId, quantity, unitPrice);
+    }
+}
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.order.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 주문 접수 티켓 (Redis 저장, 클라이언트가 처리 결과를 조회)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTicket {
+
+    public enum Status {
+        ACCEPTED, COMPLETED, FAILED
+    }
+
+    private String ticketId;
+    private Long userId;
+    private Status status;
+    private Long orderId;
+    private String message;
+    private LocalDateTime updatedAt;
+
+    public static OrderTicket accepted(String ticketId, Long userId) {
+        return new OrderTicket(ticketId, userId, Status.ACCEPTED, null, null, LocalDateTime.now());
+    }
+
+    public OrderTicket complete(Long orderId) {
+        return new OrderTicket(ticketId, userId, Status.COMPLETED, orderId, null, LocalDateTime.now());
+    }
+
+    public OrderTicket fail(String message) {
+        return new OrderTicket(ticketId, userId, Status.FAILED, null, message, LocalDateTime.now());
+    }
+
+    public boolean isDone() {
+        return status != Status.ACCEPTED;
+    }
+}
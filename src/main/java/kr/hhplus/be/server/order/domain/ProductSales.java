@@ -0,0 +1,8 @@
+package kr.hhplus.be.server.order.domain;
+
+/**
+ * 상품별 판매 수량 (집계 쿼리 projection, 엔티티를 적재하지 않음)
+ * 집계 쿼리에서는 기간 내 합계, 스트리밍 조회에서는 주문 아이템 한 건의 수량
+ */
+public record ProductSales(Long productId, long quantity) {
+}
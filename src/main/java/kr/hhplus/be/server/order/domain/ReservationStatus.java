@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.order.domain;
+
+public enum ReservationStatus {
+    // 재고 예약됨, 확정 대기
+    PENDING,
+    // 결제/주문 저장 완료
+    CONFIRMED,
+    // 유효 시간 초과로 재고 복구됨
+    EXPIRED,
+    // 사용자 취소로 재고 복구됨
+    CANCELLED
+}
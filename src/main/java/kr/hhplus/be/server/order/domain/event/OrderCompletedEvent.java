@@ -1,5 +1,8 @@
 package kr.hhplus.be.server.order.domain.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import lombok.Getter;
 
@@ -29,17 +32,39 @@ public class OrderCompletedEvent {
         this.eventId = generateEventId();
     }
 
+    // Kafka 컨슈머 역직렬화용 (발행 시점의 eventId, orderTime을 그대로 복원)
+    @JsonCreator
+    private OrderCompletedEvent(@JsonProperty("orderId") Long orderId,
+                                @JsonProperty("userId") Long userId,
+                                @JsonProperty("orderItems") List<OrderItemData> orderItems,
+                                @JsonProperty("totalAmount") int totalAmount,
+                                @JsonProperty("couponId") Long couponId,
+                                @JsonProperty("orderTime") LocalDateTime orderTime,
+                                @JsonProperty("eventId") String eventId) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.orderItems = orderItems == null ? List.of() : orderItems;
+        this.totalAmount = totalAmount;
+        this.couponId = couponId;
+        this.orderTime = orderTime;
+        this.eventId = eventId;
+    }
+
     private String generateEventId() {
         return "ORDER_" + orderId + "_" + System.nanoTime();
     }
 
     @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true) // totalPrice는 계산 값
     public static class OrderItemData {
         private final Long productId;
         private final int quantity;
         private final int price;
 
-        public OrderItemData(Long productId, int quantity, int price) {
+        @JsonCreator
+        public OrderItemData(@JsonProperty("productId") Long productId,
+                             @JsonProperty("quantity") int quantity,
+                             @JsonProperty("price") int price) {
             this.productId = productId;
             this.quantity = quantity;
             this.price = price;
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.order.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 비동기 주문 접수 이벤트 (order.requested)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRequestedEvent {
+    private String ticketId; // 접수 티켓 ID (멱등성 키로도 사용)
+    private Long userId;
+    private List<ItemData> items;
+    private Long couponId;
+    private LocalDateTime requestedAt;
+
+    /**
+     * 파티션 키: 주문에 포함된 가장 작은 상품 ID
+     */
+    public String partitionKey() {
+        return items.stream()
+                .map(ItemData::getProductId)
+                .min(Comparator.naturalOrder())
+                .map(String::valueOf)
+                .orElse(ticketId);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemData {
+        private Long productId;
+        private int quantity;
+    }
+}
@@ -1,14 +1,20 @@
 package kr.hhplus.be.server.order.domain.repository;
 
 import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.ProductSales;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderItemRepository {
     OrderItem save(OrderItem orderItem);
     List<OrderItem> saveAll(List<OrderItem> orderItems);
     List<OrderItem> findByOrderId(Long orderId);
-    // 전체 상품의 특정 기간 판매 데이터 조회
-    List<OrderItem> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+    // 특정 기간 판매 수량 상위 limit개 상품 (DB에서 GROUP BY 집계, 판매량 내림차순)
+    List<ProductSales> findTopSellingProducts(LocalDateTime startDate, LocalDateTime endDate, int limit);
+    // 특정 기간 주문 아이템의 (상품 ID, 수량)을 한 행씩 스트리밍 (호출자 트랜잭션 안에서 사용 후 close 필요)
+    Stream<ProductSales> streamSalesBetween(LocalDateTime startDate, LocalDateTime endDate);
+    // order_date가 비어 있는 주문 아이템에 주문 일시를 최대 batchSize건 채움 (채운 건수 반환, 트랜잭션 안에서 호출)
+    int backfillOrderDate(int batchSize);
 }
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.order.domain.repository;
+
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderOutboxRepository {
+    OrderOutbox save(OrderOutbox outbox);
+    // 선점되지 않았거나 선점이 만료된 대기 이벤트를 기록 순으로 잠금 (다른 노드가 잠근 행은 건너뜀)
+    List<OrderOutbox> findClaimableForUpdate(LocalDateTime now, int limit);
+    // 발행할 이벤트 선점 (claimedUntil까지 다른 릴레이가 가져가지 않음)
+    int claim(Collection<Long> outboxIds, LocalDateTime claimedUntil);
+    // 발행 완료 이벤트 삭제
+    int deleteAllByIds(Collection<Long> outboxIds);
+    // 발행 실패 기록 (시도 횟수 증가, 선점 해제)
+    int markFailed(Collection<Long> outboxIds, String error);
+    long countPending();
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+}
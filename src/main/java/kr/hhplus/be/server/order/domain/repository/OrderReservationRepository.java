@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.order.domain.repository;
+
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.OrderReservationItem;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderReservationRepository {
+    OrderReservation save(OrderReservation reservation);
+    List<OrderReservationItem> saveItems(List<OrderReservationItem> items);
+    Optional<OrderReservation> findById(Long reservationId);
+    List<OrderReservationItem> findItems(Long reservationId);
+    // 상태 선점 (from → to), 반환값: 영향 행 수 (0이면 다른 요청이 이미 처리)
+    int updateStatus(Long reservationId, ReservationStatus from, ReservationStatus to);
+    // 만료 전 예약만 확정 상태로 선점
+    int confirmIfNotExpired(Long reservationId, LocalDateTime now);
+    // 만료 시각이 지난 PENDING 예약 ID (만료 시각 순)
+    List<Long> findExpiredIds(LocalDateTime now, int limit);
+}
@@ -1,13 +1,16 @@
 package kr.hhplus.be.server.order.infrastructure;
 
 import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.ProductSales;
 import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
 import kr.hhplus.be.server.order.infrastructure.repository.OrderItemJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -30,7 +33,17 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     }
 
     @Override
-    public List<OrderItem> findByOrderDateBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        return orderItemJpaRepository.findByOrderDateBetween(startDate, endDate);
+    public List<ProductSales> findTopSellingProducts(LocalDateTime startDate, LocalDateTime endDate, int limit) {
+        return orderItemJpaRepository.findTopSellingProducts(startDate, endDate, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public Stream<ProductSales> streamSalesBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return orderItemJpaRepository.streamSalesBetween(startDate, endDate);
+    }
+
+    @Override
+    public int backfillOrderDate(int batchSize) {
+        return orderItemJpaRepository.backfillOrderDate(batchSize);
     }
 }
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.order.infrastructure;
+
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import kr.hhplus.be.server.order.domain.repository.OrderOutboxRepository;
+import kr.hhplus.be.server.order.infrastructure.repository.OrderOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
+    private final OrderOutboxJpaRepository orderOutboxJpaRepository;
+
+    @Override
+    public OrderOutbox save(OrderOutbox outbox) {
+        return orderOutboxJpaRepository.save(outbox);
+    }
+
+    @Override
+    public List<OrderOutbox> findClaimableForUpdate(LocalDateTime now, int limit) {
+        return orderOutboxJpaRepository.findClaimableForUpdate(now, limit);
+    }
+
+    @Override
+    public int claim(Collection<Long> outboxIds, LocalDateTime claimedUntil) {
+        return orderOutboxJpaRepository.claim(outboxIds, claimedUntil);
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> outboxIds) {
+        return orderOutboxJpaRepository.deleteAllByIds(outboxIds);
+    }
+
+    @Override
+    public int markFailed(Collection<Long> outboxIds, String error) {
+        return orderOutboxJpaRepository.markFailed(outboxIds, error);
+    }
+
+    @Override
+    public long countPending() {
+        return orderOutboxJpaRepository.count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestPendingCreatedAt() {
+        return Optional.ofNullable(orderOutboxJpaRepository.findOldestCreatedAt());
+    }
+}
@@ -0,0 +1,58 @@
+package kr.hhplus.be.server.order.infrastructure;
+
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.OrderReservationItem;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import kr.hhplus.be.server.order.domain.repository.OrderReservationRepository;
+import kr.hhplus.be.server.order.infrastructure.repository.OrderReservationItemJpaRepository;
+import kr.hhplus.be.server.order.infrastructure.repository.OrderReservationJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderReservationRepositoryImpl implements OrderReservationRepository {
+    private final OrderReservationJpaRepository orderReservationJpaRepository;
+    private final OrderReservationItemJpaRepository orderReservationItemJpaRepository;
+
+    @Override
+    public OrderReservation save(OrderReservation reservation) {
+        return orderReservationJpaRepository.save(reservation);
+    }
+
+    @Override
+    public List<OrderReservationItem> saveItems(List<OrderReservationItem> items) {
+        return orderReservationItemJpaRepository.saveAll(items);
+    }
+
+    @Override
+    public Optional<OrderReservation> findById(Long reservationId) {
+        return orderReservationJpaRepository.findById(reservationId);
+    }
+
+    @Override
+    public List<OrderReservationItem> findItems(Long reservationId) {
+        return orderReservationItemJpaRepository.findByReservationId(reservationId);
+    }
+
+    @Override
+    public int updateStatus(Long reservationId, ReservationStatus from, ReservationStatus to) {
+        return orderReservationJpaRepository.updateStatus(reservationId, from, to);
+    }
+
+    @Override
+    public int confirmIfNotExpired(Long reservationId, LocalDateTime now) {
+        return orderReservationJpaRepository.confirmIfNotExpired(reservationId, now);
+    }
+
+    @Override
+    public List<Long> findExpiredIds(LocalDateTime now, int limit) {
+        return orderReservationJpaRepository.findIdsByStatusAndExpiresAtBefore(
+                ReservationStatus.PENDING, now, PageRequest.of(0, limit));
+    }
+}
@@ -1,11 +1,16 @@
 package kr.hhplus.be.server.order.infrastructure.kafka;
 
-import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
+import kr.hhplus.be.server.order.domain.event.OrderRequestedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -13,49 +18,28 @@ public class OrderEventProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
-    private static final String ORDER_COMPLETED_TOPIC = "order.completed";
+    public static final String ORDER_COMPLETED_TOPIC = "order.completed";
+    public static final String ORDER_REQUESTED_TOPIC = "order.requested";
 
     /**
-     * 주문 완료 이벤트를 Kafka로 발행
+     * 주문 접수 이벤트 발행 (브로커 저장 확인까지 대기)
+     * 가장 작은 상품 ID를 키로 사용하여 같은 상품 주문이 한 파티션에 모이게 함
+     * @throws IllegalStateException 발행 실패 또는 대기 시간 초과
      */
-    public void publishOrderCompletedEvent(OrderCompletedEvent event) {
+    public void publishOrderRequestedEvent(OrderRequestedEvent event, Duration timeout) {
         try {
-            log.info("주문 완료 이벤트 발행 시작: orderId={}, eventId={}",
-                    event.getOrderId(), event.getEventId());
-
-            kafkaTemplate.send(ORDER_COMPLETED_TOPIC, event.getOrderId().toString(), event)
-                    .whenComplete((result, throwable) -> {
-                        if (throwable != null) {
-                            log.error("Kafka 메시지 발행 실패: orderId={}, eventId={}, error={}",
-                                    event.getOrderId(), event.getEventId(), throwable.getMessage());
-                            handlePublishFailure(event, throwable);
-                        } else {
-                            log.info("Kafka 메시지 발행 성공: orderId={}, eventId={}, partition={}, offset={}",
-                                    event.getOrderId(), event.getEventId(),
-                                    result.getRecordMetadata().partition(),
-                                    result.getRecordMetadata().offset());
-                        }
-                    });
-
-        } catch (Exception e) {
-            log.error("Kafka 메시지 발행 중 예외: orderId={}, eventId={}, error={}",
-                    event.getOrderId(), event.getEventId(), e.getMessage());
-            handlePublishFailure(event, e);
+            var result = kafkaTemplate.send(ORDER_REQUESTED_TOPIC, event.partitionKey(), event)
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+            log.info("주문 접수 이벤트 발행 성공: ticketId={}, key={}, partition={}, offset={}",
+                    event.getTicketId(), event.partitionKey(),
+                    result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 접수 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("주문 접수 이벤트 발행 실패: ticketId={}, error={}", event.getTicketId(), e.getMessage());
+            throw new IllegalStateException("주문 접수에 실패했습니다. 잠시 후 다시 시도해주세요.", e);
         }
     }
-
-    /**
-     * 발행 실패 처리 (fallback 메커니즘)
-     */
-    private void handlePublishFailure(OrderCompletedEvent event, Throwable throwable) {
-        log.error("이벤트 발행 실패 - fallback 처리: orderId={}, eventId={}, error={}",
-                event.getOrderId(), event.getEventId(), throwable.getMessage());
-
-        saveFailedEvent(event, throwable.getMessage());
-    }
-
-    private void saveFailedEvent(OrderCompletedEvent event, String errorMessage) {
-        log.info("실패 이벤트 저장: orderId={}, eventId={}", event.getOrderId(), event.getEventId());
-        // 실패한 이벤트를 DB에 저장하는 로직
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package kr.hhplus.be.server.order.infrastructure.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import kr.hhplus.be.server.order.domain.repository.OrderOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이벤트 아웃박스 → Kafka 릴레이
+ * - 짧은 트랜잭션으로 대기 이벤트를 batchSize만큼 선점(SKIP LOCKED 후 claimed_until 기록)하고 바로 커밋,
+ *   트랜잭션 밖에서 한꺼번에 전송한 뒤 새 트랜잭션으로 확인된 행만 삭제
+ *   (브로커 응답을 기다리는 동안 DB 커넥션과 행 락을 잡고 있지 않음)
+ * - 전송이 확인되지 않은 행은 선점을 풀어 다음 주기에 재발행, 선점한 노드가 죽으면 claimTimeout 뒤에 재발행
+ *   (at-least-once, 컨슈머는 eventId로 중복 제거)
+ * - 지표: order.outbox.pending(대기 건수), order.outbox.oldest.age(가장 오래된 대기 이벤트 경과 시간),
+ *        order.outbox.relay.lag(기록 → 브로커 확인까지 걸린 시간), order.outbox.relayed / order.outbox.failed
+ */
+@Component
+@Slf4j
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderProperties orderProperties;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestAgeMillis = new AtomicLong();
+    private final Timer relayLag;
+    private final Counter relayed;
+    private final Counter failed;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                            TransactionTemplate transactionTemplate,
+                            OrderProperties orderProperties,
+                            MeterRegistry meterRegistry) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.orderProperties = orderProperties;
+
+        Gauge.builder("order.outbox.pending", pending, AtomicLong::get)
+                .description("발행 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.oldest.age", oldestAgeMillis, value -> value.get() / 1000.0)
+                .description("가장 오래된 발행 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.relayLag = Timer.builder("order.outbox.relay.lag")
+                .description("아웃박스 기록부터 브로커 확인까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.relayed = Counter.builder("order.outbox.relayed").register(meterRegistry);
+        this.failed = Counter.builder("order.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:100}")
+    public void relay() {
+        try {
+            int batchSize = orderProperties.getOutbox().getBatchSize();
+            int sent;
+            // 가득 찬 배치가 나가면 밀린 이벤트가 더 있는 것이므로 주기를 기다리지 않고 이어서 발행
+            do {
+                sent = relayBatch(batchSize);
+            } while (sent == batchSize);
+
+        } catch (Exception e) {
+            // 선점 전에 실패했으면 다음 주기에, 선점 후 결과를 기록하지 못했으면 claimTimeout 뒤에 재시도됨
+            log.error("아웃박스 릴레이 실패: {}", e.getMessage(), e);
+        } finally {
+            refreshBacklogMetrics();
+        }
+    }
+
+    /**
+     * @return 브로커 확인까지 완료된 이벤트 수
+     */
+    private int relayBatch(int batchSize) {
+        List<OrderOutbox> events = transactionTemplate.execute(status -> claimBatch(batchSize));
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        // 전부 send만 먼저 걸어 두면 프로듀서가 파티션별로 묶어 압축 전송함
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OrderOutbox event : events) {
+            try {
+                futures.add(outboxKafkaTemplate.send(toRecord(event)));
+            } catch (RuntimeException e) {
+                // 메타데이터 대기 초과 등 즉시 실패도 선점을 풀어 다음 주기에 재발행되도록 실패로 기록
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        long deadline = System.nanoTime() + orderProperties.getOutbox().getSendTimeout().toNanos();
+        List<Long> sentIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        String lastError = null;
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < events.size(); i++) {
+            OrderOutbox event = events.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(event.getOutboxId());
+                relayLag.record(Duration.between(event.getCreatedAt(), now));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(event.getOutboxId());
+                lastError = "interrupted";
+            } catch (ExecutionException | TimeoutException e) {
+                failedIds.add(event.getOutboxId());
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+        }
+
+        String error = abbreviate(lastError);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                orderOutboxRepository.deleteAllByIds(sentIds);
+            }
+            if (!failedIds.isEmpty()) {
+                orderOutboxRepository.markFailed(failedIds, error);
+            }
+        });
+
+        relayed.increment(sentIds.size());
+        if (!failedIds.isEmpty()) {
+            failed.increment(failedIds.size());
+            log.warn("아웃박스 이벤트 발행 실패 - 다음 주기에 재시도: 실패={}, 성공={}, error={}",
+                    failedIds.size(), sentIds.size(), lastError);
+        }
+
+        log.debug("아웃박스 릴레이 완료: 발행={}, 실패={}", sentIds.size(), failedIds.size());
+        return failedIds.isEmpty() ? sentIds.size() : 0;
+    }
+
+    // 선점 만료 시각만 기록하고 커밋하므로 행 락은 이 트랜잭션 안에서만 잡음
+    private List<OrderOutbox> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderOutbox> events = orderOutboxRepository.findClaimableForUpdate(now, batchSize);
+        if (!events.isEmpty()) {
+            orderOutboxRepository.claim(events.stream().map(OrderOutbox::getOutboxId).toList(),
+                    now.plus(orderProperties.getOutbox().getClaimTimeout()));
+        }
+        return events;
+    }
+
+    private ProducerRecord<String, String> toRecord(OrderOutbox event) {
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        // JsonSerializer로 보낸 메시지와 같은 타입 헤더를 붙여 기존 컨슈머가 그대로 역직렬화하도록 함
+        record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void refreshBacklogMetrics() {
+        try {
+            pending.set(orderOutboxRepository.countPending());
+            oldestAgeMillis.set(orderOutboxRepository.findOldestPendingCreatedAt()
+                    .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("아웃박스 지표 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String abbreviate(String message) {
+        if (message == null || message.length() <= 500) {
+            return message;
+        }
+        return message.substring(0, 500);
+    }
+}
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.order.infrastructure.kafka;
+
+import kr.hhplus.be.server.order.application.OrderIntakeService;
+import kr.hhplus.be.server.order.domain.event.OrderRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비동기 주문 접수 처리
+ * 파티션마다 한 스레드가 순서대로 처리하므로 같은 상품 키의 주문끼리는 경합하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderRequestedConsumer {
+
+    private final OrderIntakeService orderIntakeService;
+
+    @KafkaListener(
+            topics = OrderEventProducer.ORDER_REQUESTED_TOPIC,
+            groupId = "order-intake-group",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleOrderRequested(
+            @Payload OrderRequestedEvent event,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) String partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) {
+
+        log.debug("주문 접수 메시지 수신: ticketId={}, partition={}, offset={}", event.getTicketId(), partition, offset);
+
+        try {
+            orderIntakeService.process(event);
+            acknowledgment.acknowledge();
+        } catch (Exception e) {
+            // 업무 실패는 티켓에 기록되므로 여기까지 온 예외는 일시 장애로 보고 재처리
+            log.error("주문 접수 처리 중 오류 - 재처리 예정: ticketId={}, error={}", event.getTicketId(), e.getMessage(), e);
+            acknowledgment.nack(Duration.ofSeconds(1));
+        }
+    }
+}
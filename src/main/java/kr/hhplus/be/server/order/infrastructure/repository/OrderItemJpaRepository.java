@@ -1,21 +1,52 @@
 package kr.hhplus.be.server.order.infrastructure.repository;
 
+import jakarta.persistence.QueryHint;
 import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.ProductSales;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface OrderItemJpaRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findByOrderId(Long orderId);
 
-    // 상위 상품 조회를 위해 전체 판매 데이터 조회
-    @Query("SELECT oi FROM OrderItem oi " +
-            "JOIN Order o ON oi.orderId = o.orderId " +
-            "WHERE o.orderDate BETWEEN :startDate AND :endDate")
-    List<OrderItem> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate,
-                                           @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+    // 상위 상품 집계 (order_item(order_date, product_id, quantity) 인덱스만으로 처리, 결과는 상품 수만큼)
+    @Query("SELECT new kr.hhplus.be.server.order.domain.ProductSales(oi.productId, SUM(oi.quantity)) " +
+            "FROM OrderItem oi " +
+            "WHERE oi.orderDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY oi.productId " +
+            "ORDER BY SUM(oi.quantity) DESC")
+    List<ProductSales> findTopSellingProducts(@Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate,
+                                              Pageable pageable);
+
+    // 집계 쿼리를 쓸 수 없을 때의 대체 경로: 엔티티 대신 (상품 ID, 수량)만 한 행씩 전달
+    // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 메모리에 모으지 않고 스트리밍함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new kr.hhplus.be.server.order.domain.ProductSales(oi.productId, CAST(oi.quantity AS Long)) " +
+            "FROM OrderItem oi " +
+            "WHERE oi.orderDate BETWEEN :startDate AND :endDate")
+    Stream<ProductSales> streamSalesBetween(@Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
+
+    // order_date 도입 이전 행에 주문 일시 복사 (order_date 인덱스로 NULL 행만 찾아 batchSize개씩)
+    @Modifying
+    @Query(value = "UPDATE order_item oi " +
+            "SET oi.order_date = (SELECT o.order_date FROM orders o WHERE o.order_id = oi.order_id) " +
+            "WHERE oi.order_date IS NULL " +
+            "AND EXISTS (SELECT 1 FROM orders o WHERE o.order_id = oi.order_id) " +
+            "LIMIT :batchSize", nativeQuery = true)
+    int backfillOrderDate(@Param("batchSize") int batchSize);
+}
@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.order.infrastructure.repository;
+
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutbox, Long> {
+
+    @Query(value = "SELECT * FROM order_outbox WHERE claimed_until IS NULL OR claimed_until < :now " +
+            "ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OrderOutbox> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OrderOutbox o SET o.claimedUntil = :claimedUntil WHERE o.outboxId IN :ids")
+    int claim(@Param("ids") Collection<Long> outboxIds, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    @Modifying
+    @Query("DELETE FROM OrderOutbox o WHERE o.outboxId IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> outboxIds);
+
+    @Modifying
+    @Query("UPDATE OrderOutbox o SET o.attempts = o.attempts + 1, o.lastError = :error, o.claimedUntil = NULL " +
+            "WHERE o.outboxId IN :ids")
+    int markFailed(@Param("ids") Collection<Long> outboxIds, @Param("error") String error);
+
+    @Query(value = "SELECT created_at FROM order_outbox ORDER BY outbox_id LIMIT 1", nativeQuery = true)
+    LocalDateTime findOldestCreatedAt();
+}
@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.order.infrastructure.repository;
+
+import kr.hhplus.be.server.order.domain.OrderReservationItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderReservationItemJpaRepository extends JpaRepository<OrderReservationItem, Long> {
+
+    List<OrderReservationItem> findByReservationId(Long reservationId);
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.order.infrastructure.repository;
+
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderReservationJpaRepository extends JpaRepository<OrderReservation, Long> {
+
+    @Modifying
+    @Query("UPDATE OrderReservation r SET r.status = :to WHERE r.reservationId = :id AND r.status = :from")
+    int updateStatus(@Param("id") Long reservationId,
+                     @Param("from") ReservationStatus from,
+                     @Param("to") ReservationStatus to);
+
+    @Modifying
+    @Query("UPDATE OrderReservation r SET r.status = kr.hhplus.be.server.order.domain.ReservationStatus.CONFIRMED " +
+            "WHERE r.reservationId = :id " +
+            "AND r.status = kr.hhplus.be.server.order.domain.ReservationStatus.PENDING " +
+            "AND r.expiresAt > :now")
+    int confirmIfNotExpired(@Param("id") Long reservationId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r.reservationId FROM OrderReservation r " +
+            "WHERE r.status = :status AND r.expiresAt <= :now ORDER BY r.expiresAt")
+    List<Long> findIdsByStatusAndExpiresAtBefore(@Param("status") ReservationStatus status,
+                                                 @Param("now") LocalDateTime now,
+                                                 Pageable pageable);
+}
@@ -1,20 +1,35 @@
 package kr.hhplus.be.server.order.presentation;
 
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.common.lock.exception.DistributedLockException;
 import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.application.OrderIdempotencyService;
+import kr.hhplus.be.server.order.application.OrderIntakeService;
+import kr.hhplus.be.server.order.application.OrderReservationService;
 import kr.hhplus.be.server.order.domain.Order;
 import kr.hhplus.be.server.common.CommonResponse;
 import kr.hhplus.be.server.common.CommonResultCode;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.order.presentation.dto.response.OrderReservationResponse;
 import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,13 +37,101 @@ import java.util.List;
 public class OrderController {
 
     private final OrderFacade orderFacade;
+    private final OrderProperties orderProperties;
+    private final OrderReservationService orderReservationService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderIntakeService orderIntakeService;
 
     @PostMapping
-    public ResponseEntity<CommonResponse> placeOrder(@RequestBody OrderRequest request) {
-        OrderResponse orderResponse = orderFacade.placeOrder(request);
+    public ResponseEntity<CommonResponse> placeOrder(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestBody OrderRequest request) {
+        // Idempotency-Key가 있으면 같은 키의 재시도에 저장된 응답을 반환
+        OrderResponse orderResponse;
+        try {
+            orderResponse = idempotencyKey == null
+                    ? place(request)
+                    : orderIdempotencyService.execute(idempotencyKey, request, () -> place(request));
+        } catch (RetryableException e) {
+            // 같은 키의 요청이 처리 중이거나 일시적 실패 → 409, 같은 요청으로 다시 시도하면 됨
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(CommonResponse.of(CommonResultCode.ORDER_RETRY_LATER, e.getMessage()));
+        }
 
         return ResponseEntity.ok(
                 CommonResponse.of(CommonResultCode.ORDER_SUCCESS, orderResponse)
         );
     }
-}
\ No newline at end of file
+
+    // 멀티락 주문을 요청 스레드 점유 없이 처리 (락 대기 중 스레드를 잡지 않고, 처리 결과는 같은 응답으로 반환)
+    // 락 획득 실패는 409로 응답하며 같은 요청으로 다시 시도하면 됨
+    @PostMapping("/nonblocking")
+    public CompletableFuture<ResponseEntity<CommonResponse>> placeOrderNonBlocking(@RequestBody OrderRequest request) {
+        return orderFacade.placeOrderAsync(request)
+                .handle((orderResponse, error) -> {
+                    if (error == null) {
+                        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.ORDER_SUCCESS, orderResponse));
+                    }
+
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof DistributedLockException || cause instanceof RetryableException) {
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                .body(CommonResponse.of(CommonResultCode.ORDER_RETRY_LATER, cause.getMessage()));
+                    }
+                    throw error instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(cause);
+                });
+    }
+
+    // 비동기 주문 접수 (202 + 티켓 반환, 처리 결과는 티켓으로 조회)
+    @PostMapping("/async")
+    public ResponseEntity<CommonResponse> placeOrderAsync(@RequestBody OrderRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(CommonResponse.of(CommonResultCode.ORDER_ACCEPTED, orderIntakeService.submit(request)));
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<CommonResponse> getTicket(@PathVariable(name = "ticketId") String ticketId) {
+        return ResponseEntity.ok(
+                CommonResponse.of(CommonResultCode.GET_ORDER_TICKET_SUCCESS, orderIntakeService.getTicket(ticketId)));
+    }
+
+    // 2단계 주문 - 재고 예약 (PENDING 예약 ID 반환)
+    @PostMapping("/reservations")
+    public ResponseEntity<CommonResponse> reserveOrder(@RequestBody OrderRequest request) {
+        OrderReservationResponse response = OrderReservationResponse.from(orderFacade.reserveOrder(request));
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.ORDER_RESERVE_SUCCESS, response));
+    }
+
+    // 2단계 주문 - 예약 확정 (주문 확정 스레드 풀에서 처리, 요청 스레드는 바로 반환)
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public CompletableFuture<ResponseEntity<CommonResponse>> confirmOrder(
+            @PathVariable(name = "reservationId") Long reservationId) {
+        return orderFacade.confirmOrder(reservationId)
+                .thenApply(orderResponse -> ResponseEntity.ok(
+                        CommonResponse.of(CommonResultCode.ORDER_CONFIRM_SUCCESS, orderResponse)));
+    }
+
+    @GetMapping("/reservations/{reservationId}")
+    public ResponseEntity<CommonResponse> getReservation(@PathVariable(name = "reservationId") Long reservationId) {
+        OrderReservationResponse response = OrderReservationResponse.from(
+                orderReservationService.getReservation(reservationId));
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.GET_ORDER_RESERVATION_SUCCESS, response));
+    }
+
+    @DeleteMapping("/reservations/{reservationId}")
+    public ResponseEntity<CommonResponse> cancelReservation(@PathVariable(name = "reservationId") Long reservationId) {
+        orderFacade.cancelReservation(reservationId);
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.ORDER_RESERVATION_CANCEL_SUCCESS));
+    }
+
+    // 재고 차감 방식에 따라 멀티락 경로 / 락 미사용 경로 선택
+    private OrderResponse place(OrderRequest request) {
+        return orderProperties.getStockMode() == StockDeductionMode.DISTRIBUTED_LOCK
+                ? orderFacade.placeOrder(request)
+                : orderFacade.placeOrderLockFree(request);
+    }
+}
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.order.presentation.dto.response;
+
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class OrderReservationResponse {
+
+    private Long reservationId;
+    private Long userId;
+    private ReservationStatus status;
+    private int totalAmount;
+    private Long orderId;
+    private LocalDateTime expiresAt;
+
+    public static OrderReservationResponse from(OrderReservation reservation) {
+        return OrderReservationResponse.builder()
+                .reservationId(reservation.getReservationId())
+                .userId(reservation.getUserId())
+                .status(reservation.getStatus())
+                .totalAmount(reservation.getTotalAmount())
+                .orderId(reservation.getOrderId())
+                .expiresAt(reservation.getExpiresAt())
+                .build();
+    }
+}
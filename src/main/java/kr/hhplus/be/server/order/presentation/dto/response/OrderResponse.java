@@ -4,12 +4,14 @@ import kr.hhplus.be.server.order.domain.Order;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
 @Builder
+@Jacksonized
 public class OrderResponse {
 
     private Long orderId;
@@ -20,6 +22,7 @@ public class OrderResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class OrderItemResult {
         private Long productId;
         private int quantity;
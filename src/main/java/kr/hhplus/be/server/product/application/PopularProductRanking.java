@@ -0,0 +1,204 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.config.PopularRankingProperties;
+import kr.hhplus.be.server.order.domain.ProductSales;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Redis SortedSet 기반 기간 인기상품 랭킹
+ * - 판매량은 일별 키(popular_products:{날짜})에 누적
+ * - 기간별 합산(ZUNIONSTORE)은 요청마다 하지 않고 날짜가 들어간 고정 키에 주기적으로 만들어 두어,
+ *   조회는 ZREVRANGE 한 번으로 끝남
+ * - 날짜가 바뀌면 키 이름도 바뀌므로 첫 조회(또는 다음 재생성)에서 새 기간으로 다시 만듦
+ * - 판매가 없는 기간은 합산 키가 생기지 않으므로 빈 기간 표시 키를 재생성 주기만큼 남겨 조회마다 다시 만들지 않음
+ * - 조회 중 재생성은 노드 안에서 합산 키별로 한 번만 실행하고, 동시에 들어온 조회는 그 결과를 기다림
+ * - 재생성 후 상위 순위가 바뀌었으면 CHANGED_CHANNEL로 알려 각 노드의 로컬 스냅샷을 갱신하게 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopularProductRanking {
+
+    private static final String DAILY_KEY_PREFIX = "popular_products:";
+    private static final String UNION_KEY_PREFIX = "popular_products:union:";
+    private static final String REBUILD_GUARD_KEY = "popular_products:union:rebuilding";
+    public static final String CHANGED_CHANNEL = "popular_products:changed";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PopularRankingProperties properties;
+
+    // 합산 키별 진행 중인 조회 시 재생성
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> rebuilding = new ConcurrentHashMap<>();
+
+    public String dailyKey(LocalDate date) {
+        return DAILY_KEY_PREFIX + date;
+    }
+
+    public Duration dailyKeyTtl() {
+        return properties.dailyKeyTtl();
+    }
+
+    // 미리 합산해 두는 기간인지 여부
+    public boolean supports(int days) {
+        return properties.getWindows().contains(days);
+    }
+
+    public int maxPageSize() {
+        return properties.getMaxPageSize();
+    }
+
+    /**
+     * 최근 days일(오늘 포함) 판매량 순위 중 offset번째부터 count개
+     * 합산 키가 아직 없으면(기동 직후, 날짜 변경 직후) 한 번 만들고 다시 읽음
+     * 빈 기간 표시 키가 있으면 판매가 없는 기간이므로 다시 만들지 않고 빈 목록 반환
+     */
+    public List<ProductSales> top(int days, long offset, int count) {
+        LocalDate today = LocalDate.now();
+        String unionKey = unionKey(days, today);
+
+        Set<ZSetOperations.TypedTuple<String>> ranking = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(unionKey, offset, offset + count - 1);
+        if ((ranking == null || ranking.isEmpty()) && !rankingExists(unionKey)) {
+            rebuildOnce(days, today);
+            ranking = stringRedisTemplate.opsForZSet().reverseRangeWithScores(unionKey, offset, offset + count - 1);
+        }
+
+        List<ProductSales> results = new ArrayList<>();
+        if (ranking != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : ranking) {
+                results.add(new ProductSales(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 기간별 합산 키 재생성
+     * 여러 노드 중 주기마다 한 노드만 실행 (SET NX 보호 키, 주기만큼 유지)
+     */
+    @Scheduled(fixedDelayString = "${product.popular-ranking.rebuild-interval-ms:5000}")
+    public void refresh() {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(
+                    REBUILD_GUARD_KEY, "1", Duration.ofMillis(properties.getRebuildIntervalMs()));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return;
+            }
+
+            LocalDate today = LocalDate.now();
+            boolean moved = false;
+            for (int days : properties.getWindows()) {
+                rebuild(days, today);
+                moved |= rankingMoved(days, today);
+            }
+
+            if (moved) {
+                stringRedisTemplate.convertAndSend(CHANGED_CHANNEL, today.toString());
+            }
+        } catch (Exception e) {
+            log.warn("인기상품 합산 키 재생성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 합산 키나 빈 기간 표시 키 중 하나라도 있으면 이미 만들어진 기간
+    private boolean rankingExists(String unionKey) {
+        Long existing = stringRedisTemplate.countExistingKeys(List.of(unionKey, emptyKey(unionKey)));
+        return existing != null && existing > 0;
+    }
+
+    // 같은 합산 키를 이미 만들고 있으면 새로 만들지 않고 그 결과를 기다림
+    private void rebuildOnce(int days, LocalDate today) {
+        String unionKey = unionKey(days, today);
+        CompletableFuture<Void> ownFuture = new CompletableFuture<>();
+        CompletableFuture<Void> running = rebuilding.putIfAbsent(unionKey, ownFuture);
+        if (running != null) {
+            try {
+                running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+            return;
+        }
+
+        try {
+            // 앞선 재생성이 방금 끝났을 수 있으므로 다시 확인
+            if (!rankingExists(unionKey)) {
+                rebuild(days, today);
+            }
+            ownFuture.complete(null);
+        } catch (RuntimeException e) {
+            ownFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            rebuilding.remove(unionKey, ownFuture);
+        }
+    }
+
+    // ZUNIONSTORE는 대상 키를 원자적으로 교체하므로 조회 중에도 빈 결과가 보이지 않음
+    // 일별 키가 모두 없으면 대상 키를 지우고 0을 반환하므로, 이때는 빈 기간 표시 키를 남김
+    private void rebuild(int days, LocalDate today) {
+        String unionKey = unionKey(days, today);
+        byte[] rawUnionKey = unionKey.getBytes(StandardCharsets.UTF_8);
+        byte[][] dailyKeys = IntStream.range(0, days)
+                .mapToObj(today::minusDays)
+                .map(date -> dailyKey(date).getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        long ttlSeconds = properties.getUnionTtl().toSeconds();
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zUnionStore(rawUnionKey, dailyKeys);
+            connection.keyCommands().expire(rawUnionKey, ttlSeconds);
+            return null;
+        });
+
+        if (!results.isEmpty() && Long.valueOf(0L).equals(results.get(0))) {
+            // 판매가 생기면 다음 주기 재생성에서 합산 키가 만들어지므로 표시 키는 재생성 주기만큼만 유지
+            stringRedisTemplate.opsForValue().set(emptyKey(unionKey), "1",
+                    Duration.ofMillis(properties.getRebuildIntervalMs()));
+        }
+    }
+
+    /**
+     * 상위 maxPageSize개 (상품, 판매량) 지문을 직전 재생성 때와 비교
+     * 재생성 노드가 주기마다 바뀔 수 있으므로 직전 지문은 Redis에 보관
+     */
+    private boolean rankingMoved(int days, LocalDate today) {
+        String unionKey = unionKey(days, today);
+        Set<ZSetOperations.TypedTuple<String>> top = stringRedisTemplate.opsForZSet()
+                .reverseRangeWithScores(unionKey, 0, properties.getMaxPageSize() - 1);
+        String fingerprint = Integer.toHexString(top == null ? 0 : top.hashCode());
+
+        String fingerprintKey = unionKey + ":fingerprint";
+        String previous = stringRedisTemplate.opsForValue().getAndSet(fingerprintKey, fingerprint);
+        stringRedisTemplate.expire(fingerprintKey, properties.getUnionTtl());
+        return !fingerprint.equals(previous);
+    }
+
+    private String unionKey(int days, LocalDate today) {
+        return UNION_KEY_PREFIX + days + "d:" + today;
+    }
+
+    private static String emptyKey(String unionKey) {
+        return unionKey + ":empty";
+    }
+}
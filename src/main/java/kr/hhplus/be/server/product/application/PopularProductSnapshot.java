@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.config.PopularRankingProperties;
+import kr.hhplus.be.server.product.presentation.dto.response.PopularProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 노드 로컬 인기상품 스냅샷
+ * - 기간별 상위 순위 목록을 불변 스냅샷으로 만들어 AtomicReference 하나로 교체 (조회는 volatile 읽기 한 번)
+ * - 기본 조회(첫 페이지 headSize개)는 미리 잘라 둔 목록을 그대로 반환하므로 조회 시 할당이 없음
+ * - Redis 랭킹 재생성에서 순위 변경 알림(pub/sub)이 오면 바로, 그 외에는 refreshInterval마다 다시 만듦
+ * - 갱신 중에도 이전 스냅샷을 계속 반환하여 알림 직후 요청이 Redis/DB로 몰리지 않음
+ * Redis 랭킹(없으면 DB 집계)이 원본이고, 이 스냅샷은 최대 refreshInterval만큼 늦을 수 있는 사본
+ */
+@Component
+@Slf4j
+public class PopularProductSnapshot {
+
+    private final ProductService productService;
+    private final PopularRankingProperties properties;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+
+    public PopularProductSnapshot(ProductService productService,
+                                  PopularRankingProperties properties,
+                                  @Qualifier("popularSnapshotScheduler") ThreadPoolTaskScheduler scheduler,
+                                  RedisMessageListenerContainer listenerContainer) {
+        this.productService = productService;
+        this.properties = properties;
+        this.scheduler = scheduler;
+        this.listenerContainer = listenerContainer;
+    }
+
+    /**
+     * 최근 days일 인기상품 중 page번째 size개
+     * @return 스냅샷이 없거나 스냅샷 범위를 벗어난 요청이면 null (호출자가 Redis/DB에서 조회)
+     */
+    public List<PopularProductResponse> get(int days, int page, int size) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null || page < 0 || size <= 0) {
+            return null;
+        }
+
+        if (page == 0 && size == snapshot.headSize()) {
+            return snapshot.heads().get(days);
+        }
+
+        List<PopularProductResponse> ranking = snapshot.rankings().get(days);
+        if (ranking == null || (long) page * size + size > snapshot.depth()) {
+            return null;
+        }
+        int from = Math.min(page * size, ranking.size());
+        return ranking.subList(from, Math.min(from + size, ranking.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        PopularRankingProperties.LocalSnapshot config = properties.getLocalSnapshot();
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> requestRefresh(), new ChannelTopic(PopularProductRanking.CHANGED_CHANNEL));
+        scheduler.scheduleWithFixedDelay(this::requestRefresh, config.getRefreshInterval());
+    }
+
+    // 알림이 몰려도 대기 중인 갱신은 하나만 둠
+    private void requestRefresh() {
+        if (refreshScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        refreshScheduled.set(false);
+
+        int depth = properties.getMaxPageSize();
+        int headSize = properties.getLocalSnapshot().getHeadSize();
+        Map<Integer, List<PopularProductResponse>> rankings = new HashMap<>();
+        Map<Integer, List<PopularProductResponse>> heads = new HashMap<>();
+        try {
+            for (int days : properties.getWindows()) {
+                List<PopularProductResponse> ranking = productService.getPopularProductsFromRedis(days, 0, depth);
+                if (ranking.isEmpty()) {
+                    ranking = productService.getPopularProducts(days, depth);
+                }
+                rankings.put(days, List.copyOf(ranking));
+                heads.put(days, List.copyOf(ranking.subList(0, Math.min(headSize, ranking.size()))));
+            }
+        } catch (Exception e) {
+            // 실패하면 이전 스냅샷을 계속 사용
+            log.warn("인기상품 로컬 스냅샷 갱신 실패: {}", e.getMessage());
+            return;
+        }
+
+        current.set(new Snapshot(Map.copyOf(rankings), Map.copyOf(heads), depth, headSize));
+        log.debug("인기상품 로컬 스냅샷 갱신: windows={}", rankings.keySet());
+    }
+
+    private record Snapshot(Map<Integer, List<PopularProductResponse>> rankings,
+                            Map<Integer, List<PopularProductResponse>> heads,
+                            int depth,
+                            int headSize) {
+    }
+}
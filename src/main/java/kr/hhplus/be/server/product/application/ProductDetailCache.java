@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.product.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.common.config.ProductDetailCacheProperties;
+import kr.hhplus.be.server.product.domain.ProductDetail;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 다건 캐시 (Redis)
+ * - 여러 상품을 MGET 한 번으로 조회하고, 없는 상품만 loader로 한 번에 읽어 파이프라인으로 저장
+ * - Redis 장애 시에는 캐시 없이 loader 결과를 그대로 반환 (조회 실패가 랭킹 응답을 막지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductDetailCache {
+
+    private static final String KEY_PREFIX = "product:detail:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductDetailCacheProperties properties;
+
+    /**
+     * @param loader 캐시에 없는 상품 ID → 상품 상세 (한 번만 호출됨)
+     * @return 상품 ID → 상품 상세 (없는 상품은 포함되지 않음)
+     */
+    public Map<Long, ProductDetail> getAll(Collection<Long> productIds,
+                                           Function<Collection<Long>, Map<Long, ProductDetail>> loader) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(productIds));
+        Map<Long, ProductDetail> details = new HashMap<>();
+        if (ids.isEmpty()) {
+            return details;
+        }
+
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        try {
+            List<String> cached = stringRedisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+            for (int i = 0; cached != null && i < ids.size(); i++) {
+                ProductDetail detail = read(cached.get(i));
+                if (detail != null) {
+                    details.put(ids.get(i), detail);
+                    missing.remove(ids.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패, DB에서 조회: {}", e.getMessage());
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, ProductDetail> loaded = loader.apply(missing);
+            details.putAll(loaded);
+            putAll(loaded.values());
+        }
+        return details;
+    }
+
+    private void putAll(Collection<ProductDetail> details) {
+        if (details.isEmpty()) {
+            return;
+        }
+
+        Expiration expiration = Expiration.from(properties.getTtl());
+        try {
+            Map<byte[], byte[]> entries = new HashMap<>();
+            for (ProductDetail detail : details) {
+                entries.put(key(detail.productId()).getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(detail));
+            }
+
+            // SET EX를 한 번에 전송 (MSET은 TTL을 지정할 수 없음)
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private ProductDetail read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, ProductDetail.class);
+        } catch (JsonProcessingException e) {
+            // 형식이 바뀐 옛 값은 없는 것으로 보고 다시 적재
+            return null;
+        }
+    }
+
+    private String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.config.ProductSalesRollupProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 기동 시 과거 일 판매량 백필 (product.sales-rollup.backfill-days > 0일 때만)
+ * 집계 컨슈머를 처음 배포할 때 한 번 켜서 이전 기간을 채우는 용도
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSalesBackfillRunner implements ApplicationRunner {
+
+    private final ProductSalesRollupService productSalesRollupService;
+    private final ProductSalesRollupProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int days = properties.getBackfillDays();
+        if (days <= 0) {
+            return;
+        }
+
+        LocalDate toDate = LocalDate.now().minusDays(1);
+        LocalDate fromDate = toDate.minusDays(days - 1L);
+        try {
+            productSalesRollupService.backfill(fromDate, toDate);
+            log.info("일 판매량 백필 완료: {} ~ {}", fromDate, toDate);
+        } catch (IllegalStateException e) {
+            // 다른 노드가 이미 백필 중이면 이 노드는 건너뜀
+            log.info("일 판매량 백필 건너뜀: {}", e.getMessage());
+        }
+    }
+}
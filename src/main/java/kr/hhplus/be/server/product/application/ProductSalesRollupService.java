@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.product.application;
+
+import kr.hhplus.be.server.common.config.ProductSalesRollupProperties;
+import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.order.domain.ProductSales;
+import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 상품 일 판매량 집계(product_sales_daily) 관리
+ * - 주문 완료 이벤트 묶음을 (판매일, 상품)별 합계로 접어 batch upsert 한 번으로 반영
+ * - 이벤트 ID를 같은 트랜잭션에 기록하여 재전달된 이벤트는 다시 더하지 않음
+ * - 과거분은 주문 아이템에서 하루씩 다시 계산하여 덮어씀 (백필)
+ * - 백필한 날짜의 이벤트는 더하지 않음 (컨슈머가 earliest부터 재처리하거나 늦게 도착해도 백필 결과와 중복 합산되지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSalesRollupService {
+
+    private final ProductSalesDailyRepository productSalesDailyRepository;
+    private final ProductSalesRollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 주문 완료 이벤트 묶음 반영
+     * 중간에 실패하면 묶음 전체가 롤백되므로 컨슈머는 같은 묶음을 그대로 다시 넘기면 됨
+     * @return 새로 반영한 이벤트 수
+     */
+    @Transactional
+    public int apply(List<OrderCompletedEvent> events) {
+        Set<String> eventIds = new LinkedHashSet<>();
+        events.forEach(event -> eventIds.add(event.getEventId()));
+        Set<String> applied = productSalesDailyRepository.findAppliedEventIds(eventIds);
+
+        Set<LocalDate> salesDates = new LinkedHashSet<>();
+        events.forEach(event -> salesDates.add(event.getOrderTime().toLocalDate()));
+        Set<LocalDate> rebuilt = productSalesDailyRepository.findRebuiltDays(salesDates);
+
+        // 판매일 → 상품 ID 순으로 정렬하여 upsert (컨슈머끼리 같은 행을 반대 순서로 잠그지 않도록)
+        Map<LocalDate, Map<Long, Long>> quantities = new TreeMap<>();
+        Set<String> newlyApplied = new LinkedHashSet<>();
+        int skippedRebuilt = 0;
+        for (OrderCompletedEvent event : events) {
+            LocalDate salesDate = event.getOrderTime().toLocalDate();
+            if (rebuilt.contains(salesDate)) {
+                // 백필이 주문 아이템에서 이미 집계한 날짜
+                skippedRebuilt++;
+                continue;
+            }
+            if (applied.contains(event.getEventId()) || !newlyApplied.add(event.getEventId())) {
+                continue;
+            }
+
+            Map<Long, Long> byProduct = quantities.computeIfAbsent(salesDate, date -> new TreeMap<>());
+            for (OrderCompletedEvent.OrderItemData item : event.getOrderItems()) {
+                byProduct.merge(item.getProductId(), (long) item.getQuantity(), Long::sum);
+            }
+        }
+
+        if (skippedRebuilt > 0) {
+            log.debug("백필한 날짜의 이벤트 제외: {}건", skippedRebuilt);
+        }
+        if (newlyApplied.isEmpty()) {
+            return 0;
+        }
+
+        productSalesDailyRepository.addQuantities(quantities);
+        productSalesDailyRepository.markApplied(newlyApplied, LocalDateTime.now());
+        return newlyApplied.size();
+    }
+
+    /**
+     * [startDate, endDate] 기간 판매량 상위 limit개 상품
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSales> getTopSelling(LocalDate startDate, LocalDate endDate, int limit) {
+        return productSalesDailyRepository.findTopSelling(startDate, endDate, limit);
+    }
+
+    /**
+     * 과거 일 판매량 백필 (하루씩 별도 트랜잭션, 여러 노드가 동시에 기동해도 한 곳에서만 실행)
+     * 이미 지난 날짜만 대상으로 하므로 실시간 반영 중인 오늘 행은 건드리지 않음
+     * 백필한 날짜는 기록되어 이후 같은 날짜의 이벤트는 집계에 더하지 않음
+     */
+    @DistributedLock(
+            key = "'SALES_ROLLUP_BACKFILL'",
+            waitTime = 0L,
+            watchdog = true,
+            failMessage = "다른 노드에서 판매량 백필이 진행 중입니다."
+    )
+    public void backfill(LocalDate fromDate, LocalDate toDate) {
+        LocalDate today = LocalDate.now();
+        if (!toDate.isBefore(today)) {
+            throw new IllegalArgumentException("백필은 어제까지만 가능합니다: " + toDate);
+        }
+
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            LocalDate salesDate = date;
+            Integer products = transactionTemplate.execute(status -> productSalesDailyRepository.rebuildDay(salesDate));
+            log.info("일 판매량 백필: salesDate={}, products={}", salesDate, products);
+        }
+    }
+
+    // 보관 기간이 지난 반영 이벤트 ID 정리
+    @Scheduled(fixedDelayString = "${product.sales-rollup.cleanup-interval-ms:3600000}")
+    public void purgeAppliedEvents() {
+        int deleted = productSalesDailyRepository.deleteAppliedEventsBefore(
+                LocalDateTime.now().minus(properties.getAppliedEventRetention()));
+        if (deleted > 0) {
+            log.info("반영 이벤트 ID 정리: {}건", deleted);
+        }
+    }
+}
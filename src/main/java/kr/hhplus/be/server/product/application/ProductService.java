@@ -1,27 +1,34 @@
 package kr.hhplus.be.server.product.application;
 
+import kr.hhplus.be.server.common.exception.RetryableException;
 import kr.hhplus.be.server.common.lock.DistributedLock;
+import kr.hhplus.be.server.common.lock.FencingTokens;
 import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.ProductSales;
 import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductDetail;
 import kr.hhplus.be.server.product.presentation.dto.response.PopularProductResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,12 +36,17 @@ import java.util.stream.IntStream;
 public class ProductService {
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ProductSalesDailyRepository productSalesDailyRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductDetailCache productDetailCache;
+    private final PopularProductRanking popularProductRanking;
 
-    // Redis 키 패턴 정의
-    private static final String POPULAR_PRODUCTS_KEY_PREFIX = "popular_products:";
-    private static final int EXPIRY_DAYS = 4; // 4일 후 자동 삭제 (최근 3일 + 1일 여유)
+    private static final int POPULAR_PRODUCTS_DAYS = 3;
+    private static final int POPULAR_PRODUCTS_LIMIT = 5;
+    private static final int MAX_POPULAR_PRODUCTS_DAYS = 90;
+    private static final int MAX_POPULAR_PRODUCTS_LIMIT = 100;
 
     /**
      * 상품 저장 (멀티락 사용 시 명시적 저장 필요)
@@ -44,6 +56,24 @@ public class ProductService {
         return productRepository.save(product);
     }
 
+    /**
+     * 외부 재고 원장(Redis)에서 모은 상품별 재고 증감분을 product.stock에 상대값으로 일괄 반영
+     * 상대값으로 더하므로 원장을 거치지 않는 DB 재고 쓰기(보상 복구, 예약 해제 등)를 덮어쓰지 않음
+     * 같은 묶음을 이미 반영했으면 건너뜀 (반영 후 Redis 정리에 실패해 다시 전달된 경우)
+     * @return 이번 호출에서 반영했는지 여부
+     */
+    @Transactional
+    public boolean applyLedgerDeltas(String ledger, String batchId, Map<Long, Integer> deltas) {
+        Optional<String> appliedBatchId = productRepository.findLedgerBatchIdForUpdate(ledger);
+        if (appliedBatchId.isPresent() && appliedBatchId.get().equals(batchId)) {
+            return false;
+        }
+
+        productRepository.increaseStocks(new TreeMap<>(deltas));
+        productRepository.saveLedgerBatchId(ledger, batchId, LocalDateTime.now());
+        return true;
+    }
+
     @Transactional(readOnly = true)
     public List<Product> getAllProducts() {
         return productRepository.findAll();
@@ -58,6 +88,25 @@ public class ProductService {
                 .orElseThrow(() -> new NoSuchElementException("해당 상품이 없습니다."));
     }
 
+    /**
+     * 상품 일괄 조회 (IN 쿼리 1회)
+     * @return 상품 ID → 상품
+     * @throws NoSuchElementException 없는 상품이 하나라도 있는 경우
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Product> getProductsByIds(Collection<Long> productIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        Map<Long, Product> products = productRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        for (Long productId : distinctIds) {
+            if (!products.containsKey(productId)) {
+                throw new NoSuchElementException("해당 상품이 없습니다: " + productId);
+            }
+        }
+        return products;
+    }
+
     // 비관적 락으로 상품 조회
     @Transactional
     public Product getProductByIdForUpdate(Long productId) {
@@ -71,29 +120,64 @@ public class ProductService {
     // 재고 차감
     @Transactional
     public void decreaseStock(Long productId, int quantity) {
-        // 비관적 락으로 상품 조회
-        Product product = productRepository.findByIdForUpdate(productId)
+        // 조건부 UPDATE 한 문장으로 검증 + 차감 (SELECT ... FOR UPDATE 왕복 제거)
+        if (productRepository.decreaseStockIfAvailable(productId, quantity) == 1) {
+            return;
+        }
+
+        // 실패 시에만 원인 확인 (상품 없음 / 재고 부족)
+        Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + product.getStock());
+    }
 
-        // 재고 검증 및 차감
-        if (product.getStock() < quantity) {
-            throw new IllegalStateException("재고가 부족합니다. 현재 재고: " + product.getStock());
+    /**
+     * 주문 라인 전체 조건부 재고 차감 (JDBC batch 한 번)
+     * 호출자 트랜잭션에 참여하므로 일부 상품이 실패하면 예외로 전체가 롤백됨
+     * @param quantities 상품 ID → 차감 수량 (행 락 순서를 맞추기 위해 상품 ID 오름차순으로 실행)
+     */
+    @Transactional
+    public void decreaseStocksIfAvailable(Map<Long, Integer> quantities) {
+        Map<Long, Integer> ordered = new TreeMap<>(quantities);
+        int[] results = productRepository.decreaseStocksIfAvailable(ordered);
+
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : ordered.entrySet()) {
+            int updated = results[index++];
+            if (updated == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("재고 차감 결과를 확인할 수 없습니다: 상품ID " + entry.getKey());
+            }
+            if (updated == 0) {
+                throw new IllegalStateException(
+                        String.format("재고가 부족한 상품입니다: 상품ID %d (요청 수량: %d)",
+                                entry.getKey(), entry.getValue())
+                );
+            }
         }
+    }
 
-        product.decreaseStock(quantity);
-        // 트랜잭션 끝나면 자동으로 락 해제
+    /**
+     * 재고 일괄 증가 (주문 취소/예약 만료 복구용, 호출자 트랜잭션에 참여)
+     */
+    @Transactional
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        productRepository.increaseStocks(new TreeMap<>(quantities));
     }
 
     /**
      * 분산락을 적용한 재고 차감
      * 락 획득 → 트랜잭션 시작 → 비즈니스 로직 → 트랜잭션 종료 → 락 해제
+     * 펜싱 토큰으로 재고를 써서 점유 시간이 만료된 뒤 늦게 도착한 쓰기는 거부됨
      */
     @DistributedLock(
-            key = "#productId",
+            key = "'STOCK:' + #productId",
+            localQueue = true,
+            fencing = true,
             waitTime = 3L,
             leaseTime = 5L,
             failMessage = "해당 상품의 재고 처리 중입니다. 잠시 후 다시 시도해주세요."
     )
+    @Transactional
     public void decreaseStockWithDistributedLock(Long productId, int quantity) {
         log.info("재고 차감 시작: productId={}, quantity={}, thread={}",
                 productId, quantity, Thread.currentThread().getName());
@@ -118,22 +202,63 @@ public class ProductService {
             );
         }
 
-        product.decreaseStock(quantity);
-        productRepository.save(product);
+        adjustStockFenced(productId, -quantity);
 
-        log.info("재고 차감 완료: productId={}, 차감수량={}, 남은재고={}, thread={}",
-                productId, quantity, product.getStock(), Thread.currentThread().getName());
+        log.info("재고 차감 완료: productId={}, 차감수량={}, thread={}",
+                productId, quantity, Thread.currentThread().getName());
+    }
+
+    /**
+     * 주문 묶음 재고 차감 (StockCombiner 전용)
+     * 같은 상품에 몰린 요청을 락 1회, 조회 1회, UPDATE 1회로 처리
+     * 도착 순서대로 남은 재고 안에서 승인하고, 재고가 모자란 요청만 거절
+     * @return 요청 순서대로의 승인 여부
+     */
+    @DistributedLock(
+            key = "'STOCK:' + #productId",
+            fencing = true,
+            waitTime = 3L,
+            leaseTime = 5L,
+            failMessage = "해당 상품의 재고 처리 중입니다. 잠시 후 다시 시도해주세요."
+    )
+    @Transactional
+    public List<Boolean> decreaseStockInArrivalOrder(Long productId, List<Integer> quantities) {
+        // 분산락 외에 행 락도 잡아 보상(stock = stock + ?)과 같은 원자적 갱신이 끼어들지 못하게 함
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        int remaining = product.getStock();
+        List<Boolean> granted = new ArrayList<>(quantities.size());
+        for (int quantity : quantities) {
+            boolean ok = quantity <= remaining;
+            if (ok) {
+                remaining -= quantity;
+            }
+            granted.add(ok);
+        }
+
+        int total = product.getStock() - remaining;
+        if (total > 0) {
+            adjustStockFenced(productId, -total);
+        }
+
+        log.debug("묶음 재고 차감 완료: productId={}, 요청={}, 차감수량={}, 남은재고={}",
+                productId, quantities.size(), total, remaining);
+        return granted;
     }
 
     /**
      * 재고 증가 (복구용)
      */
     @DistributedLock(
-            key = "#productId",
+            key = "'STOCK:' + #productId",
+            localQueue = true,
+            fencing = true,
             waitTime = 3L,
             leaseTime = 5L,
             failMessage = "재고 복구 처리 중입니다. 잠시 후 다시 시도해주세요."
     )
+    @Transactional
     public void increaseStockWithDistributedLock(Long productId, int quantity) {
         log.info("재고 증가 시작: productId={}, quantity={}, thread={}",
                 productId, quantity, Thread.currentThread().getName());
@@ -146,52 +271,142 @@ public class ProductService {
             throw new IllegalArgumentException("증가할 수량은 0보다 커야 합니다.");
         }
 
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        adjustStockFenced(productId, quantity);
 
-        product.increaseStock(quantity);
-        productRepository.save(product);
+        log.info("재고 증가 완료: productId={}, 증가수량={}, thread={}",
+                productId, quantity, Thread.currentThread().getName());
+    }
+
+    /**
+     * 펜싱 토큰으로 재고 증감 (@DistributedLock(fencing = true) 안에서 호출)
+     * 관리 중인 엔티티를 변경하지 않고 상대값 UPDATE 한 문장으로 반영하여
+     * - 더 최신 토큰이 이미 쓴 경우 거부 (점유 시간이 만료된 이전 보유자)
+     * - 조회 이후 다른 경로(조건부 차감, 보상 복구)에서 바뀐 재고를 덮어쓰지 않고, 음수가 되면 거부
+     */
+    private void adjustStockFenced(Long productId, int delta) {
+        long token = FencingTokens.current("STOCK:" + productId);
+        if (productRepository.adjustStockFenced(productId, delta, token) == 1) {
+            return;
+        }
 
-        log.info("재고 증가 완료: productId={}, 증가수량={}, 총재고={}, thread={}",
-                productId, quantity, product.getStock(), Thread.currentThread().getName());
+        // 실패 시에만 원인 확인 (상품 없음 / 이전 락 보유자 / 재고 부족)
+        long storedVersion = productRepository.findStockVersion(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (storedVersion > token) {
+            throw new RetryableException(
+                    String.format("재고 락 점유 시간이 만료되어 재고 변경이 거부되었습니다: 상품ID %d (토큰: %d, 최신 토큰: %d)",
+                            productId, token, storedVersion)
+            );
+        }
+        throw new IllegalStateException(
+                String.format("재고가 부족합니다. 상품ID %d (변경 수량: %d)", productId, delta));
     }
 
     // 상위 상품 5개 조회
+    // 일 판매량 집계(product_sales_daily)에서 최근 3일(오늘 포함)치 행만 읽어 합산
     @Cacheable(cacheNames = "topProducts", key = "'last3days_top5'", sync = true)
-    @Transactional(readOnly = true)
     public List<PopularProductResponse> getTop5PopularProducts() {
-        // 1. 최근 3일 기간 설정
+        return toPopularProducts(findTopSales(POPULAR_PRODUCTS_DAYS, POPULAR_PRODUCTS_LIMIT));
+    }
+
+    /**
+     * 최근 days일(오늘 포함) 판매량 상위 limit개 상품
+     * 집계 테이블은 (일수 × 판매 상품 수) 행만 읽으므로 3일 외의 기간도 같은 비용으로 조회
+     */
+    @Cacheable(cacheNames = "topProducts", key = "'last' + #days + 'days_top' + #limit", sync = true)
+    public List<PopularProductResponse> getPopularProducts(int days, int limit) {
+        if (days <= 0 || days > MAX_POPULAR_PRODUCTS_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + MAX_POPULAR_PRODUCTS_DAYS + "일 이하여야 합니다.");
+        }
+        if (limit <= 0 || limit > MAX_POPULAR_PRODUCTS_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1개 이상 " + MAX_POPULAR_PRODUCTS_LIMIT + "개 이하여야 합니다.");
+        }
+        return toPopularProducts(findTopSales(days, limit));
+    }
+
+    /**
+     * 랭킹 → 응답 변환 (상품 상세는 순위 수와 관계없이 캐시 MGET 1회 + 없는 상품만 IN 쿼리 1회)
+     * 랭킹 집계 이후 삭제된 상품은 건너뜀
+     */
+    private List<PopularProductResponse> toPopularProducts(List<ProductSales> ranking) {
+        Map<Long, ProductDetail> details = productDetailCache.getAll(
+                ranking.stream().map(ProductSales::productId).toList(), this::loadProductDetails);
+
+        List<PopularProductResponse> results = new ArrayList<>(ranking.size());
+        for (ProductSales sales : ranking) {
+            ProductDetail detail = details.get(sales.productId());
+            if (detail == null) {
+                log.warn("랭킹 상품 정보 없음: productId={}", sales.productId());
+                continue;
+            }
+            results.add(PopularProductResponse.from(detail, Math.toIntExact(sales.quantity())));
+        }
+        return results;
+    }
+
+    private Map<Long, ProductDetail> loadProductDetails(Collection<Long> productIds) {
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, ProductDetail::from));
+    }
+
+    /**
+     * 최근 days일 판매량 상위 limit개 상품
+     * 1. 일 판매량 집계 테이블
+     * 2. 조회 실패 시 주문 아이템 GROUP BY 집계
+     * 3. 그것도 실패하면(타임아웃, 인덱스 미생성 등) 행을 스트리밍하며 상위 limit개만 힙으로 유지
+     * 실패한 쿼리가 트랜잭션을 rollback-only로 만들지 않도록 각 조회는 별도 트랜잭션에서 실행
+     */
+    private List<ProductSales> findTopSales(int days, int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate startDay = today.minusDays(days - 1L);
+        try {
+            return productSalesDailyRepository.findTopSelling(startDay, today, limit);
+        } catch (DataAccessException e) {
+            log.warn("일 판매량 집계 조회 실패, 주문 아이템 집계로 대체: {}", e.getMessage());
+        }
+
+        LocalDateTime startDate = startDay.atStartOfDay();
         LocalDateTime endDate = LocalDateTime.now();
-        LocalDateTime startDate = endDate.minusDays(3);
-
-        // 2. 해당 기간의 모든 주문 아이템 조회
-        List<OrderItem> orderItems = orderItemRepository.findByOrderDateBetween(startDate, endDate);
-
-        // 3. 상품별 총 판매 수량 집계
-        Map<Long, Integer> salesByProduct = orderItems.stream()
-                .collect(Collectors.groupingBy(
-                        OrderItem::getProductId,
-                        Collectors.summingInt(OrderItem::getQuantity)
-                ));
-
-        // 4. 판매량 기준 상위 5개 선택 + 상품 정보 조회
-        return salesByProduct.entrySet().stream()
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                .limit(5)
-                .map(entry -> {
-                    Long productId = entry.getKey();
-                    Integer totalSold = entry.getValue();
-
-                    Product product = getProductById(productId);
-                    return PopularProductResponse.from(product, totalSold);
-                })
-                .collect(Collectors.toList());
+        try {
+            return orderItemRepository.findTopSellingProducts(startDate, endDate, limit);
+        } catch (DataAccessException e) {
+            log.warn("인기상품 집계 쿼리 실패, 스트리밍 집계로 대체: {}", e.getMessage());
+        }
+
+        return transactionTemplate.execute(status -> {
+            try (Stream<ProductSales> rows = orderItemRepository.streamSalesBetween(startDate, endDate)) {
+                return topK(rows, limit);
+            }
+        });
+    }
+
+    /**
+     * 스트리밍 top-K: 상품별 합계(상품 수만큼)와 크기 k의 최소 힙만 메모리에 둠
+     */
+    static List<ProductSales> topK(Stream<ProductSales> rows, int k) {
+        Map<Long, Long> totals = new HashMap<>();
+        rows.forEach(row -> totals.merge(row.productId(), row.quantity(), Long::sum));
+
+        Comparator<ProductSales> bySales = Comparator.comparingLong(ProductSales::quantity)
+                .thenComparing(ProductSales::productId, Comparator.reverseOrder());
+        PriorityQueue<ProductSales> heap = new PriorityQueue<>(k + 1, bySales);
+        for (Map.Entry<Long, Long> entry : totals.entrySet()) {
+            heap.offer(new ProductSales(entry.getKey(), entry.getValue()));
+            if (heap.size() > k) {
+                heap.poll(); // 가장 적게 팔린 상품 제거
+            }
+        }
+
+        List<ProductSales> top = new ArrayList<>(heap);
+        top.sort(bySales.reversed());
+        return top;
     }
 
     // 인기상품 데이터 업데이트
     public void updatePopularProductsData(List<OrderItem> orderItems) {
-        String today = LocalDate.now().toString();
-        String dailyKey = POPULAR_PRODUCTS_KEY_PREFIX + today;
+        LocalDate today = LocalDate.now();
+        String dailyKey = popularProductRanking.dailyKey(today);
+        long ttlSeconds = popularProductRanking.dailyKeyTtl().getSeconds();
 
         try {
             // 여러 명령어를 한 번에 전송하여 네트워크 비용 절약
@@ -206,8 +421,8 @@ public class ProductService {
                     );
                 }
 
-                // 2. TTL 설정 (메모리 관리)
-                connection.expire(dailyKey.getBytes(), Duration.ofDays(EXPIRY_DAYS).getSeconds());
+                // 2. TTL 설정 (가장 긴 랭킹 조회 기간 + 1일)
+                connection.expire(dailyKey.getBytes(), ttlSeconds);
 
                 return null; // executePipelined는 return 값 무시
             });
@@ -222,85 +437,33 @@ public class ProductService {
 
     // Redis SortedSet 기반 인기상품 Top5 조회
     public List<PopularProductResponse> getPopularProductsFromRedis() {
-        try {
-            LocalDate today = LocalDate.now();
-
-            // 최근 3일간의 Redis 키 생성 (오늘, 어제, 그저께)
-            String[] dailyKeys = IntStream.range(0, 3)
-                    .mapToObj(today::minusDays)
-                    .map(date -> POPULAR_PRODUCTS_KEY_PREFIX + date.toString())
-                    .toArray(String[]::new);
-
-            // 임시 집계 키 생성 (중복 방지를 위해 timestamp 추가)
-            String tempKey = "popular_products:temp:" + System.currentTimeMillis();
-
-            try {
-                List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-
-                    // 1. ZUNIONSTORE: 3일간 데이터 합집합 (점수 합산)
-                    byte[][] keyBytes = Arrays.stream(dailyKeys)
-                            .map(String::getBytes)
-                            .toArray(byte[][]::new);
-                    connection.zUnionStore(tempKey.getBytes(), keyBytes);
-
-                    // 2. ZREVRANGE WITHSCORES: 상위 5개 조회 (내림차순)
-                    // Redis가 자동으로 점수 기준 정렬하므로 상위 5개만 바로 조회
-                    connection.zRevRangeWithScores(tempKey.getBytes(), 0, 4);
-
-                    // 3. DEL: 임시 키 삭제 (메모리 누수 방지)
-                    connection.del(tempKey.getBytes());
-
-                    return null;
-                });
-
-                // 파이프라인 결과에서 랭킹 데이터 추출 (두 번째 명령어 결과)
-                if (results != null && results.size() >= 2) {
-                    @SuppressWarnings("unchecked")
-                    Set<ZSetOperations.TypedTuple<Object>> rankingData =
-                            (Set<ZSetOperations.TypedTuple<Object>>) results.get(1);
-
-                    return convertToPopularProductResponse(rankingData);
-                }
-
-                log.warn("Redis에서 인기상품 데이터 없음. 기존 DB 방식 사용 권장");
-                return Collections.emptyList();
-
-            } finally {
-                // 예외 발생 시에도 임시 키 정리 보장
-                stringRedisTemplate.delete(tempKey);
-            }
+        return getPopularProductsFromRedis(POPULAR_PRODUCTS_DAYS, 0, POPULAR_PRODUCTS_LIMIT);
+    }
 
-        } catch (Exception e) {
-            log.error("Redis 인기상품 조회 실패: {}", e.getMessage());
+    /**
+     * Redis 랭킹 기반 최근 days일 인기상품 (page번째 size개)
+     * 기간 합산은 PopularProductRanking이 미리 만들어 두므로 조회는 ZREVRANGE 한 번 + 상품 상세 일괄 조회
+     * @return 미리 합산하지 않는 기간이거나 Redis 조회에 실패하면 빈 목록 (호출자가 DB 집계로 대체)
+     */
+    public List<PopularProductResponse> getPopularProductsFromRedis(int days, int page, int size) {
+        if (page < 0 || size <= 0 || size > popularProductRanking.maxPageSize()) {
+            throw new IllegalArgumentException(
+                    "조회 개수는 1개 이상 " + popularProductRanking.maxPageSize() + "개 이하, 페이지는 0 이상이어야 합니다.");
+        }
+        if (!popularProductRanking.supports(days)) {
             return Collections.emptyList();
         }
-    }
-
-    private List<PopularProductResponse> convertToPopularProductResponse(
-            Set<ZSetOperations.TypedTuple<Object>> rankingData) {
-
-        List<PopularProductResponse> results = new ArrayList<>();
 
         try {
-            // Redis ZREVRANGE WITHSCORES 결과는 이미 점수 순으로 정렬되어 있음
-            for (ZSetOperations.TypedTuple<Object> tuple : rankingData) {
-                String productIdStr = tuple.getValue().toString();
-                Double score = tuple.getScore();
-
-                Long productId = Long.valueOf(productIdStr);
-                Integer totalSold = score.intValue();
-
-                // DB에서 상품 상세 정보 조회
-                Product product = getProductById(productId);
-                results.add(PopularProductResponse.from(product, totalSold));
+            List<ProductSales> ranking = popularProductRanking.top(days, (long) page * size, size);
+            if (ranking.isEmpty()) {
+                log.debug("Redis에서 인기상품 데이터 없음: days={}, page={}", days, page);
+                return Collections.emptyList();
             }
-
-            log.info("Redis 랭킹 데이터 변환 완료: {} 개", results.size());
-
+            return toPopularProducts(ranking);
         } catch (Exception e) {
-            log.error("랭킹 데이터 변환 실패: {}", e.getMessage());
+            log.error("Redis 인기상품 조회 실패: {}", e.getMessage());
+            return Collections.emptyList();
         }
-
-        return results;
     }
 }
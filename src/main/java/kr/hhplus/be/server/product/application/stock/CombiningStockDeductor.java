@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * StockCombiner를 통한 주문 재고 차감
+ * - 주문 라인을 상품별 결합기에 동시에 등록하고 모두 완료될 때까지 대기
+ * - 결합기 반영은 별도 트랜잭션으로 커밋되므로 실패한 라인이 있거나 주문이 롤백되면 보상 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CombiningStockDeductor implements StockDeductor {
+
+    private static final String REASON = "COMBINED_ORDER_FAILED";
+
+    private final StockCombiner stockCombiner;
+    private final ProductService productService;
+    private final StockCompensationService stockCompensationService;
+
+    @Override
+    public StockDeductionMode mode() {
+        return StockDeductionMode.COMBINING;
+    }
+
+    @Override
+    public void deduct(Map<Long, Integer> quantities) {
+        Map<Long, StockCombiner.Request> requests = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> requests.put(productId, stockCombiner.submit(productId, quantity)));
+
+        Map<Long, Integer> deducted = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        for (Map.Entry<Long, StockCombiner.Request> entry : requests.entrySet()) {
+            try {
+                stockCombiner.await(entry.getValue());
+                deducted.put(entry.getKey(), quantities.get(entry.getKey()));
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+
+        // 차감 1건당 보상 키 하나, 실패 라인 보상과 롤백 보상이 겹쳐도 한 번만 복구됨
+        String compensationKey = "COMBINING:" + UUID.randomUUID();
+
+        if (failure != null) {
+            compensate(compensationKey, deducted);
+            throw failure;
+        }
+
+        // 주문 트랜잭션이 커밋되지 않으면 차감분 복구
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        compensate(compensationKey, deducted);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        productService.increaseStocks(quantities);
+    }
+
+    private void compensate(String compensationKey, Map<Long, Integer> deducted) {
+        if (!deducted.isEmpty()) {
+            stockCompensationService.compensateOrDefer(compensationKey, deducted, REASON);
+        }
+    }
+}
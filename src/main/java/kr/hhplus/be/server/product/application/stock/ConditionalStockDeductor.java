@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 조건부 UPDATE(stock >= ?) 일괄 차감
+ * - 분산락/비관적 락 조회 없이 DB 행 락만으로 재고 정합성 보장
+ * - 주문 트랜잭션에 참여하므로 롤백 시 별도 복구가 필요 없음
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalStockDeductor implements StockDeductor {
+
+    private final ProductService productService;
+
+    @Override
+    public StockDeductionMode mode() {
+        return StockDeductionMode.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public void deduct(Map<Long, Integer> quantities) {
+        productService.decreaseStocksIfAvailable(quantities);
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        productService.increaseStocks(quantities);
+    }
+}
@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 재고 원장
+ * - 상품 재고를 Redis({stock:ledger}:{productId})에 두고 Lua 스크립트 한 번으로 주문 라인 전체를 차감
+ * - 차감/복구 수량은 dirty 해시(상품 ID → 누적 증감분)에 더해지고,
+ *   StockLedgerSynchronizer가 비동기로 product.stock에 상대값으로 반영
+ * - 모든 키에 같은 해시 태그({stock:ledger})를 붙여 Redis Cluster에서도 한 슬롯에 두므로
+ *   여러 상품과 dirty 해시를 한 스크립트에서 다룰 수 있음 (원장 전체가 한 노드에 놓임)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "order", name = "stock-mode", havingValue = "REDIS_LEDGER")
+public class RedisStockLedger implements StockDeductor {
+
+    static final String STOCK_KEY_PREFIX = "{stock:ledger}:";
+    static final String DIRTY_KEY = "{stock:ledger}:dirty";
+    // DB 반영 중인 증감분 (dirty 해시를 옮겨 둔 것, 반영이 끝나야 삭제)
+    static final String SYNCING_KEY = "{stock:ledger}:syncing";
+
+    /**
+     * KEYS[1..n]: 재고 키, KEYS[n+1]: dirty 해시
+     * ARGV[1..n]: 차감 수량, ARGV[n+1..2n]: 상품 ID
+     * 반환: 0 성공, i 재고 부족(i번째 상품), -i 미적재(i번째 상품)
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            for i = 1, n do
+                local stock = redis.call('GET', KEYS[i])
+                if not stock then
+                    return -i
+                end
+                if tonumber(stock) < tonumber(ARGV[i]) then
+                    return i
+                end
+            end
+            for i = 1, n do
+                redis.call('DECRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * KEYS/ARGV 구성은 RESERVE_SCRIPT와 동일, 미적재 키는 건너뜀
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            local released = 0
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('INCRBY', KEYS[i], ARGV[i])
+                    redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+                    released = released + 1
+                end
+            end
+            return released
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductRepository productRepository;
+
+    @Override
+    public StockDeductionMode mode() {
+        return StockDeductionMode.REDIS_LEDGER;
+    }
+
+    @Override
+    public void deduct(Map<Long, Integer> quantities) {
+        reserve(quantities);
+
+        // Redis 차감은 DB 트랜잭션과 무관하므로 주문 트랜잭션이 커밋되지 않으면 직접 되돌림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(quantities);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        release(quantities);
+    }
+
+    /**
+     * 주문 라인 전체 원자적 차감
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+
+        // 미적재 상품은 DB에서 적재 후 재시도 (상품 수만큼만 시도)
+        for (int attempt = 0; attempt <= productIds.size(); attempt++) {
+            Long result = execute(RESERVE_SCRIPT, quantities);
+
+            if (result == null) {
+                throw new RetryableException("재고 차감 스크립트 실행에 실패했습니다.");
+            }
+            if (result == 0) {
+                log.debug("Redis 재고 차감 완료: {}", quantities);
+                return;
+            }
+            if (result > 0) {
+                Long productId = productIds.get(result.intValue() - 1);
+                throw new IllegalStateException(
+                        String.format("재고가 부족한 상품입니다: 상품ID %d (요청 수량: %d)",
+                                productId, quantities.get(productId))
+                );
+            }
+
+            load(productIds.get((int) -result - 1));
+        }
+
+        throw new RetryableException("Redis 재고 적재에 실패했습니다: " + productIds);
+    }
+
+    /**
+     * 차감분 복구 (주문 실패/취소)
+     */
+    public void release(Map<Long, Integer> quantities) {
+        try {
+            Long released = execute(RELEASE_SCRIPT, quantities);
+            log.info("Redis 재고 복구 완료: {} (복구 상품 수: {})", quantities, released);
+        } catch (Exception e) {
+            log.error("Redis 재고 복구 실패: {}, error={}", quantities, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * DB 재고를 Redis에 적재 (이미 있으면 유지)
+     */
+    public boolean load(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        Boolean loaded = stringRedisTemplate.opsForValue()
+                .setIfAbsent(stockKey(productId), String.valueOf(product.getStock()));
+
+        log.info("Redis 재고 적재: productId={}, stock={}, loaded={}", productId, product.getStock(), loaded);
+        return Boolean.TRUE.equals(loaded);
+    }
+
+    private Long execute(RedisScript<Long> script, Map<Long, Integer> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size() + 1);
+        String[] args = new String[quantities.size() * 2];
+
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            keys.add(stockKey(entry.getKey()));
+            args[i] = String.valueOf(entry.getValue());
+            args[quantities.size() + i] = String.valueOf(entry.getKey());
+            i++;
+        }
+        keys.add(DIRTY_KEY);
+
+        return stringRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
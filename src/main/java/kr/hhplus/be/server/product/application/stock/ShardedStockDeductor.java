@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 버킷 기반 주문 재고 차감
+ * 주문 트랜잭션에 참여하므로 실패 시 버킷 차감분도 함께 롤백됨
+ */
+@Component
+@RequiredArgsConstructor
+public class ShardedStockDeductor implements StockDeductor {
+
+    private final ShardedStockService shardedStockService;
+
+    @Override
+    public StockDeductionMode mode() {
+        return StockDeductionMode.SHARDED;
+    }
+
+    @Override
+    public void deduct(Map<Long, Integer> quantities) {
+        // 상품 간 락 순서를 맞추기 위해 상품 ID 오름차순으로 차감
+        new TreeMap<>(quantities).forEach(shardedStockService::decrease);
+    }
+
+    @Override
+    public void restore(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach(shardedStockService::increase);
+    }
+}
@@ -0,0 +1,214 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductStockBucket;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재고 버킷 분할 관리
+ * - 상품 재고를 N개의 product_stock_bucket 행으로 나눠 차감 경합을 분산
+ * - 차감은 락 없이 고른 후보 버킷 중 임의 버킷부터 시도하고, 모두 실패하면 전체 버킷을 bucket_no 순서로 잠가 나눠 차감
+ * - 버킷 간 재고 편차는 StockBucketRebalancer가 주기적으로 재분배
+ * - 버킷을 여러 개 잠그는 경로(분할 변경, 재분배, 나눠 차감)는 모두 bucket_no 오름차순으로만 잠금
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedStockService {
+
+    static final int MAX_BUCKET_COUNT = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final OrderProperties orderProperties;
+
+    /**
+     * 버킷 수 변경 (0이면 분할 해제 후 product.stock으로 합산)
+     * 상품 행과 기존 버킷을 모두 잠근 뒤 전체 재고를 새 버킷 수로 균등 분배
+     * SHARDED가 아닌 차감 방식은 product.stock만 보므로, 분할은 SHARDED 모드에서만 허용
+     * (분할 해제는 다른 모드로 전환한 뒤 버킷에 남은 재고를 되돌릴 수 있도록 항상 허용)
+     */
+    @Transactional
+    public void reshard(Long productId, int bucketCount) {
+        if (bucketCount < 0 || bucketCount > MAX_BUCKET_COUNT) {
+            throw new IllegalArgumentException("버킷 수는 0 이상 " + MAX_BUCKET_COUNT + " 이하여야 합니다.");
+        }
+        if (bucketCount > 0 && orderProperties.getStockMode() != StockDeductionMode.SHARDED) {
+            throw new IllegalStateException(
+                    "재고 버킷 분할은 SHARDED 재고 차감 방식에서만 사용할 수 있습니다. 현재 방식: "
+                            + orderProperties.getStockMode());
+        }
+
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new NoSuchElementException("해당 상품이 없습니다: " + productId));
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdForUpdate(productId);
+
+        int total = product.getStock() + sum(buckets);
+
+        List<ProductStockBucket> kept = new ArrayList<>();
+        List<ProductStockBucket> removed = new ArrayList<>();
+        for (ProductStockBucket bucket : buckets) {
+            (bucket.getBucketNo() < bucketCount ? kept : removed).add(bucket);
+        }
+        for (int bucketNo = kept.size(); bucketNo < bucketCount; bucketNo++) {
+            kept.add(new ProductStockBucket(productId, bucketNo, 0));
+        }
+        kept.sort(Comparator.comparingInt(ProductStockBucket::getBucketNo));
+
+        productStockBucketRepository.deleteAll(removed);
+        if (bucketCount == 0) {
+            product.setStock(total);
+        } else {
+            distribute(kept, total);
+            productStockBucketRepository.saveAll(kept);
+            product.setStock(0);
+        }
+        product.setStockBucketCount(bucketCount);
+
+        log.info("재고 버킷 변경: productId={}, bucketCount={}, totalStock={}", productId, bucketCount, total);
+    }
+
+    /**
+     * 판매 가능 재고 (상품 행 재고 + 버킷 재고 합계, 락 없음)
+     * 버킷 합계는 분할된 상품을 조회할 때만 계산 (상품 엔티티 조회마다 합산하지 않음)
+     */
+    public int getAvailableStock(Product product) {
+        return product.isStockSharded()
+                ? product.getStock() + productStockBucketRepository.sumStock(product.getProductId())
+                : product.getStock();
+    }
+
+    /**
+     * 재고 차감 (호출자 트랜잭션에 참여)
+     * 1. 분할하지 않은 상품은 product 행 조건부 차감
+     * 2. 락 없이 수량 이상 남은 후보 버킷을 조회하고, 임의 후보부터 조건부 차감 시도
+     * 3. 모두 실패하면 전체 버킷을 bucket_no 순서로 잠그고 나눠서 차감
+     * READ COMMITTED에서는 조건에 맞지 않은 조건부 차감이 행 락을 남기지 않으므로,
+     * 3단계에 들어갈 때 이 상품의 버킷 락을 하나도 잡고 있지 않아 오름차순 잠금만으로 교착이 생기지 않음
+     * (REPEATABLE READ에서는 실패한 후보의 락이 남아 임의 순서 + 오름차순 잠금이 서로 교착할 수 있음)
+     * @throws IllegalStateException READ COMMITTED가 아닌 트랜잭션에서 분할 상품을 차감한 경우
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void decrease(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new NoSuchElementException("해당 상품이 없습니다: " + productId));
+
+        if (!product.isStockSharded()) {
+            if (productRepository.decreaseStockIfAvailable(productId, quantity) == 0) {
+                throw outOfStock(productId, quantity);
+            }
+            return;
+        }
+
+        Integer isolation = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+        if (isolation == null || isolation != TransactionDefinition.ISOLATION_READ_COMMITTED) {
+            throw new IllegalStateException("분할 재고 차감은 READ COMMITTED 트랜잭션에서 호출해야 합니다.");
+        }
+
+        List<Integer> candidates = productStockBucketRepository.findBucketNosWithStock(productId, quantity);
+        if (!candidates.isEmpty()) {
+            int start = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                int bucketNo = candidates.get((start + i) % candidates.size());
+                if (productStockBucketRepository.decreaseIfAvailable(productId, bucketNo, quantity) == 1) {
+                    return;
+                }
+            }
+        }
+
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdForUpdate(productId);
+        if (sum(buckets) < quantity) {
+            throw outOfStock(productId, quantity);
+        }
+
+        int remaining = quantity;
+        for (ProductStockBucket bucket : buckets) {
+            int taken = Math.min(bucket.getStock(), remaining);
+            bucket.changeStock(bucket.getStock() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 재고 증가 (호출자 트랜잭션에 참여)
+     * 분할된 상품은 임의 버킷에 더하고, 재분배는 StockBucketRebalancer에 맡김
+     */
+    @Transactional
+    public void increase(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new NoSuchElementException("해당 상품이 없습니다: " + productId));
+
+        if (!product.isStockSharded()) {
+            productRepository.increaseStocks(Map.of(productId, quantity));
+            return;
+        }
+
+        int bucketNo = ThreadLocalRandom.current().nextInt(product.getStockBucketCount());
+        productStockBucketRepository.increase(productId, bucketNo, quantity);
+    }
+
+    /**
+     * 버킷 간 재고 재분배
+     * 최대/최소 버킷 차이가 평균의 절반을 넘을 때만 전체 버킷을 잠그고 균등 분배
+     * @return 재분배 여부
+     */
+    @Transactional
+    public boolean rebalance(Long productId) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.findAllByProductIdForUpdate(productId);
+        if (buckets.size() < 2) {
+            return false;
+        }
+
+        int total = sum(buckets);
+        int min = buckets.stream().mapToInt(ProductStockBucket::getStock).min().orElse(0);
+        int max = buckets.stream().mapToInt(ProductStockBucket::getStock).max().orElse(0);
+        if (max - min <= Math.max(1, total / buckets.size() / 2)) {
+            return false;
+        }
+
+        distribute(buckets, total);
+        log.debug("재고 버킷 재분배: productId={}, totalStock={}, before(min={}, max={})", productId, total, min, max);
+        return true;
+    }
+
+    private static void distribute(List<ProductStockBucket> buckets, int total) {
+        int base = total / buckets.size();
+        int remainder = total % buckets.size();
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).changeStock(base + (i < remainder ? 1 : 0));
+        }
+    }
+
+    private static int sum(List<ProductStockBucket> buckets) {
+        return buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+    }
+
+    private static IllegalStateException outOfStock(Long productId, int quantity) {
+        return new IllegalStateException(
+                String.format("재고가 부족한 상품입니다: 상품ID %d (요청 수량: %d)", productId, quantity)
+        );
+    }
+}
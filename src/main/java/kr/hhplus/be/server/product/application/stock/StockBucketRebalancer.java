@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.product.domain.repository.ProductStockBucketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 버킷 주기적 재분배
+ * 특정 버킷이 먼저 소진되어 차감이 다음 버킷으로 넘어가는 상황을 줄임
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "order", name = "stock-mode", havingValue = "SHARDED")
+public class StockBucketRebalancer {
+
+    private final ShardedStockService shardedStockService;
+    private final ProductStockBucketRepository productStockBucketRepository;
+
+    @Scheduled(fixedDelayString = "${stock.sharding.rebalance-interval-ms:1000}")
+    public void rebalance() {
+        int rebalanced = 0;
+        for (Long productId : productStockBucketRepository.findShardedProductIds()) {
+            try {
+                if (shardedStockService.rebalance(productId)) {
+                    rebalanced++;
+                }
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                log.warn("재고 버킷 재분배 실패: productId={}, error={}", productId, e.getMessage());
+            }
+        }
+
+        if (rebalanced > 0) {
+            log.debug("재고 버킷 재분배 완료: {}개 상품", rebalanced);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.product.application.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 재고 차감 결합기 (group commit)
+ * - 같은 상품의 차감 요청을 짧은 구간(window) 동안 큐에 모았다가 한 번에 반영
+ * - 상품마다 동시에 하나의 묶음만 처리하므로 분산락/행 갱신은 요청 수가 아닌 묶음 수만큼 발생
+ * - 각 요청은 도착 순서대로 성공 또는 재고 부족으로 완료됨
+ */
+@Component
+@Slf4j
+public class StockCombiner {
+
+    private static final int QUEUED = 0;
+    private static final int CLAIMED = 1;
+    private static final int ABANDONED = 2;
+    private static final String TIMEOUT_REASON = "COMBINER_TIMEOUT";
+
+    private final ProductService productService;
+    private final StockCompensationService stockCompensationService;
+    private final TaskScheduler scheduler;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public StockCombiner(ProductService productService,
+                         StockCompensationService stockCompensationService,
+                         @Qualifier("stockCombinerScheduler") TaskScheduler scheduler,
+                         @Value("${stock.combiner.window-ms:1}") long windowMillis,
+                         @Value("${stock.combiner.max-batch-size:200}") int maxBatchSize,
+                         @Value("${stock.combiner.timeout-ms:5000}") long timeoutMillis) {
+        this.productService = productService;
+        this.stockCompensationService = stockCompensationService;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 차감 요청 등록 (비동기)
+     * 실패 시 IllegalStateException(재고 부족) 또는 반영 중 발생한 예외로 완료됨
+     */
+    public Request submit(Long productId, int quantity) {
+        if (productId == null) {
+            throw new IllegalArgumentException("상품 ID는 null일 수 없습니다.");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("차감할 수량은 0보다 커야 합니다.");
+        }
+
+        Request request = new Request(productId, quantity);
+        // 등록과 빈 슬롯 정리(prune)를 같은 버킷 락 안에서 처리하여 정리된 슬롯에 요청이 남지 않게 함
+        Slot slot = slots.compute(productId, (id, current) -> {
+            Slot target = current != null ? current : new Slot();
+            target.queue.add(request);
+            return target;
+        });
+
+        // 묶음 처리가 예약되어 있지 않을 때만 window 뒤에 처리 예약
+        if (slot.scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> drain(productId, slot), Instant.now().plusMillis(windowMillis));
+        }
+        return request;
+    }
+
+    /**
+     * 차감 요청 후 결과 대기 (decreaseStockWithDistributedLock 대체용 동기 API)
+     */
+    public void decrease(Long productId, int quantity) {
+        await(submit(productId, quantity));
+    }
+
+    /**
+     * 결합 결과 대기, 원래 예외를 그대로 전달
+     * 시간 초과 시 아직 큐에 있으면 취소하여 반영되지 않게 하고,
+     * 이미 반영 중이면 늦게 성공하더라도 보상으로 되돌려 호출자가 보는 실패와 재고를 일치시킴
+     */
+    public void await(Request request) {
+        try {
+            request.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("재고 차감에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            abandon(request);
+            throw new RetryableException("재고 차감 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(request);
+            throw new RetryableException("재고 차감 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private void abandon(Request request) {
+        if (request.state.compareAndSet(QUEUED, ABANDONED)) {
+            log.warn("재고 차감 대기 시간 초과로 요청 취소: productId={}, quantity={}",
+                    request.productId, request.quantity);
+            return;
+        }
+
+        // 이미 묶음에 포함됨 → 성공으로 끝나면 차감분 복구
+        request.result.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                stockCompensationService.compensateOrDefer("COMBINER_TIMEOUT:" + UUID.randomUUID(),
+                        Map.of(request.productId, request.quantity), TIMEOUT_REASON);
+            }
+        });
+    }
+
+    private void drain(Long productId, Slot slot) {
+        do {
+            List<Request> batch = poll(slot);
+            while (!batch.isEmpty()) {
+                apply(productId, batch);
+                batch = poll(slot);
+            }
+            slot.scheduled.set(false);
+            // 해제 직후 들어온 요청이 있으면 이어서 처리 (예약을 다른 스레드가 가져갔으면 종료)
+        } while (!slot.queue.isEmpty() && slot.scheduled.compareAndSet(false, true));
+
+        // 요청이 없는 슬롯은 제거하여 한 번 주문된 상품 수만큼 슬롯이 쌓이지 않게 함
+        slots.computeIfPresent(productId, (id, current) ->
+                current == slot && current.queue.isEmpty() && !current.scheduled.get() ? null : current);
+    }
+
+    private List<Request> poll(Slot slot) {
+        List<Request> batch = new ArrayList<>();
+        Request request;
+        while (batch.size() < maxBatchSize && (request = slot.queue.poll()) != null) {
+            // 대기 시간이 초과되어 취소된 요청은 반영하지 않음
+            if (request.state.compareAndSet(QUEUED, CLAIMED)) {
+                batch.add(request);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Long productId, List<Request> batch) {
+        try {
+            List<Boolean> granted = productService.decreaseStockInArrivalOrder(
+                    productId, batch.stream().map(Request::quantity).toList());
+
+            for (int i = 0; i < batch.size(); i++) {
+                Request request = batch.get(i);
+                if (granted.get(i)) {
+                    request.result.complete(null);
+                } else {
+                    request.result.completeExceptionally(new IllegalStateException(
+                            String.format("재고가 부족한 상품입니다: 상품ID %d (요청 수량: %d)",
+                                    productId, request.quantity)
+                    ));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("묶음 재고 차감 실패: productId={}, 요청={}, error={}", productId, batch.size(), e.getMessage());
+            batch.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private static final class Slot {
+        private final ConcurrentLinkedQueue<Request> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    /**
+     * 결합기에 등록된 차감 요청 (QUEUED → CLAIMED(묶음 반영) 또는 ABANDONED(대기 시간 초과))
+     */
+    public static final class Request {
+        private final Long productId;
+        private final int quantity;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private Request(Long productId, int quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        private int quantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.product.domain.event.StockCompensationEvent;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockCompensationRepository;
+import kr.hhplus.be.server.product.infrastructure.kafka.StockCompensationProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 보상 (이미 커밋된 재고 차감을 되돌림)
+ * - 상품 ID 기준으로 수량을 합친 뒤 UPDATE ... SET stock = stock + ? 한 번의 JDBC batch로 복구
+ * - 보상 키를 같은 트랜잭션에서 등록하므로 재시도/Kafka 재전달로 여러 번 호출돼도 한 번만 반영됨
+ * - 호출자 트랜잭션과 무관하게 즉시 커밋 (REQUIRES_NEW)
+ *   내부 호출(compensateOrDefer)과 afterCompletion 콜백에서도 적용되도록 프록시 대신 TransactionTemplate 사용
+ */
+@Service
+@Slf4j
+public class StockCompensationService {
+
+    private final ProductRepository productRepository;
+    private final StockCompensationRepository stockCompensationRepository;
+    private final StockCompensationProducer stockCompensationProducer;
+    private final TransactionTemplate requiresNew;
+
+    public StockCompensationService(ProductRepository productRepository,
+                                    StockCompensationRepository stockCompensationRepository,
+                                    StockCompensationProducer stockCompensationProducer,
+                                    PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.stockCompensationRepository = stockCompensationRepository;
+        this.stockCompensationProducer = stockCompensationProducer;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return 이번 호출에서 복구했으면 true, 이미 처리된 보상 키면 false
+     */
+    public boolean compensate(String compensationKey, Map<Long, Integer> quantities, String reason) {
+        Map<Long, Integer> ordered = new TreeMap<>(quantities);
+        int totalQuantity = ordered.values().stream().mapToInt(Integer::intValue).sum();
+
+        // 보상 키 등록과 재고 복구를 같은 새 트랜잭션에서 커밋 (둘 중 하나만 반영되는 경우 없음)
+        boolean applied = Boolean.TRUE.equals(requiresNew.execute(status -> {
+            if (!stockCompensationRepository.register(compensationKey, reason, totalQuantity)) {
+                return false;
+            }
+            productRepository.increaseStocks(ordered);
+            return true;
+        }));
+
+        if (!applied) {
+            log.info("event=STOCK_COMPENSATION_SKIPPED compensationKey={} reason={}", compensationKey, reason);
+            return false;
+        }
+
+        log.info("event=STOCK_COMPENSATED compensationKey={} reason={} products={} totalQuantity={} items={}",
+                compensationKey, reason, ordered.size(), totalQuantity, ordered);
+        return true;
+    }
+
+    /**
+     * 즉시 보상 시도 후 실패하면 Kafka(stock.compensation)로 넘겨 재시도
+     */
+    public void compensateOrDefer(String compensationKey, Map<Long, Integer> quantities, String reason) {
+        try {
+            compensate(compensationKey, quantities, reason);
+        } catch (Exception e) {
+            log.error("event=STOCK_COMPENSATION_FAILED compensationKey={} reason={} items={} error={}",
+                    compensationKey, reason, quantities, e.getMessage());
+            stockCompensationProducer.publish(new StockCompensationEvent(compensationKey, quantities, reason));
+        }
+    }
+}
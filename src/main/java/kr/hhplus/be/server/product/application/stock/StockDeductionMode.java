@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.product.application.stock;
+
+/**
+ * 주문 시 재고 차감 방식
+ */
+public enum StockDeductionMode {
+    // 상품별 멀티락 + 조건부 상대값 UPDATE (기존 방식)
+    DISTRIBUTED_LOCK,
+
+    // Redis Lua 스크립트로 주문 라인 전체를 원자적으로 차감, DB는 비동기 반영
+    REDIS_LEDGER,
+
+    // 조건부 UPDATE(stock >= ?)를 주문 라인 전체 JDBC batch로 실행, 주문 트랜잭션과 함께 커밋/롤백
+    CONDITIONAL_UPDATE,
+
+    // 상품별 요청을 짧은 구간 동안 모아 한 번의 UPDATE로 반영 (인기 상품 경합 완화)
+    COMBINING,
+
+    // 상품 재고를 여러 버킷 행으로 나눠 임의 버킷부터 차감 (분할하지 않은 상품은 조건부 UPDATE)
+    SHARDED
+}
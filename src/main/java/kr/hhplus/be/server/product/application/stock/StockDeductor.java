@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import java.util.Map;
+
+/**
+ * 분산락 없이 주문 재고를 차감하는 전략
+ * - 주문 트랜잭션 안에서 호출됨
+ * - DB 트랜잭션 밖에서 차감하는 구현체는 주문 트랜잭션 롤백 시 스스로 복구해야 함
+ */
+public interface StockDeductor {
+
+    StockDeductionMode mode();
+
+    /**
+     * 주문 라인 전체 재고 차감 (all-or-nothing)
+     * @param quantities 상품 ID → 차감 수량
+     * @throws IllegalStateException 재고가 부족한 상품이 하나라도 있는 경우
+     */
+    void deduct(Map<Long, Integer> quantities);
+
+    /**
+     * 차감분 복구 (예약 만료/취소 등 주문 트랜잭션 커밋 이후의 복구)
+     * DB 기반 구현체는 호출자 트랜잭션에 참여함
+     * @param quantities 상품 ID → 복구 수량
+     */
+    void restore(Map<Long, Integer> quantities);
+}
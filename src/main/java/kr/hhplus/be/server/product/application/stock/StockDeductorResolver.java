@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 차감 방식 → StockDeductor 조회
+ * REDIS_LEDGER 등 조건부 빈은 해당 방식으로 기동한 경우에만 등록됨
+ */
+@Component
+@RequiredArgsConstructor
+public class StockDeductorResolver {
+
+    private final List<StockDeductor> stockDeductors;
+
+    public StockDeductor resolve(StockDeductionMode mode) {
+        return stockDeductors.stream()
+                .filter(deductor -> deductor.mode() == mode)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("사용할 수 없는 재고 차감 방식입니다: " + mode));
+    }
+}
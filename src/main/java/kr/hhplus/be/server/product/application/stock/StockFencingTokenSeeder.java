@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.common.lock.FencingTokenSequence;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 기동 시 재고 락(STOCK:{상품ID})의 펜싱 시퀀스를 product.stock_version 이상으로 맞춤
+ * - 이전 발급 방식(노드별/백엔드별 카운터)이 남긴 stock_version보다 작은 토큰이 발급되면
+ *   정상 보유자의 재고 쓰기가 "점유 시간 만료"로 거부되므로, 요청을 받기 전(빈 초기화 단계)에 한 번 올려 둠
+ * - 이미 더 큰 값이면 유지하므로 여러 노드가 동시에 기동해도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockFencingTokenSeeder implements InitializingBean {
+
+    private static final String STOCK_LOCK_KEY_PREFIX = "STOCK:";
+
+    private final ProductRepository productRepository;
+    private final FencingTokenSequence fencingTokenSequence;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            Map<String, Long> floors = new HashMap<>();
+            productRepository.findStockVersions()
+                    .forEach((productId, version) -> floors.put(STOCK_LOCK_KEY_PREFIX + productId, version));
+            fencingTokenSequence.advanceTo(floors);
+            log.info("재고 펜싱 시퀀스 초기화 완료: {}건", floors.size());
+        } catch (DataAccessException e) {
+            // 시퀀스가 뒤처진 상품은 토큰이 stock_version을 넘을 때까지 펜싱 쓰기가 거부됨 (다음 기동 시 다시 시도)
+            log.warn("재고 펜싱 시퀀스 초기화 실패 - 뒤처진 상품의 재고 쓰기가 거부될 수 있음: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.product.application.stock;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.domain.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static kr.hhplus.be.server.product.application.stock.RedisStockLedger.DIRTY_KEY;
+import static kr.hhplus.be.server.product.application.stock.RedisStockLedger.SYNCING_KEY;
+import static kr.hhplus.be.server.product.application.stock.RedisStockLedger.stockKey;
+
+/**
+ * Redis 재고 원장 → MySQL product.stock 비동기 반영 (write-behind)
+ * - dirty 해시(상품 ID → 누적 증감분)를 묶음 ID와 함께 syncing 해시로 원자적으로 옮긴 뒤,
+ *   증감분을 DB에 상대값(stock + delta)으로 더함 (원장을 거치지 않는 DB 재고 쓰기를 덮어쓰지 않음)
+ * - 옮긴 뒤 발생한 변경은 새 dirty 해시에 쌓이므로 반영 중인 묶음과 섞이지 않음
+ * - syncing 해시는 DB 반영 후에 지우고, 반영한 묶음 ID를 같은 트랜잭션에 기록하여
+ *   지우기 전에 실패해 같은 묶음을 다시 반영하더라도 한 번만 더해짐
+ * - 모든 노드에서 스케줄되지만 리더 락을 잡은 한 노드만 반영 (묶음을 한 번에 하나씩 순서대로 처리)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "order", name = "stock-mode", havingValue = "REDIS_LEDGER")
+public class StockLedgerSynchronizer {
+
+    /**
+     * KEYS[1]: dirty 해시, KEYS[2]: syncing 해시, ARGV[1]: 새 묶음 ID
+     * 이전 묶음이 남아 있으면(반영 또는 정리 실패) 그 묶음을, 없으면 dirty를 새 묶음으로 옮겨 반환
+     * 반환: syncing 해시 전체 (BATCH_FIELD에 묶음 ID), 반영할 변경이 없으면 빈 목록
+     */
+    private static final RedisScript<List> TAKE_BATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+                redis.call('HSET', KEYS[2], 'batch', ARGV[1])
+            end
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    /**
+     * KEYS[1]: syncing 해시, ARGV[1]: 반영한 묶음 ID
+     */
+    private static final RedisScript<Long> COMPLETE_BATCH_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'batch') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    static final String LEADER_LOCK_KEY = "stock:ledger:sync-leader";
+    static final String LEDGER = "redis-stock-ledger";
+    private static final String BATCH_FIELD = "batch";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductService productService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${stock.ledger.sync-interval-ms:200}")
+    public void synchronize() {
+        // 대기 없이 시도, 점유 중에는 워치독이 만료를 연장하여 반영이 길어져도 다른 노드가 끼어들지 않음
+        RLock leaderLock = redissonClient.getLock(LEADER_LOCK_KEY);
+        try {
+            if (!leaderLock.tryLock()) {
+                log.debug("다른 노드가 Redis 재고 DB 반영 중이므로 이번 주기 생략");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Redis 재고 DB 반영 리더 락 획득 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        try {
+            List<?> entries = stringRedisTemplate.execute(TAKE_BATCH_SCRIPT, List.of(DIRTY_KEY, SYNCING_KEY),
+                    UUID.randomUUID().toString());
+            if (entries == null || entries.isEmpty()) {
+                return;
+            }
+
+            String batchId = null;
+            Map<Long, Integer> deltas = new LinkedHashMap<>();
+            for (int i = 0; i < entries.size(); i += 2) {
+                String field = entries.get(i).toString();
+                String value = entries.get(i + 1).toString();
+                if (BATCH_FIELD.equals(field)) {
+                    batchId = value;
+                } else if (Integer.parseInt(value) != 0) {
+                    deltas.put(Long.valueOf(field), Integer.valueOf(value));
+                }
+            }
+
+            boolean applied = productService.applyLedgerDeltas(LEDGER, batchId, deltas);
+            stringRedisTemplate.execute(COMPLETE_BATCH_SCRIPT, List.of(SYNCING_KEY), batchId);
+
+            log.debug("Redis 재고 DB 반영 완료: batch={}, 증감분={}, 반영={}", batchId, deltas, applied);
+
+        } catch (Exception e) {
+            // syncing 묶음은 그대로 남아 다음 주기에 같은 묶음 ID로 재시도됨
+            log.error("Redis 재고 DB 반영 실패: {}", e.getMessage(), e);
+        } finally {
+            leaderLock.unlock();
+        }
+    }
+
+    /**
+     * 기동 시 재고 정합성 맞추기
+     * 1. 이전 실행에서 남은 증감분(dirty/syncing)을 먼저 DB에 반영
+     * 2. Redis에 없는 상품 재고를 product 테이블에서 적재 (SETNX)
+     * 3. 이미 있는 키가 DB와 다르면 경고만 남김 (다른 노드가 차감 중일 수 있어 덮어쓰지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        synchronize();
+
+        List<Product> products = productService.getAllProducts();
+        if (products.isEmpty()) {
+            return;
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisStringCommands commands = connection.stringCommands();
+            for (Product product : products) {
+                commands.setNX(stockKey(product.getProductId()).getBytes(),
+                        String.valueOf(product.getStock()).getBytes());
+            }
+            return null;
+        });
+
+        List<Product> existing = new ArrayList<>();
+        for (int i = 0; i < products.size(); i++) {
+            if (!Boolean.TRUE.equals(results.get(i))) {
+                existing.add(products.get(i));
+            }
+        }
+
+        int drift = 0;
+        if (!existing.isEmpty()) {
+            List<String> stocks = stringRedisTemplate.opsForValue()
+                    .multiGet(existing.stream().map(p -> stockKey(p.getProductId())).toList());
+            for (int i = 0; i < existing.size(); i++) {
+                Product product = existing.get(i);
+                String redisStock = stocks == null ? null : stocks.get(i);
+                if (redisStock != null && Integer.parseInt(redisStock) != product.getStock()) {
+                    drift++;
+                    log.warn("Redis 재고와 DB 재고 불일치: productId={}, redis={}, db={}",
+                            product.getProductId(), redisStock, product.getStock());
+                }
+            }
+        }
+
+        log.info("Redis 재고 원장 기동 정합성 점검 완료: 적재={}, 기존={}, 불일치={}",
+                products.size() - existing.size(), existing.size(), drift);
+    }
+}
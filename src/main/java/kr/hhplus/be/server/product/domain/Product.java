@@ -3,6 +3,7 @@ package kr.hhplus.be.server.product.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "product")
@@ -20,9 +21,25 @@ public class Product {
     @Column(name = "price", nullable = false)
     private int price;
 
+    // 상품 행 재고 (버킷으로 분할된 상품의 판매 가능 재고는 ShardedStockService.getAvailableStock)
     @Column(name = "stock", nullable = false)
     private int stock;
 
+    // 재고 버킷 수 (0이면 분할하지 않은 상품, stock 컬럼만 사용)
+    @Column(name = "stock_bucket_count", nullable = false)
+    @ColumnDefault("0")
+    private int stockBucketCount;
+
+    // 마지막으로 재고를 쓴 락 보유자의 펜싱 토큰 (펜싱 UPDATE로만 변경, 엔티티 저장 시에는 건드리지 않음)
+    // 펜싱 쓰기는 상대값 증감이므로 펜싱을 쓰지 않는 재고 쓰기는 이 값을 올리지 않아도 덮어써지지 않음
+    @Column(name = "stock_version", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long stockVersion;
+
+    public boolean isStockSharded() {
+        return stockBucketCount > 0;
+    }
+
     public void decreaseStock(int quantity) {
         if (this.stock < quantity) {
             throw new IllegalStateException("재고가 부족합니다.");
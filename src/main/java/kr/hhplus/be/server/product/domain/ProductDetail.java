@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.product.domain;
+
+/**
+ * 상품 표시 정보 스냅샷 (상품 상세 캐시 저장 단위)
+ * stock은 저장 시점 값이므로 캐시 TTL만큼 늦게 반영될 수 있음
+ */
+public record ProductDetail(Long productId, String productName, int price, int stock) {
+
+    public static ProductDetail from(Product product) {
+        return new ProductDetail(product.getProductId(), product.getProductName(), product.getPrice(), product.getStock());
+    }
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일 판매량 집계에 반영한 주문 완료 이벤트 이력
+ * 아웃박스 재발행/컨슈머 재처리로 같은 이벤트가 다시 와도 판매량을 한 번만 더하기 위한 멱등성 기록
+ */
+@Entity
+@Table(name = "product_sales_applied_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesAppliedEvent {
+
+    @Id
+    @Column(name = "event_id", length = 100)
+    private String eventId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
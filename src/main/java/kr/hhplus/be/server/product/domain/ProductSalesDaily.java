@@ -0,0 +1,41 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 상품별 일 판매량 집계 (주문 완료 이벤트로 증분 갱신, 과거분은 백필)
+ * 기간 인기상품은 주문 아이템 대신 이 테이블의 (일수 × 판매 상품 수) 행만 읽음
+ */
+@Entity
+@Table(name = "product_sales_daily",
+        indexes = @Index(name = "idx_product_sales_daily_date", columnList = "sales_date, product_id, quantity"))
+@IdClass(ProductSalesDaily.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesDaily {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long productId;
+        private LocalDate salesDate;
+    }
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 백필로 주문 아이템에서 다시 계산한 판매일 (백필 워터마크)
+ * 이 날짜의 집계는 백필 결과가 기준이므로, 이후 재전달/지연 도착한 주문 완료 이벤트는 더하지 않음
+ */
+@Entity
+@Table(name = "product_sales_rebuilt_day")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSalesRebuiltDay {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "rebuilt_at", nullable = false)
+    private LocalDateTime rebuiltAt;
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 버킷
+ * 인기 상품 재고를 여러 행으로 나눠 동시에 여러 트랜잭션이 서로 다른 행을 차감할 수 있게 함
+ */
+@Entity
+@Table(name = "product_stock_bucket",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_bucket", columnNames = {"product_id", "bucket_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductStockBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "bucket_id")
+    private Long bucketId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(name = "stock", nullable = false)
+    private int stock;
+
+    public ProductStockBucket(Long productId, int bucketNo, int stock) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.stock = stock;
+    }
+
+    public void changeStock(int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("버킷 재고는 0보다 작을 수 없습니다.");
+        }
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 보상 처리 이력
+ * 보상 키(compensation_key)당 한 번만 재고를 복구하기 위한 멱등성 기록
+ */
+@Entity
+@Table(name = "stock_compensation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockCompensation {
+
+    @Id
+    @Column(name = "compensation_key", length = 100)
+    private String compensationKey;
+
+    @Column(name = "reason", length = 50)
+    private String reason;
+
+    @Column(name = "total_quantity", nullable = false)
+    private int totalQuantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
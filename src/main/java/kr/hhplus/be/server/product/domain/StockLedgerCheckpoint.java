@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.product.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 재고 원장에서 마지막으로 product.stock에 반영한 증감분 묶음
+ * 반영 후 Redis 정리에 실패해 같은 묶음이 다시 전달되어도 재고를 한 번만 더하기 위한 멱등성 기록
+ * (묶음은 리더 한 노드가 순서대로 반영하므로 원장별 마지막 묶음만 기억하면 됨)
+ */
+@Entity
+@Table(name = "stock_ledger_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockLedgerCheckpoint {
+
+    @Id
+    @Column(name = "ledger", length = 50)
+    private String ledger;
+
+    @Column(name = "batch_id", nullable = false, length = 36)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
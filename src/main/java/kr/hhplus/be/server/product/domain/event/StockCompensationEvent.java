@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.product.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 재고 보상 요청 이벤트 (즉시 보상에 실패했을 때 Kafka로 재시도)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockCompensationEvent {
+    private String compensationKey; // 멱등성 보장을 위한 보상 키
+    private Map<Long, Integer> quantities; // 상품 ID → 복구 수량
+    private String reason;
+}
@@ -4,12 +4,33 @@ import kr.hhplus.be.server.product.domain.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
     Optional<Product> findById(Long id);
     List<Product> findAll();
+    // 상품 일괄 조회 (IN 쿼리 1회)
+    List<Product> findAllById(Collection<Long> productIds);
     Optional<Product> findByIdForUpdate(Long id);
     Product save(Product product);
+    // 조건부 재고 차감 (UPDATE ... WHERE stock >= ?), 반환값: 영향 행 수
+    int decreaseStockIfAvailable(Long productId, int quantity);
+    // 조건부 재고 차감 일괄 처리 (JDBC batch), 반환값: 입력 순서대로의 영향 행 수
+    int[] decreaseStocksIfAvailable(Map<Long, Integer> quantities);
+    // 재고 증가 일괄 처리 (UPDATE ... SET stock = stock + ?, JDBC batch)
+    void increaseStocks(Map<Long, Integer> quantities);
+    // 펜싱 토큰 조건부 재고 증감 (stock_version <= 토큰이고 재고가 음수가 되지 않을 때만), 반환값: 영향 행 수
+    int adjustStockFenced(Long productId, int delta, long fencingToken);
+    // 마지막으로 재고를 쓴 펜싱 토큰 (영속성 컨텍스트를 거치지 않고 DB 값 조회)
+    Optional<Long> findStockVersion(Long productId);
+    // 펜싱 쓰기가 한 번 이상 있었던 상품별 마지막 펜싱 토큰 (stock_version > 0)
+    Map<Long, Long> findStockVersions();
+    // 재고 원장에서 마지막으로 반영한 묶음 ID (행 락, 없으면 empty)
+    Optional<String> findLedgerBatchIdForUpdate(String ledger);
+    // 재고 원장에서 마지막으로 반영한 묶음 ID 기록 (없으면 생성)
+    void saveLedgerBatchId(String ledger, String batchId, LocalDateTime appliedAt);
 }
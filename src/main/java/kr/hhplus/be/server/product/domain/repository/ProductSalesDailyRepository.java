@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.order.domain.ProductSales;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProductSalesDailyRepository {
+    // 이미 집계에 반영한 이벤트 ID
+    Set<String> findAppliedEventIds(Collection<String> eventIds);
+    // 이벤트 반영 기록 (이미 있는 ID면 중복 키 예외로 트랜잭션 전체가 롤백됨)
+    void markApplied(Collection<String> eventIds, LocalDateTime appliedAt);
+    // 반영 기록 정리
+    int deleteAppliedEventsBefore(LocalDateTime appliedAt);
+    // 일 판매량 증분 반영 (판매일 → 상품 ID → 수량, 행이 없으면 생성)
+    void addQuantities(Map<LocalDate, Map<Long, Long>> quantities);
+    // 하루치 집계를 주문 아이템에서 다시 계산하여 덮어쓰고 백필한 날짜로 기록
+    int rebuildDay(LocalDate salesDate);
+    // 백필한 판매일 (공유 락 조회: 진행 중인 같은 날짜 백필이 커밋될 때까지 대기)
+    Set<LocalDate> findRebuiltDays(Collection<LocalDate> salesDates);
+    // [startDate, endDate] 기간 판매량 상위 limit개 상품 (판매량 내림차순)
+    List<ProductSales> findTopSelling(LocalDate startDate, LocalDate endDate, int limit);
+}
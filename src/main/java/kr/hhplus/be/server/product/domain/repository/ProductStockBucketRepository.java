@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+import kr.hhplus.be.server.product.domain.ProductStockBucket;
+
+import java.util.List;
+
+public interface ProductStockBucketRepository {
+    // 버킷 조건부 차감 (UPDATE ... WHERE stock >= ?), 반환값: 영향 행 수
+    int decreaseIfAvailable(Long productId, int bucketNo, int quantity);
+    // 버킷 재고 증가
+    void increase(Long productId, int bucketNo, int quantity);
+    // 재고가 quantity 이상인 버킷 번호 (락 없이 조회, 차감 후보 선정용)
+    List<Integer> findBucketNosWithStock(Long productId, int quantity);
+    // 상품의 전체 버킷을 bucket_no 순서로 비관적 락 조회
+    List<ProductStockBucket> findAllByProductIdForUpdate(Long productId);
+    // 상품의 버킷 재고 합계 (락 없음)
+    int sumStock(Long productId);
+    // 버킷으로 분할된 상품 ID 목록
+    List<Long> findShardedProductIds();
+    List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets);
+    void deleteAll(List<ProductStockBucket> buckets);
+}
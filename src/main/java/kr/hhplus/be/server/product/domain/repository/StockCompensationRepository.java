@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.product.domain.repository;
+
+public interface StockCompensationRepository {
+    // 보상 키 등록 (INSERT IGNORE), 반환값: 새로 등록되었으면 true, 이미 처리된 키면 false
+    boolean register(String compensationKey, String reason, int totalQuantity);
+}
@@ -4,16 +4,24 @@ import kr.hhplus.be.server.product.domain.Product;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
 import kr.hhplus.be.server.product.infrastructure.repository.ProductJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepository {
     private final ProductJpaRepository productJpaRepository;
-
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Optional<Product> findById(Long productId) {
@@ -25,6 +33,11 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findAll();
     }
 
+    @Override
+    public List<Product> findAllById(Collection<Long> productIds) {
+        return productJpaRepository.findAllById(productIds);
+    }
+
     @Override
     public Optional<Product> findByIdForUpdate(Long productId) {
         return productJpaRepository.findByIdForUpdate(productId);
@@ -34,4 +47,68 @@ public class ProductRepositoryImpl implements ProductRepository {
     public Product save(Product product) {
         return productJpaRepository.save(product);
     }
+
+    @Override
+    public int decreaseStockIfAvailable(Long productId, int quantity) {
+        return productJpaRepository.decreaseStockIfAvailable(productId, quantity);
+    }
+
+    @Override
+    public int[] decreaseStocksIfAvailable(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return new int[0];
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> batchArgs.add(new Object[]{quantity, productId, quantity}));
+
+        return jdbcTemplate.batchUpdate(
+                "UPDATE product SET stock = stock - ? WHERE product_id = ? AND stock >= ?", batchArgs);
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> batchArgs.add(new Object[]{quantity, productId}));
+
+        jdbcTemplate.batchUpdate("UPDATE product SET stock = stock + ? WHERE product_id = ?", batchArgs);
+    }
+
+    @Override
+    public int adjustStockFenced(Long productId, int delta, long fencingToken) {
+        return productJpaRepository.adjustStockFenced(productId, delta, fencingToken);
+    }
+
+    @Override
+    public Optional<Long> findStockVersion(Long productId) {
+        return productJpaRepository.findStockVersion(productId);
+    }
+
+    @Override
+    public Map<Long, Long> findStockVersions() {
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT product_id, stock_version FROM product WHERE stock_version > 0",
+                (RowCallbackHandler) rs -> versions.put(rs.getLong("product_id"), rs.getLong("stock_version")));
+        return versions;
+    }
+
+    @Override
+    public Optional<String> findLedgerBatchIdForUpdate(String ledger) {
+        return jdbcTemplate.queryForList(
+                "SELECT batch_id FROM stock_ledger_checkpoint WHERE ledger = ? FOR UPDATE", String.class, ledger)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public void saveLedgerBatchId(String ledger, String batchId, LocalDateTime appliedAt) {
+        jdbcTemplate.update(
+                "INSERT INTO stock_ledger_checkpoint (ledger, batch_id, applied_at) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE batch_id = VALUES(batch_id), applied_at = VALUES(applied_at)",
+                ledger, batchId, Timestamp.valueOf(appliedAt));
+    }
 }
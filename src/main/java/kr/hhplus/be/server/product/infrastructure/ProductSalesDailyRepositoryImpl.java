@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.order.domain.ProductSales;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSalesDailyRepositoryImpl implements ProductSalesDailyRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findAppliedEventIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT event_id FROM product_sales_applied_event WHERE event_id IN (" + placeholders(eventIds.size()) + ")",
+                String.class, eventIds.toArray()));
+    }
+
+    @Override
+    public void markApplied(Collection<String> eventIds, LocalDateTime appliedAt) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(appliedAt);
+        List<Object[]> batchArgs = new ArrayList<>(eventIds.size());
+        eventIds.forEach(eventId -> batchArgs.add(new Object[]{eventId, now}));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_sales_applied_event (event_id, applied_at) VALUES (?, ?)", batchArgs);
+    }
+
+    @Override
+    public int deleteAppliedEventsBefore(LocalDateTime appliedAt) {
+        return jdbcTemplate.update(
+                "DELETE FROM product_sales_applied_event WHERE applied_at < ?", Timestamp.valueOf(appliedAt));
+    }
+
+    @Override
+    public void addQuantities(Map<LocalDate, Map<Long, Long>> quantities) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        quantities.forEach((salesDate, byProduct) -> byProduct.forEach((productId, quantity) ->
+                batchArgs.add(new Object[]{Date.valueOf(salesDate), productId, quantity})));
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_sales_daily (sales_date, product_id, quantity) VALUES (?, ?, ?) " +
+                        "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)", batchArgs);
+    }
+
+    @Override
+    public int rebuildDay(LocalDate salesDate) {
+        Timestamp from = Timestamp.valueOf(salesDate.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(salesDate.plusDays(1).atStartOfDay());
+
+        // 백필 기록을 먼저 써서(행 락) 같은 날짜 이벤트를 반영하려는 컨슈머가 이 트랜잭션의 커밋을 기다리게 함
+        jdbcTemplate.update(
+                "INSERT INTO product_sales_rebuilt_day (sales_date, rebuilt_at) VALUES (?, ?) " +
+                        "ON DUPLICATE KEY UPDATE rebuilt_at = VALUES(rebuilt_at)",
+                Date.valueOf(salesDate), Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update("DELETE FROM product_sales_daily WHERE sales_date = ?", Date.valueOf(salesDate));
+        return jdbcTemplate.update(
+                "INSERT INTO product_sales_daily (sales_date, product_id, quantity) " +
+                        "SELECT ?, product_id, SUM(quantity) FROM order_item " +
+                        "WHERE order_date >= ? AND order_date < ? GROUP BY product_id",
+                Date.valueOf(salesDate), from, to);
+    }
+
+    @Override
+    public Set<LocalDate> findRebuiltDays(Collection<LocalDate> salesDates) {
+        if (salesDates.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(jdbcTemplate.query(
+                "SELECT sales_date FROM product_sales_rebuilt_day " +
+                        "WHERE sales_date IN (" + placeholders(salesDates.size()) + ") FOR SHARE",
+                (rs, rowNum) -> rs.getDate("sales_date").toLocalDate(),
+                salesDates.stream().map(Date::valueOf).toArray()));
+    }
+
+    @Override
+    public List<ProductSales> findTopSelling(LocalDate startDate, LocalDate endDate, int limit) {
+        return jdbcTemplate.query(
+                "SELECT product_id, SUM(quantity) AS total FROM product_sales_daily " +
+                        "WHERE sales_date BETWEEN ? AND ? GROUP BY product_id ORDER BY total DESC LIMIT ?",
+                (rs, rowNum) -> new ProductSales(rs.getLong("product_id"), rs.getLong("total")),
+                Date.valueOf(startDate), Date.valueOf(endDate), limit);
+    }
+
+    private String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
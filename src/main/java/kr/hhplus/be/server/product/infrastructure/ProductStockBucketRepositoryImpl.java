@@ -0,0 +1,55 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.ProductStockBucket;
+import kr.hhplus.be.server.product.domain.repository.ProductStockBucketRepository;
+import kr.hhplus.be.server.product.infrastructure.repository.ProductStockBucketJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockBucketRepositoryImpl implements ProductStockBucketRepository {
+    private final ProductStockBucketJpaRepository productStockBucketJpaRepository;
+
+    @Override
+    public int decreaseIfAvailable(Long productId, int bucketNo, int quantity) {
+        return productStockBucketJpaRepository.decreaseIfAvailable(productId, bucketNo, quantity);
+    }
+
+    @Override
+    public void increase(Long productId, int bucketNo, int quantity) {
+        productStockBucketJpaRepository.increase(productId, bucketNo, quantity);
+    }
+
+    @Override
+    public List<Integer> findBucketNosWithStock(Long productId, int quantity) {
+        return productStockBucketJpaRepository.findBucketNosWithStock(productId, quantity);
+    }
+
+    @Override
+    public List<ProductStockBucket> findAllByProductIdForUpdate(Long productId) {
+        return productStockBucketJpaRepository.findAllByProductIdForUpdate(productId);
+    }
+
+    @Override
+    public int sumStock(Long productId) {
+        return Math.toIntExact(productStockBucketJpaRepository.sumStockByProductId(productId));
+    }
+
+    @Override
+    public List<Long> findShardedProductIds() {
+        return productStockBucketJpaRepository.findDistinctProductIds();
+    }
+
+    @Override
+    public List<ProductStockBucket> saveAll(List<ProductStockBucket> buckets) {
+        return productStockBucketJpaRepository.saveAll(buckets);
+    }
+
+    @Override
+    public void deleteAll(List<ProductStockBucket> buckets) {
+        productStockBucketJpaRepository.deleteAll(buckets);
+    }
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.product.infrastructure;
+
+import kr.hhplus.be.server.product.domain.repository.StockCompensationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class StockCompensationRepositoryImpl implements StockCompensationRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean register(String compensationKey, String reason, int totalQuantity) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO stock_compensation (compensation_key, reason, total_quantity, created_at) " +
+                        "VALUES (?, ?, ?, NOW(6))",
+                compensationKey, reason, totalQuantity) == 1;
+    }
+}
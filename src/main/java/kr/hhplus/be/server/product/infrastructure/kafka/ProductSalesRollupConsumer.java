@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.product.infrastructure.kafka;
+
+import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
+import kr.hhplus.be.server.product.application.ProductSalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 주문 완료 이벤트로 상품 일 판매량 집계 갱신
+ * poll 한 번에 받은 이벤트를 한 트랜잭션의 batch upsert로 반영 (이벤트 ID로 멱등 처리되므로 재전달되어도 안전)
+ * 그룹은 earliest부터 시작하여 백필 범위 밖(오늘 등)의 보관 중인 이벤트를 반영하고,
+ * 백필한 날짜의 이벤트는 ProductSalesRollupService가 걸러내므로 중복 합산되지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSalesRollupConsumer {
+
+    private final ProductSalesRollupService productSalesRollupService;
+
+    @KafkaListener(
+            topics = OrderEventProducer.ORDER_COMPLETED_TOPIC,
+            groupId = "product-sales-rollup-group",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void handle(@Payload List<OrderCompletedEvent> events, Acknowledgment acknowledgment) {
+        try {
+            int applied = productSalesRollupService.apply(events);
+            log.debug("일 판매량 집계 반영: received={}, applied={}", events.size(), applied);
+            acknowledgment.acknowledge();
+        } catch (Exception e) {
+            log.error("일 판매량 집계 반영 실패 - 재처리 예정: events={}, error={}", events.size(), e.getMessage(), e);
+            // 묶음 전체가 롤백되었으므로 첫 이벤트부터 다시 처리
+            acknowledgment.nack(0, Duration.ofSeconds(1));
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.product.infrastructure.kafka;
+
+import kr.hhplus.be.server.product.application.stock.StockCompensationService;
+import kr.hhplus.be.server.product.domain.event.StockCompensationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 재고 보상 재시도 (보상 키로 멱등 처리되므로 재전달되어도 안전)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockCompensationConsumer {
+
+    private final StockCompensationService stockCompensationService;
+
+    @KafkaListener(
+            topics = StockCompensationProducer.STOCK_COMPENSATION_TOPIC,
+            groupId = "stock-compensation-group",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handle(@Payload StockCompensationEvent event, Acknowledgment acknowledgment) {
+        try {
+            stockCompensationService.compensate(event.getCompensationKey(), event.getQuantities(), event.getReason());
+            acknowledgment.acknowledge();
+        } catch (Exception e) {
+            log.error("재고 보상 재시도 실패: compensationKey={}, error={}", event.getCompensationKey(), e.getMessage());
+            // 잠시 후 같은 메시지부터 다시 처리
+            acknowledgment.nack(Duration.ofSeconds(1));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.hhplus.be.server.product.infrastructure.kafka;
+
+import kr.hhplus.be.server.product.domain.event.StockCompensationEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockCompensationProducer {
+
+    static final String STOCK_COMPENSATION_TOPIC = "stock.compensation";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    public void publish(StockCompensationEvent event) {
+        kafkaTemplate.send(STOCK_COMPENSATION_TOPIC, event.getCompensationKey(), event)
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("event=STOCK_COMPENSATION_PUBLISH_FAILED compensationKey={} items={} error={}",
+                                event.getCompensationKey(), event.getQuantities(), throwable.getMessage());
+                    } else {
+                        log.info("재고 보상 요청 발행: compensationKey={}, partition={}, offset={}",
+                                event.getCompensationKey(),
+                                result.getRecordMetadata().partition(),
+                                result.getRecordMetadata().offset());
+                    }
+                });
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.product.domain.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,4 +16,19 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT p FROM Product p WHERE p.productId = :id")
     Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    // 조건부 재고 차감: 재고가 충분할 때만 한 문장으로 차감 (영향 행 0이면 재고 부족)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.productId = :id AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 펜싱 토큰 조건부 재고 증감: 더 최신 토큰으로 이미 쓴 경우 또는 재고가 음수가 되는 경우 반영하지 않음 (영향 행 0)
+    // 상대값(stock + :delta)으로 갱신하여 펜싱을 쓰지 않는 다른 재고 쓰기(조건부 차감, 보상 복구 등)를 덮어쓰지 않음
+    @Modifying
+    @Query(value = "UPDATE product SET stock = stock + :delta, stock_version = :token " +
+            "WHERE product_id = :id AND stock_version <= :token AND stock + :delta >= 0", nativeQuery = true)
+    int adjustStockFenced(@Param("id") Long id, @Param("delta") int delta, @Param("token") long fencingToken);
+
+    @Query("SELECT p.stockVersion FROM Product p WHERE p.productId = :id")
+    Optional<Long> findStockVersion(@Param("id") Long id);
 }
@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.product.infrastructure.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.product.domain.ProductStockBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProductStockBucketJpaRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.stock = b.stock - :quantity " +
+            "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.stock >= :quantity")
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("bucketNo") int bucketNo,
+                            @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockBucket b SET b.stock = b.stock + :quantity " +
+            "WHERE b.productId = :productId AND b.bucketNo = :bucketNo")
+    int increase(@Param("productId") Long productId,
+                 @Param("bucketNo") int bucketNo,
+                 @Param("quantity") int quantity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ProductStockBucket b WHERE b.productId = :productId ORDER BY b.bucketNo")
+    List<ProductStockBucket> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    @Query("SELECT b.bucketNo FROM ProductStockBucket b " +
+            "WHERE b.productId = :productId AND b.stock >= :quantity ORDER BY b.bucketNo")
+    List<Integer> findBucketNosWithStock(@Param("productId") Long productId,
+                                         @Param("quantity") int quantity);
+
+    @Query("SELECT COALESCE(SUM(b.stock), 0) FROM ProductStockBucket b WHERE b.productId = :productId")
+    long sumStockByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT DISTINCT b.productId FROM ProductStockBucket b")
+    List<Long> findDistinctProductIds();
+}
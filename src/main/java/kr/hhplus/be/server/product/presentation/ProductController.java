@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.product.presentation;
 
+import kr.hhplus.be.server.product.application.PopularProductSnapshot;
 import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.stock.ShardedStockService;
 import kr.hhplus.be.server.product.domain.Product;
 import kr.hhplus.be.server.common.CommonResponse;
 import kr.hhplus.be.server.common.CommonResultCode;
@@ -10,7 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -21,6 +25,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @RequestMapping("/products")
 public class ProductController {
     private final ProductService productService;
+    private final ShardedStockService shardedStockService;
+    private final PopularProductSnapshot popularProductSnapshot;
 
     @GetMapping
     public List<Product> getAllProducts() {
@@ -30,24 +36,46 @@ public class ProductController {
     @GetMapping("/{productId}")
     public ResponseEntity<CommonResponse> getProductById(@PathVariable(name = "productId") Long productId) {
         Product product = productService.getProductById(productId);
-        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.GET_PRODUCT_SUCCESS, ProductResponse.from(product)));
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.GET_PRODUCT_SUCCESS,
+                ProductResponse.from(product, shardedStockService.getAvailableStock(product))));
     }
 
-    // 최근 3일 간 상위 상품 5개 조회
+    // 최근 3일 간 상위 상품 5개 조회 (days, page, limit으로 다른 기간/순위 구간 조회 가능)
     @GetMapping("/popular")
-    public ResponseEntity<CommonResponse> getPopularProducts() {
-        // Redis 기반 조회 시도
-        List<PopularProductResponse> popularProducts = productService.getPopularProductsFromRedis();
-
-        // Redis 데이터가 없으면 기존 DB 방식으로 폴백
-        if (popularProducts.isEmpty()) {
-            popularProducts = productService.getTop5PopularProducts();
+    public ResponseEntity<CommonResponse> getPopularProducts(
+            @RequestParam(name = "days", defaultValue = "3") int days,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "limit", defaultValue = "5") int limit) {
+        // 노드 로컬 스냅샷 (Redis 왕복 없음)
+        List<PopularProductResponse> popularProducts = popularProductSnapshot.get(days, page, limit);
+        if (popularProducts != null) {
+            return ResponseEntity.ok(
+                    CommonResponse.of(CommonResultCode.GET_POPULAR_PRODUCTS_SUCCESS, popularProducts)
+            );
         }
 
-        // 이미 ProductService에서 순위를 매겼으므로 순위 매기는 기능 삭제
+        // 스냅샷 범위 밖이면 Redis 기반 조회 시도 (미리 합산된 기간 키에서 ZREVRANGE 한 번)
+        popularProducts = productService.getPopularProductsFromRedis(days, page, limit);
+
+        // Redis 데이터가 없으면 DB 방식으로 폴백 (첫 페이지만)
+        if (popularProducts.isEmpty() && page == 0) {
+            popularProducts = (days == 3 && limit == 5)
+                    ? productService.getTop5PopularProducts()
+                    : productService.getPopularProducts(days, limit);
+        }
 
         return ResponseEntity.ok(
                 CommonResponse.of(CommonResultCode.GET_POPULAR_PRODUCTS_SUCCESS, popularProducts)
         );
     }
+
+    // 재고 버킷 수 변경 (0이면 분할 해제)
+    @PutMapping("/{productId}/stock-buckets")
+    public ResponseEntity<CommonResponse> updateStockBuckets(@PathVariable(name = "productId") Long productId,
+                                                             @RequestParam(name = "count") int count) {
+        shardedStockService.reshard(productId, count);
+        Product product = productService.getProductById(productId);
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.UPDATE_STOCK_BUCKETS_SUCCESS,
+                ProductResponse.from(product, shardedStockService.getAvailableStock(product))));
+    }
 }
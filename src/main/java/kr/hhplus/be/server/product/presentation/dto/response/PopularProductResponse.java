@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.product.presentation.dto.response;
 
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductDetail;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -28,6 +29,16 @@ public class PopularProductResponse implements Serializable {
                 .build();
     }
 
+    public static PopularProductResponse from(ProductDetail detail, int totalSold) {
+        return PopularProductResponse.builder()
+                .productId(detail.productId())
+                .productName(detail.productName())
+                .price(detail.price())
+                .currentStock(detail.stock())
+                .totalSold(totalSold)
+                .build();
+    }
+
     // 순위 설정용
     public PopularProductResponse withRank(int rank) {
         return PopularProductResponse.builder()
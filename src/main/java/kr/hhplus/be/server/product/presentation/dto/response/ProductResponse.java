@@ -17,13 +17,14 @@ public class ProductResponse implements Serializable {
     private int price;
     private int stock;
 
-    public static ProductResponse from(Product product) {
+    // stock: 판매 가능 재고 (분할된 상품은 버킷 재고 합계 포함)
+    public static ProductResponse from(Product product, int stock) {
         return ProductResponse
                 .builder()
                 .productId(product.getProductId())
                 .productName(product.getProductName())
                 .price(product.getPrice())
-                .stock(product.getStock())
+                .stock(stock)
                 .build();
     }
 
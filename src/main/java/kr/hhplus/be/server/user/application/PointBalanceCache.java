@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.user.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import kr.hhplus.be.server.common.config.PointLedgerProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 사용자별 포인트 잔액 로컬 캐시
+ * - 조회는 캐시에서 바로 응답하고, 없을 때만 스냅샷 + 이후 거래 합으로 계산
+ * - 이 노드의 기록은 커밋 후 무효화, 다른 노드의 기록은 TTL 안에 반영
+ */
+@Component
+public class PointBalanceCache {
+
+    private final Cache<Long, Long> balances;
+
+    public PointBalanceCache(PointLedgerProperties properties) {
+        this.balances = Caffeine.newBuilder()
+                .maximumSize(properties.getBalanceCacheSize())
+                .expireAfterWrite(properties.getBalanceCacheTtl())
+                .build();
+    }
+
+    public long get(Long userId, Function<Long, Long> loader) {
+        return balances.get(userId, loader);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 밖이면 즉시 무효화
+     * (커밋 전에 지우면 그 사이 조회가 커밋 전 잔액을 다시 캐시할 수 있음)
+     */
+    public void evictAfterCommit(Collection<Long> userIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            balances.invalidateAll(userIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                balances.invalidateAll(userIds);
+            }
+        });
+    }
+}
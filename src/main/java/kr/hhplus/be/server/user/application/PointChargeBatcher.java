@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.common.config.PointLedgerProperties;
+import kr.hhplus.be.server.user.domain.PointTransaction;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 포인트 충전 결합기 (group commit)
+ * - 충전 요청을 짧은 구간(window) 동안 모았다가 한 트랜잭션의 batch INSERT로 원장에 기록
+ * - 충전은 잔액 검증이 필요 없으므로 사용자와 관계없이 한 묶음으로 처리 (행 갱신/행 락 없음)
+ * - 각 요청은 묶음이 커밋된 뒤 완료되므로, 호출자가 응답을 받은 충전은 유실되지 않음
+ */
+@Component
+@Slf4j
+public class PointChargeBatcher {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointBalanceCache pointBalanceCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler scheduler;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public PointChargeBatcher(PointLedgerRepository pointLedgerRepository,
+                              PointBalanceCache pointBalanceCache,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("pointLedgerScheduler") TaskScheduler scheduler,
+                              PointLedgerProperties properties) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.pointBalanceCache = pointBalanceCache;
+        this.transactionTemplate = transactionTemplate;
+        this.scheduler = scheduler;
+        this.windowMillis = properties.getChargeWindow().toMillis();
+        this.maxBatchSize = properties.getChargeBatchSize();
+        this.timeoutMillis = properties.getChargeTimeout().toMillis();
+    }
+
+    /**
+     * 충전 기록 후 커밋까지 대기, 원래 예외를 그대로 전달
+     */
+    public void charge(PointTransaction transaction) {
+        CompletableFuture<Void> future = submit(transaction);
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("포인트 충전에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            // 묶음이 이미 기록 중일 수 있으므로 결과가 불확실함을 알림
+            throw new IllegalStateException("포인트 충전 처리 대기 시간이 초과되었습니다. 잔액을 확인해주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 충전 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 충전 요청 등록 (비동기)
+     */
+    public CompletableFuture<Void> submit(PointTransaction transaction) {
+        Pending pending = new Pending(transaction, new CompletableFuture<>());
+        queue.add(pending);
+
+        // 묶음 처리가 예약되어 있지 않을 때만 window 뒤에 처리 예약
+        if (scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain, Instant.now().plusMillis(windowMillis));
+        }
+        return pending.result;
+    }
+
+    private void drain() {
+        do {
+            List<Pending> batch = poll();
+            while (!batch.isEmpty()) {
+                flush(batch);
+                batch = poll();
+            }
+            scheduled.set(false);
+            // 해제 직후 들어온 요청이 있으면 이어서 처리 (예약을 다른 스레드가 가져갔으면 종료)
+        } while (!queue.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    private List<Pending> poll() {
+        List<Pending> batch = new ArrayList<>();
+        Pending pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        List<PointTransaction> transactions = batch.stream().map(Pending::transaction).toList();
+        Set<Long> userIds = new LinkedHashSet<>();
+        transactions.forEach(transaction -> userIds.add(transaction.getUserId()));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                pointLedgerRepository.ensureSnapshots(userIds);
+                pointLedgerRepository.appendAll(transactions);
+            });
+            pointBalanceCache.evictAfterCommit(userIds);
+            batch.forEach(pending -> pending.result.complete(null));
+        } catch (Exception e) {
+            log.warn("포인트 충전 묶음 기록 실패: 요청={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        }
+    }
+
+    private record Pending(PointTransaction transaction, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.user.domain.PointTransaction;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+
+/**
+ * 포인트 원장 (추가 전용 거래 기록 + 주기적 잔액 스냅샷)
+ * - 충전: PointChargeBatcher가 여러 요청을 batch INSERT로 기록 (행 락 없음)
+ * - 사용: 스냅샷 행을 잠가 잔액 검증 후 거래 1건 추가 (같은 사용자의 사용끼리만 직렬화)
+ *   스냅샷 이후 거래 합은 잠금 없이 읽으므로 READ COMMITTED 트랜잭션에서만 호출
+ *   (REPEATABLE READ이면 락을 기다리는 동안 커밋된 다른 사용 기록이 보이지 않아 잔액을 넘겨 쓸 수 있음)
+ * - 잔액: 로컬 캐시 → 스냅샷 + 이후 거래 합 (잠금 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointChargeBatcher pointChargeBatcher;
+    private final PointBalanceCache pointBalanceCache;
+
+    public long getBalance(Long userId) {
+        return pointBalanceCache.get(userId, id -> pointLedgerRepository.findBalance(id)
+                .orElseThrow(() -> new NoSuchElementException("해당 사용자를 찾을 수 없습니다.")));
+    }
+
+    /**
+     * 충전 (묶음이 커밋될 때까지 대기, 호출한 트랜잭션과 별개로 커밋됨)
+     */
+    public void charge(Long userId, long amount) {
+        pointChargeBatcher.charge(PointTransaction.charge(userId, amount));
+    }
+
+    /**
+     * 사용 (호출한 트랜잭션 안에서 기록, 스냅샷 행 락은 커밋까지 유지되므로 트랜잭션 끝에서 호출)
+     * @throws IllegalStateException READ COMMITTED가 아닌 트랜잭션에서 호출한 경우 (이미 시작된 트랜잭션의 격리 수준은 바꿀 수 없음)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void use(Long userId, long amount) {
+        Integer isolation = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+        if (isolation == null || isolation != TransactionDefinition.ISOLATION_READ_COMMITTED) {
+            throw new IllegalStateException("포인트 사용은 READ COMMITTED 트랜잭션에서 호출해야 합니다.");
+        }
+
+        PointTransaction transaction = PointTransaction.use(userId, amount);
+
+        OptionalLong balance = pointLedgerRepository.lockBalance(userId);
+        if (balance.isEmpty()) {
+            pointLedgerRepository.ensureSnapshots(List.of(userId));
+            balance = pointLedgerRepository.lockBalance(userId);
+        }
+
+        long current = balance.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (current < amount) {
+            throw new IllegalStateException(
+                    String.format("포인트가 부족합니다. (현재 잔액: %d원, 필요 금액: %d원)", current, amount));
+        }
+
+        pointLedgerRepository.appendAll(List.of(transaction));
+        pointBalanceCache.evictAfterCommit(List.of(userId));
+    }
+}
@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.user.application;
+
+import kr.hhplus.be.server.common.config.PointLedgerProperties;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 포인트 스냅샷 압축기
+ * 거래 ID 구간 단위로 사용자별 거래 합을 스냅샷에 더하고 last_transaction_id를 앞으로 옮겨,
+ * 잔액 계산 시 합산할 거래 수를 압축 주기 동안 쌓인 만큼으로 유지
+ * - compactionLag보다 최근 거래는 압축하지 않음
+ * - 구간 안에서 빠진 거래 ID(아직 커밋되지 않은 거래)가 있으면 그 앞까지만 압축하고,
+ *   compactionLag 동안 계속 비어 있으면 롤백된 ID로 보고 건너뜀
+ * - 포인트 사용 기록은 스냅샷 행 락을 잡은 트랜잭션에서만 생기므로, 압축 시 스냅샷 행을 잠가 커밋을 기다림
+ *   (커밋이 얼마나 늦어도 사용 기록이 압축에서 누락되지 않음)
+ * - 여러 노드가 동시에 실행해도 스냅샷 갱신이 last_transaction_id 비교 조건으로 한 번만 반영됨
+ */
+@Component
+@Slf4j
+public class PointSnapshotCompactor {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointLedgerProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // 이 노드가 압축을 마친 거래 ID (첫 실행 시 스냅샷의 압축 위치로 시작)
+    private Long compactedUpTo;
+
+    // 빠진 거래 ID 구간의 시작 ID → 처음 발견한 시각
+    private final Map<Long, LocalDateTime> gapFirstSeen = new HashMap<>();
+
+    public PointSnapshotCompactor(PointLedgerRepository pointLedgerRepository,
+                                  PointLedgerProperties properties,
+                                  TransactionTemplate transactionTemplate) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.properties = properties;
+        // 스냅샷 락을 기다리는 동안 커밋된 사용 기록을 합에 포함하려면 READ COMMITTED가 필요
+        this.transactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @Scheduled(fixedDelayString = "${point.ledger.compaction-interval-ms:1000}")
+    public void compact() {
+        try {
+            if (compactedUpTo == null) {
+                compactedUpTo = pointLedgerRepository.findCompactionStart();
+            }
+
+            Optional<Long> horizon = pointLedgerRepository.findLastTransactionIdBefore(
+                    LocalDateTime.now().minus(properties.getCompactionLag()));
+            if (horizon.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            while (compactedUpTo < horizon.get()) {
+                long from = compactedUpTo;
+                long to = committedUpTo(from, Math.min(horizon.get(), from + properties.getCompactionBatchSize()), now);
+                if (to <= from) {
+                    // 구간 첫 거래가 아직 커밋되지 않음 → 다음 주기에 다시 확인
+                    break;
+                }
+
+                Integer compacted = transactionTemplate.execute(status ->
+                        pointLedgerRepository.compactSnapshots(from, to));
+                compactedUpTo = to;
+
+                log.debug("포인트 스냅샷 압축: 거래 ID ({}, {}], 스냅샷 {}건", from, to, compacted);
+            }
+            gapFirstSeen.keySet().removeIf(id -> id <= compactedUpTo);
+        } catch (Exception e) {
+            log.warn("포인트 스냅샷 압축 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * (from, to] 구간에서 빠진 ID 없이 이어지는 마지막 거래 ID
+     * 빠진 ID가 compactionLag 이상 비어 있으면 롤백된 것으로 보고 이어서 확인
+     */
+    private long committedUpTo(long from, long to, LocalDateTime now) {
+        List<Long> ids = pointLedgerRepository.findTransactionIds(from, to);
+
+        long expected = from + 1;
+        for (long id : ids) {
+            if (id > expected && !isAbandoned(expected, now)) {
+                return expected - 1;
+            }
+            expected = id + 1;
+        }
+        if (expected <= to && !isAbandoned(expected, now)) {
+            return expected - 1;
+        }
+        return to;
+    }
+
+    private boolean isAbandoned(long gapStart, LocalDateTime now) {
+        LocalDateTime firstSeen = gapFirstSeen.computeIfAbsent(gapStart, id -> now);
+        return !firstSeen.plus(properties.getCompactionLag()).isAfter(now);
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.user.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 포인트 잔액 스냅샷
+ * last_transaction_id까지의 거래를 balance에 합산한 상태 (압축기가 주기적으로 앞으로 이동)
+ * 최초 생성 시 users.point(원장 도입 전 잔액)를 초기 잔액으로 사용
+ * 포인트 사용은 이 행을 잠가 같은 사용자의 사용끼리만 직렬화 (충전은 잠그지 않음)
+ */
+@Entity
+@Table(name = "point_snapshot")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private long lastTransactionId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
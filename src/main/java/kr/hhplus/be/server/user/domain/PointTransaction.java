@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.user.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 거래 원장 (추가 전용, 수정/삭제하지 않음)
+ * 잔액 = point_snapshot.balance + 스냅샷 이후(point_transaction_id > last_transaction_id) 거래 금액 합
+ * 기록은 JDBC batch로 수행하며, 엔티티는 테이블/인덱스 정의용
+ */
+@Entity
+@Table(name = "point_transaction",
+        indexes = {
+                @Index(name = "idx_point_transaction_user", columnList = "user_id, point_transaction_id"),
+                @Index(name = "idx_point_transaction_created", columnList = "created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_transaction_id")
+    private Long pointTransactionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 부호 있는 금액 (충전 +, 사용 -)
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private PointTransactionType type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private PointTransaction(Long userId, long amount, PointTransactionType type) {
+        this.userId = userId;
+        this.amount = amount;
+        this.type = type;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static PointTransaction charge(Long userId, long amount) {
+        if (amount <= 0) throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
+        return new PointTransaction(userId, amount, PointTransactionType.CHARGE);
+    }
+
+    public static PointTransaction use(Long userId, long amount) {
+        if (amount <= 0) throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
+        return new PointTransaction(userId, -amount, PointTransactionType.USE);
+    }
+}
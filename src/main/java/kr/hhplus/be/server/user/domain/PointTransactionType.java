@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.user.domain;
+
+public enum PointTransactionType {
+    CHARGE,  // 충전 (양수)
+    USE      // 사용 (음수)
+}
@@ -14,6 +14,7 @@ public class User {
     @Column(name = "user_id")
     private Long userId;
 
+    // 원장 도입 전 잔액 (point_snapshot 최초 생성 시 초기 잔액으로만 사용, 이후 잔액은 PointLedgerService)
     @Column(name = "point", nullable = false)
     private long point;
 
@@ -21,15 +22,4 @@ public class User {
     @Column(name = "version")
     private Long version;
 
-    public void charge(long amount) {
-        if (amount <= 0) throw new IllegalArgumentException("충전 금액은 0보다 커야 합니다.");
-        this.point += amount;
-    }
-
-    public void usePoint(long amount) {
-        if (amount <= 0) throw new IllegalArgumentException("사용 금액은 0보다 커야 합니다.");
-        if (this.point < amount) throw new IllegalStateException("포인트가 부족합니다.");
-        this.point -= amount;
-    }
-
 }
\ No newline at end of file
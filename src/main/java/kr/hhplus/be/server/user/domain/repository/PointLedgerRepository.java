@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.user.domain.repository;
+
+import kr.hhplus.be.server.user.domain.PointTransaction;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+public interface PointLedgerRepository {
+    // 거래 일괄 기록 (JDBC batch)
+    void appendAll(List<PointTransaction> transactions);
+    // 스냅샷이 없는 사용자만 users.point를 초기 잔액으로 스냅샷 생성
+    void ensureSnapshots(Collection<Long> userIds);
+    // 현재 잔액 (스냅샷 + 이후 거래 합, 잠금 없음), 스냅샷이 없으면 users.point, 사용자가 없으면 empty
+    OptionalLong findBalance(Long userId);
+    // 스냅샷 행을 잠근 뒤 현재 잔액 (같은 사용자의 포인트 사용 직렬화, READ COMMITTED 트랜잭션 필요), 스냅샷이 없으면 empty
+    OptionalLong lockBalance(Long userId);
+    // createdBefore 이전에 기록된 마지막 거래 ID (압축 대상 상한)
+    Optional<Long> findLastTransactionIdBefore(LocalDateTime createdBefore);
+    // (fromId, toId] 구간에 커밋된 거래 ID (오름차순, 빠진 ID는 롤백되었거나 아직 커밋되지 않은 거래)
+    List<Long> findTransactionIds(long fromId, long toId);
+    // 압축을 다시 시작할 거래 ID (압축할 거래가 남은 스냅샷 중 가장 작은 last_transaction_id)
+    long findCompactionStart();
+    // (fromId, toId] 구간에 거래가 있는 사용자의 스냅샷을 잠근 뒤 toId까지 압축 (READ COMMITTED 트랜잭션 필요), 반환값: 갱신한 스냅샷 수
+    int compactSnapshots(long fromId, long toId);
+}
@@ -8,5 +8,4 @@ import java.util.Optional;
 public interface UserRepository {
     Optional<User> findById(Long userId);
     User save(User user);
-    Optional<User> findByIdForUpdate(Long userId);
 }
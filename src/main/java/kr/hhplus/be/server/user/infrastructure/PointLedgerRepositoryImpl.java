@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.user.infrastructure;
+
+import kr.hhplus.be.server.user.domain.PointTransaction;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerRepositoryImpl implements PointLedgerRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendAll(List<PointTransaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(transactions.size());
+        for (PointTransaction transaction : transactions) {
+            batchArgs.add(new Object[]{transaction.getUserId(), transaction.getAmount(),
+                    transaction.getType().name(), Timestamp.valueOf(transaction.getCreatedAt())});
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_transaction (user_id, amount, type, created_at) VALUES (?, ?, ?, ?)", batchArgs);
+    }
+
+    @Override
+    public void ensureSnapshots(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        // 잠금 없는 조회로 없는 사용자만 골라 생성 (이미 있는 행에 INSERT IGNORE를 보내면 공유 락을 잡음)
+        Set<Long> missing = new HashSet<>(userIds);
+        missing.removeAll(jdbcTemplate.queryForList(
+                "SELECT user_id FROM point_snapshot WHERE user_id IN (" + placeholders(userIds.size()) + ")",
+                Long.class, userIds.toArray()));
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(missing.size());
+        missing.forEach(userId -> batchArgs.add(new Object[]{now, userId}));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO point_snapshot (user_id, balance, last_transaction_id, updated_at) " +
+                        "SELECT user_id, point, 0, ? FROM users WHERE user_id = ?", batchArgs);
+    }
+
+    @Override
+    public OptionalLong findBalance(Long userId) {
+        List<Long> balance = jdbcTemplate.queryForList(
+                "SELECT s.balance + COALESCE((SELECT SUM(t.amount) FROM point_transaction t " +
+                        "WHERE t.user_id = s.user_id AND t.point_transaction_id > s.last_transaction_id), 0) " +
+                        "FROM point_snapshot s WHERE s.user_id = ?",
+                Long.class, userId);
+        if (balance.isEmpty()) {
+            // 아직 원장 거래가 없는 사용자는 기존 잔액 그대로
+            balance = jdbcTemplate.queryForList("SELECT point FROM users WHERE user_id = ?", Long.class, userId);
+        }
+        return balance.isEmpty() ? OptionalLong.empty() : OptionalLong.of(balance.get(0));
+    }
+
+    @Override
+    public OptionalLong lockBalance(Long userId) {
+        List<Map<String, Object>> snapshot = jdbcTemplate.queryForList(
+                "SELECT balance, last_transaction_id FROM point_snapshot WHERE user_id = ? FOR UPDATE", userId);
+        if (snapshot.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        long balance = ((Number) snapshot.get(0).get("balance")).longValue();
+        long lastTransactionId = ((Number) snapshot.get(0).get("last_transaction_id")).longValue();
+
+        // 이후 거래 합은 잠금 없이 읽음 (범위 잠금을 걸면 그 사이 충전 INSERT가 커밋까지 막힘)
+        // READ COMMITTED 트랜잭션이므로 스냅샷 락을 기다리는 동안 커밋된 이전 사용 기록까지 보임
+        Long delta = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM point_transaction " +
+                        "WHERE user_id = ? AND point_transaction_id > ?",
+                Long.class, userId, lastTransactionId);
+        return OptionalLong.of(balance + (delta == null ? 0 : delta));
+    }
+
+    @Override
+    public Optional<Long> findLastTransactionIdBefore(LocalDateTime createdBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT point_transaction_id FROM point_transaction WHERE created_at < ? " +
+                        "ORDER BY created_at DESC, point_transaction_id DESC LIMIT 1",
+                Long.class, Timestamp.valueOf(createdBefore));
+        return ids.isEmpty() ? Optional.empty() : Optional.of(ids.get(0));
+    }
+
+    @Override
+    public List<Long> findTransactionIds(long fromId, long toId) {
+        return jdbcTemplate.queryForList(
+                "SELECT point_transaction_id FROM point_transaction " +
+                        "WHERE point_transaction_id > ? AND point_transaction_id <= ? ORDER BY point_transaction_id",
+                Long.class, fromId, toId);
+    }
+
+    @Override
+    public long findCompactionStart() {
+        // 아직 압축할 거래가 남은 스냅샷 중 가장 뒤처진 위치, 없으면 모든 스냅샷이 압축된 위치
+        Long start = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MIN(s.last_transaction_id), " +
+                        "(SELECT COALESCE(MAX(last_transaction_id), 0) FROM point_snapshot)) " +
+                        "FROM point_snapshot s WHERE EXISTS (SELECT 1 FROM point_transaction t " +
+                        "WHERE t.user_id = s.user_id AND t.point_transaction_id > s.last_transaction_id)",
+                Long.class);
+        return start == null ? 0 : start;
+    }
+
+    @Override
+    public int compactSnapshots(long fromId, long toId) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM point_transaction " +
+                        "WHERE point_transaction_id > ? AND point_transaction_id <= ?",
+                Long.class, fromId, toId);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        ensureSnapshots(userIds);
+
+        // 합을 읽기 전에 스냅샷 행을 잠가, 이 사용자들의 커밋 전 포인트 사용(스냅샷 행 락 보유)이 끝나기를 기다림
+        // READ COMMITTED 트랜잭션이므로 락을 기다리는 동안 커밋된 사용 기록이 아래 합에 포함됨
+        // (사용 기록의 ID가 이미 압축 구간 안에 있어도 last_transaction_id가 그 ID를 건너뛰지 않음)
+        jdbcTemplate.queryForList(
+                "SELECT user_id FROM point_snapshot WHERE user_id IN (" + placeholders(userIds.size()) + ") " +
+                        "ORDER BY user_id FOR UPDATE",
+                Long.class, userIds.toArray());
+
+        List<Object> args = new ArrayList<>(userIds.size() + 1);
+        args.add(toId);
+        args.addAll(userIds);
+        List<Object[]> batchArgs = jdbcTemplate.query(
+                "SELECT s.user_id, s.last_transaction_id, SUM(t.amount) AS delta, " +
+                        "MAX(t.point_transaction_id) AS max_id " +
+                        "FROM point_snapshot s JOIN point_transaction t ON t.user_id = s.user_id " +
+                        "AND t.point_transaction_id > s.last_transaction_id AND t.point_transaction_id <= ? " +
+                        "WHERE s.user_id IN (" + placeholders(userIds.size()) + ") " +
+                        "GROUP BY s.user_id, s.last_transaction_id",
+                (rs, rowNum) -> new Object[]{
+                        rs.getLong("delta"), rs.getLong("max_id"), Timestamp.valueOf(LocalDateTime.now()),
+                        rs.getLong("user_id"), rs.getLong("last_transaction_id")},
+                args.toArray());
+        if (batchArgs.isEmpty()) {
+            return 0;
+        }
+
+        // 읽은 뒤 다른 노드가 먼저 압축했으면(last_transaction_id 변경) 건너뜀 → 중복 합산 방지
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE point_snapshot SET balance = balance + ?, last_transaction_id = ?, updated_at = ? " +
+                        "WHERE user_id = ? AND last_transaction_id = ?", batchArgs);
+
+        int count = 0;
+        for (int rows : updated) {
+            // rewriteBatchedStatements 사용 시 영향 행 수 대신 SUCCESS_NO_INFO(-2)가 올 수 있음
+            if (rows != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
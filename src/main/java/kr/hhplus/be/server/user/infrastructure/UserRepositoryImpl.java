@@ -23,8 +23,4 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.save(user);
     }
 
-    @Override
-    public Optional<User> findByIdForUpdate(Long userId) {
-        return userJpaRepository.findByIdForUpdate(userId);
-    }
 }
@@ -2,7 +2,6 @@ package kr.hhplus.be.server.user.presentation;
 
 import kr.hhplus.be.server.user.application.UserService;
 import kr.hhplus.be.server.user.presentation.dto.response.UserResponse;
-import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.common.CommonResponse;
 import kr.hhplus.be.server.common.CommonResultCode;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +17,7 @@ public class UserPointController {
 
     @PostMapping("/charge/{userId}")
     public ResponseEntity<CommonResponse> charge(@PathVariable Long userId, @RequestBody long point) {
-        userService.chargeOptimisticWithRetry(userId, point); // 낙관적 락 기반 충전
+        userService.charge(userId, point); // 포인트 원장 batch 기록 (행 락 없음)
         return ResponseEntity.ok(CommonResponse.of(CommonResultCode.CHARGE_POINT_SUCCESS));
     }
 
@@ -30,7 +29,7 @@ public class UserPointController {
 
     @GetMapping("/{userId}")
     public ResponseEntity<CommonResponse> getPoint(@PathVariable Long userId) {
-        User user = userService.getPointByUserId(userId);
-        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.GET_POINT_SUCCESS, UserResponse.from(user)));
+        long balance = userService.getBalance(userId); // 잔액 캐시 (잠금 없음)
+        return ResponseEntity.ok(CommonResponse.of(CommonResultCode.GET_POINT_SUCCESS, UserResponse.of(userId, balance)));
     }
 }
@@ -1,6 +1,5 @@
 package kr.hhplus.be.server.user.presentation.dto.response;
 
-import kr.hhplus.be.server.user.domain.User;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,11 +9,11 @@ public class UserResponse{
     private Long userId;
     private long point;
 
-    public static UserResponse from(User user) {
+    public static UserResponse of(Long userId, long point) {
         return UserResponse
                 .builder()
-                .userId(user.getUserId())
-                .point(user.getPoint())
+                .userId(userId)
+                .point(point)
                 .build();
     }
 }
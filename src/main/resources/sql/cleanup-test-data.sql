@@ -3,10 +3,14 @@ SET FOREIGN_KEY_CHECKS = 0;
 
 TRUNCATE TABLE order_item;
 TRUNCATE TABLE orders;
+TRUNCATE TABLE order_outbox;
 TRUNCATE TABLE coupon;
 TRUNCATE TABLE coupon_policy;
 TRUNCATE TABLE product;
+TRUNCATE TABLE product_stock_bucket;
 TRUNCATE TABLE users;
+TRUNCATE TABLE point_transaction;
+TRUNCATE TABLE point_snapshot;
 
 SET FOREIGN_KEY_CHECKS = 1;
 
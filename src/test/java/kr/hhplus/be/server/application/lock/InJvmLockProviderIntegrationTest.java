@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.application.lock;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * lock.provider=in-jvm
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles({"test", "single-node"})
+class InJvmLockProviderIntegrationTest extends LockProviderIntegrationTestSupport {
+}
@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.application.lock;
+
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import kr.hhplus.be.server.common.lock.LocalQueuedLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RFuture;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalQueuedLockTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock rLock;
+
+    @Mock
+    private RScript rScript;
+
+    @Mock
+    private RFuture<Boolean> acquired;
+
+    @Mock
+    private RFuture<Void> released;
+
+    private DistributedLockProperties properties;
+
+    private LocalQueuedLock localQueuedLock;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 스트라이프 2개로 줄여 LOCK:STOCK:1과 LOCK:STOCK:3이 같은 로컬 줄에 서도록 함
+        properties = new DistributedLockProperties();
+        properties.getLocal().setStripes(1);
+        properties.getLocal().setParkTimeout(Duration.ofMillis(50));
+        localQueuedLock = new LocalQueuedLock(redissonClient, properties);
+
+        lenient().when(redissonClient.getLock(anyString())).thenReturn(rLock);
+        lenient().when(rLock.tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(acquired);
+        lenient().when(acquired.get()).thenReturn(true);
+        lenient().when(rLock.unlockAsync(anyLong())).thenReturn(released);
+        lenient().when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        lenient().when(redissonClient.getId()).thenReturn("node");
+    }
+
+    @Test
+    @DisplayName("로컬 대기자가 있으면 같은 키의 Redis 락을 해제하지 않고 점유 시간만 연장하여 인계")
+    void unlock_QueuedWaiterSameKey_HandsOffRedisLock() throws Exception {
+        // Given
+        givenExtendResult(1L);
+        LocalQueuedLock.Held held = localQueuedLock.tryLock("LOCK:STOCK:1", 1, 5, TimeUnit.SECONDS);
+        long ownerId = acquiredOwnerId();
+        FutureTask<Boolean> waiter = startWaiter("LOCK:STOCK:1");
+
+        // When
+        localQueuedLock.unlock(held);
+
+        // Then - Redis 락 획득은 처음 한 번뿐, 대기자가 끝낸 뒤 같은 소유자로 한 번만 해제
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        verify(rLock, times(1)).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+        verify(rScript).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), eq("5000"), eq("node:" + ownerId));
+        verify(rLock, times(1)).unlockAsync(ownerId);
+    }
+
+    @Test
+    @DisplayName("보관된 락이 다른 키면 해제하고 대기자는 자기 키를 새로 획득")
+    void tryLock_ParkedDifferentKey_ReleasesAndAcquiresOwn() throws Exception {
+        // Given
+        LocalQueuedLock.Held held = localQueuedLock.tryLock("LOCK:STOCK:1", 1, 5, TimeUnit.SECONDS);
+        long ownerId = acquiredOwnerId();
+        FutureTask<Boolean> waiter = startWaiter("LOCK:STOCK:3");
+
+        // When
+        localQueuedLock.unlock(held);
+
+        // Then
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        verify(rLock).unlockAsync(ownerId);
+        verify(rLock, times(2)).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+        verifyNoInteractions(rScript);
+    }
+
+    @Test
+    @DisplayName("보관 중 Redis 락이 만료되었으면 인계하지 않고 새로 획득")
+    void tryLock_ParkedLockExpired_AcquiresAgain() throws Exception {
+        // Given
+        givenExtendResult(0L);
+        LocalQueuedLock.Held held = localQueuedLock.tryLock("LOCK:STOCK:1", 1, 5, TimeUnit.SECONDS);
+        FutureTask<Boolean> waiter = startWaiter("LOCK:STOCK:1");
+
+        // When
+        localQueuedLock.unlock(held);
+
+        // Then
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        verify(rLock, times(2)).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("연속 인계 횟수를 넘으면 대기자가 있어도 Redis 락을 해제")
+    void unlock_MaxHandoffsReached_ReleasesRedisLock() throws Exception {
+        // Given
+        properties.getLocal().setMaxHandoffs(0);
+        localQueuedLock = new LocalQueuedLock(redissonClient, properties);
+        LocalQueuedLock.Held held = localQueuedLock.tryLock("LOCK:STOCK:1", 1, 5, TimeUnit.SECONDS);
+        long ownerId = acquiredOwnerId();
+        FutureTask<Boolean> waiter = startWaiter("LOCK:STOCK:1");
+
+        // When
+        localQueuedLock.unlock(held);
+
+        // Then
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        verify(rLock).unlockAsync(ownerId);
+        verifyNoInteractions(rScript);
+    }
+
+    @Test
+    @DisplayName("대기자가 떠나 보관 시간을 넘긴 락은 정리 작업이 해제")
+    void releaseIdleParked_ExpiredParked_Released() throws Exception {
+        // Given
+        park("LOCK:STOCK:1", -7L, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(100));
+
+        // When
+        localQueuedLock.releaseIdleParked();
+        localQueuedLock.releaseIdleParked();
+
+        // Then - 한 번만 해제
+        verify(rLock, times(1)).unlockAsync(-7L);
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지나지 않은 락은 정리 작업이 남겨 두어 다음 대기자가 인계받음")
+    void releaseIdleParked_RecentParked_Kept() throws Exception {
+        // Given
+        givenExtendResult(1L);
+        park("LOCK:STOCK:1", -7L, System.nanoTime());
+
+        // When
+        localQueuedLock.releaseIdleParked();
+        LocalQueuedLock.Held held = localQueuedLock.tryLock("LOCK:STOCK:1", 1, 5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(held).isNotNull();
+        verify(rLock, never()).unlockAsync(anyLong());
+        verify(rLock, never()).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong());
+        localQueuedLock.unlock(held);
+        verify(rLock).unlockAsync(-7L);
+    }
+
+    private void givenExtendResult(Long result) {
+        given(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                anyList(), any(Object[].class))).willReturn(result);
+    }
+
+    private long acquiredOwnerId() {
+        ArgumentCaptor<Long> ownerId = ArgumentCaptor.forClass(Long.class);
+        verify(rLock).tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), ownerId.capture());
+        return ownerId.getValue();
+    }
+
+    // 다른 스레드가 같은 스트라이프에서 줄을 선 뒤 획득하면 바로 해제
+    private FutureTask<Boolean> startWaiter(String lockKey) throws InterruptedException {
+        FutureTask<Boolean> task = new FutureTask<>(() -> {
+            LocalQueuedLock.Held held = localQueuedLock.tryLock(lockKey, 1, 5, TimeUnit.SECONDS);
+            if (held != null) {
+                localQueuedLock.unlock(held);
+            }
+            return held != null;
+        });
+        Thread thread = new Thread(task);
+        thread.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+        return task;
+    }
+
+    // 대기자가 unlock 직후 시간 초과로 떠나 인계되지 못한 상태 (스레드로는 그 경합을 재현할 수 없어 직접 설정)
+    private void park(String lockKey, long ownerId, long parkedAt) throws Exception {
+        Class<?> parkedType = Class.forName(LocalQueuedLock.class.getName() + "$Parked");
+        Constructor<?> constructor = parkedType.getDeclaredConstructor(String.class, long.class, int.class, long.class);
+        constructor.setAccessible(true);
+
+        Field stripesField = LocalQueuedLock.class.getDeclaredField("stripes");
+        stripesField.setAccessible(true);
+        Object[] stripes = (Object[]) stripesField.get(localQueuedLock);
+        int hash = lockKey.hashCode();
+        Object stripe = stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+        Field parkedField = stripe.getClass().getDeclaredField("parked");
+        parkedField.setAccessible(true);
+        parkedField.set(stripe, constructor.newInstance(lockKey, ownerId, 0, parkedAt));
+    }
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.application.lock;
+
+import kr.hhplus.be.server.common.config.DistributedLockProperties;
+import kr.hhplus.be.server.common.lock.LockHotKeyTracker;
+import kr.hhplus.be.server.common.lock.LockHotKeyTracker.HotKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LockHotKeyTrackerTest {
+
+    private LockHotKeyTracker lockHotKeyTracker;
+
+    @BeforeEach
+    void setUp() {
+        // 표본 추출 없이 (1건당 1건 기록) 카운터 3개만 유지
+        DistributedLockProperties properties = new DistributedLockProperties();
+        properties.getMetrics().setHotKeyCapacity(3);
+        properties.getMetrics().setHotKeySampleRate(1);
+        lockHotKeyTracker = new LockHotKeyTracker(properties);
+    }
+
+    @Test
+    @DisplayName("인기 락 키 - 카운터가 가득 차면 가장 적게 나온 키를 내보내고 새 키가 그 횟수를 오차로 물려받음")
+    void record_CapacityFull_EvictsMinimumAndInheritsCount() {
+        // Given
+        record("LOCK:A", 5);
+        record("LOCK:B", 3);
+        record("LOCK:C", 1);
+
+        // When
+        record("LOCK:D", 1);
+
+        // Then - C(1회)가 빠지고 D는 1(물려받음) + 1 = 2회, 최대 과대 추정 1
+        List<HotKey> top = lockHotKeyTracker.top(10);
+        assertThat(top).extracting(HotKey::lockKey).containsExactly("LOCK:A", "LOCK:B", "LOCK:D");
+        HotKey inherited = top.get(2);
+        assertThat(inherited.estimatedCount()).isEqualTo(2);
+        assertThat(inherited.maxOverestimate()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인기 락 키 - 전체의 1/용량보다 자주 나온 키는 서로 다른 키가 계속 들어와도 밀려나지 않음")
+    void record_ManyDistinctKeys_HeavyHitterSurvives() {
+        // Given
+        record("LOCK:HOT", 10);
+
+        // When - 전체 22건 중 10건 (> 22 / 3)
+        for (int i = 0; i < 12; i++) {
+            record("LOCK:COLD:" + i, 1);
+        }
+
+        // Then - 카운터 수는 그대로이고 가장 자주 나온 키는 정확한 횟수로 남음
+        List<HotKey> top = lockHotKeyTracker.top(10);
+        assertThat(top).hasSize(3);
+        assertThat(top).filteredOn(hotKey -> hotKey.lockKey().equals("LOCK:HOT"))
+                .singleElement()
+                .satisfies(hotKey -> {
+                    assertThat(hotKey.estimatedCount()).isEqualTo(10);
+                    assertThat(hotKey.maxOverestimate()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("인기 락 키 - 실패 횟수와 평균 대기 시간을 키별로 집계")
+    void record_AggregatesFailuresAndWait() {
+        // When
+        lockHotKeyTracker.record(List.of("LOCK:A"), TimeUnit.MILLISECONDS.toNanos(2), false);
+        lockHotKeyTracker.record(List.of("LOCK:A"), TimeUnit.MILLISECONDS.toNanos(4), true);
+
+        // Then
+        HotKey hotKey = lockHotKeyTracker.top(1).get(0);
+        assertThat(hotKey.estimatedCount()).isEqualTo(2);
+        assertThat(hotKey.estimatedFailures()).isEqualTo(1);
+        assertThat(hotKey.avgWaitMillis()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("인기 락 키 - 감쇠하면 횟수가 절반이 되고 0이 된 키는 제거")
+    void decay_HalvesCountsAndDropsEmpty() {
+        // Given
+        record("LOCK:A", 4);
+        record("LOCK:B", 1);
+
+        // When
+        lockHotKeyTracker.decay();
+
+        // Then
+        List<HotKey> top = lockHotKeyTracker.top(10);
+        assertThat(top).extracting(HotKey::lockKey).containsExactly("LOCK:A");
+        assertThat(top.get(0).estimatedCount()).isEqualTo(2);
+    }
+
+    private void record(String lockKey, int times) {
+        for (int i = 0; i < times; i++) {
+            lockHotKeyTracker.record(List.of(lockKey), 0, false);
+        }
+    }
+}
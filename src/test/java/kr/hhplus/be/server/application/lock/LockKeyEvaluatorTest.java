@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.application.lock;
+
+import kr.hhplus.be.server.common.lock.aspect.LockKeyEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LockKeyEvaluatorTest {
+
+    private final LockKeyEvaluator lockKeyEvaluator = new LockKeyEvaluator();
+
+    @Test
+    @DisplayName("락 키 평가 - 파라미터 이름과 인덱스로 인자를 참조")
+    void evaluate_ResolvesParameterNameAndIndex() throws Exception {
+        // Given
+        Method issue = LockedTarget.class.getDeclaredMethod("issue", Long.class, Long.class);
+        Method decrease = LockedTarget.class.getDeclaredMethod("decrease", Long.class, int.class);
+
+        // When & Then
+        assertThat(lockKeyEvaluator.evaluate(issue, new Object[]{7L, 3L}, "#couponId")).isEqualTo(3L);
+        assertThat(lockKeyEvaluator.evaluate(decrease, new Object[]{5L, 2}, "#p0")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("락 키 평가 - 캐시한 표현식을 재사용해도 호출마다 그 호출의 인자로 평가")
+    void evaluate_CachedExpression_UsesEachCallArguments() throws Exception {
+        // Given
+        Method issue = LockedTarget.class.getDeclaredMethod("issue", Long.class, Long.class);
+
+        // When & Then - MIXED 모드 컴파일 임계치를 넘겨도 값이 섞이지 않음
+        for (long couponId = 1; couponId <= 300; couponId++) {
+            assertThat(lockKeyEvaluator.evaluate(issue, new Object[]{1L, couponId}, "#couponId"))
+                    .isEqualTo(couponId);
+        }
+    }
+
+    @Test
+    @DisplayName("락 키 평가 - 표현식은 메서드별로 캐시되어 다른 메서드의 키와 섞이지 않음")
+    void evaluate_CachesPerMethod() throws Exception {
+        // Given
+        Method issue = LockedTarget.class.getDeclaredMethod("issue", Long.class, Long.class);
+        Method order = LockedTarget.class.getDeclaredMethod("order", List.class);
+
+        // When
+        Object couponKey = lockKeyEvaluator.evaluate(issue, new Object[]{1L, 9L}, "#couponId");
+        Object productKeys = lockKeyEvaluator.evaluate(order, new Object[]{List.of(3L, 1L)}, "#productIds");
+
+        // Then
+        assertThat(couponKey).isEqualTo(9L);
+        assertThat(productKeys).isEqualTo(List.of(3L, 1L));
+    }
+
+    @SuppressWarnings("unused")
+    private static class LockedTarget {
+        void issue(Long userId, Long couponId) {
+        }
+
+        void decrease(Long productId, int quantity) {
+        }
+
+        void order(List<Long> productIds) {
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package kr.hhplus.be.server.application.lock;
+
+import kr.hhplus.be.server.common.lock.FencingTokenSequence;
+import kr.hhplus.be.server.common.lock.provider.LockProvider;
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.stock.StockFencingTokenSeeder;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 락 백엔드(lock.provider)별로 같은 시나리오를 실행하는 통합 테스트
+ * - 하위 클래스는 @ActiveProfiles로 백엔드만 바꿈 (redisson: 기본, in-jvm: single-node, mysql: mysql-lock)
+ * - 재고 차감 동시성 결과를 같은 형식으로 출력하여 백엔드별 처리량을 나란히 비교
+ */
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+abstract class LockProviderIntegrationTestSupport {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private LockProvider lockProvider;
+
+    @Autowired
+    private FencingTokenSequence fencingTokenSequence;
+
+    @Autowired
+    private StockFencingTokenSeeder stockFencingTokenSeeder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("락 백엔드별 재고 차감 - 150명이 동시에 1개씩 차감 (재고 100개)")
+    void decreaseStockWithDistributedLock_Concurrent_ExactStock() throws Exception {
+        // Given
+        int requestCount = 150;
+        int expectedSuccessCount = 100; // 상품1 재고가 100개
+        Long targetProductId = 1L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    productService.decreaseStockWithDistributedLock(targetProductId, 1);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    errors.add(e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        boolean completed = endLatch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        // Then
+        assertThat(completed).isTrue();
+        assertThat(successCount.get()).isEqualTo(expectedSuccessCount);
+        assertThat(errors).hasSize(requestCount - expectedSuccessCount)
+                .allMatch(error -> error.contains("재고가 부족"));
+        assertThat(productRepository.findById(targetProductId).orElseThrow().getStock()).isZero();
+
+        System.out.printf("=== 락 백엔드 비교: %s ===\n", lockProvider.getClass().getSimpleName());
+        System.out.printf("총 요청: %d, 성공: %d, 실패: %d\n", requestCount, successCount.get(), errors.size());
+        System.out.printf("소요 시간: %dms, 처리량: %.1f req/s\n\n",
+                elapsedMillis, requestCount * 1000.0 / Math.max(1, elapsedMillis));
+    }
+
+    @Test
+    @DisplayName("락 백엔드와 무관하게 펜싱 토큰은 공유 시퀀스에서 발급되어 stock_version보다 큼")
+    void fencingToken_IssuedFromSharedSequence() {
+        // Given
+        productService.decreaseStockWithDistributedLock(1L, 1);
+        long writtenVersion = productRepository.findStockVersion(1L).orElseThrow();
+
+        // When - 다른 노드/백엔드가 같은 키로 다음 토큰을 발급
+        long nextToken = fencingTokenSequence.next(List.of("STOCK:1")).get("STOCK:1");
+
+        // Then
+        assertThat(writtenVersion).isPositive();
+        assertThat(nextToken).isGreaterThan(writtenVersion);
+    }
+
+    @Test
+    @DisplayName("이전 카운터가 남긴 stock_version이 시퀀스보다 크면 기동 시 시퀀스를 끌어올려 쓰기가 거부되지 않음")
+    void fencingTokenSeeder_AdvancesSequencePastStockVersion() {
+        // Given - 시퀀스보다 훨씬 큰 토큰으로 마지막 쓰기가 남아 있는 상품
+        long legacyVersion = fencingTokenSequence.next(List.of("STOCK:2")).get("STOCK:2") + 1_000_000L;
+        jdbcTemplate.update("UPDATE product SET stock_version = ? WHERE product_id = 2", legacyVersion);
+
+        // When
+        stockFencingTokenSeeder.afterPropertiesSet();
+        productService.decreaseStockWithDistributedLock(2L, 1);
+
+        // Then
+        assertThat(productRepository.findById(2L).orElseThrow().getStock()).isEqualTo(99);
+        assertThat(productRepository.findStockVersion(2L).orElseThrow()).isGreaterThan(legacyVersion);
+    }
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.application.lock;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * lock.provider=mysql
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles({"test", "mysql-lock"})
+class MySqlLockProviderIntegrationTest extends LockProviderIntegrationTestSupport {
+}
@@ -0,0 +1,145 @@
+package kr.hhplus.be.server.application.lock;
+
+import kr.hhplus.be.server.common.lock.RedisMultiLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+class RedisMultiLockIntegrationTest {
+
+    @Autowired
+    private RedisMultiLock redisMultiLock;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private final List<String> usedKeys = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        usedKeys.forEach(key -> redissonClient.getLock(key).forceUnlock());
+    }
+
+    @Test
+    @DisplayName("멀티락 - 한 키라도 단일 RLock이 잡고 있으면 나머지 키도 획득하지 않음")
+    void tryLockAll_OneKeyHeldByRLock_AcquiresNothing() throws Exception {
+        // Given - 다른 스레드가 두 번째 키를 단일 RLock으로 보유
+        String first = key();
+        String second = key();
+        CompletableFuture.runAsync(() -> redissonClient.getLock(second).lock(10, TimeUnit.SECONDS)).join();
+
+        // When
+        RedisMultiLock.Held held = redisMultiLock.tryLockAll(List.of(first, second), 100, 10_000, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(held).isNull();
+        assertThat(redissonClient.getLock(first).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("멀티락 - 획득한 키는 RLock과 같은 소유자 구조로 기록되어 단일 RLock과 서로 배제")
+    void tryLockAll_ExcludesRLockOnSameKey() throws Exception {
+        // Given
+        String first = key();
+        String second = key();
+
+        // When
+        RedisMultiLock.Held held = redisMultiLock.tryLockAll(List.of(first, second), 100, 10_000, TimeUnit.MILLISECONDS);
+
+        // Then - 현재 스레드는 RLock 관점에서도 소유자, 다른 스레드는 획득 불가
+        assertThat(held).isNotNull();
+        assertThat(redissonClient.getLock(first).isHeldByCurrentThread()).isTrue();
+        assertThat(redissonClient.getLock(second).isHeldByCurrentThread()).isTrue();
+        assertThat(tryRLockFromOtherThread(second)).isFalse();
+
+        redisMultiLock.unlockAll(held);
+    }
+
+    @Test
+    @DisplayName("멀티락 - 해제하면 모든 키가 지워지고 대기 중이던 RLock이 바로 획득")
+    void unlockAll_ReleasesAllKeysToWaitingRLock() throws Exception {
+        // Given
+        String first = key();
+        String second = key();
+        RedisMultiLock.Held held = redisMultiLock.tryLockAll(List.of(first, second), 100, 10_000, TimeUnit.MILLISECONDS);
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> tryRLock(second, 5_000));
+
+        // When
+        redisMultiLock.unlockAll(held);
+
+        // Then
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(redissonClient.getLock(first).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("멀티락 - 점유 시간을 지정하면 해제하지 않아도 만료")
+    void tryLockAll_LeaseTime_Expires() throws Exception {
+        // Given
+        String lockKey = key();
+        redisMultiLock.tryLockAll(List.of(lockKey), 100, 200, TimeUnit.MILLISECONDS);
+
+        // When
+        Thread.sleep(400);
+
+        // Then
+        assertThat(redissonClient.getLock(lockKey).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("멀티락 - 점유 시간을 지정하지 않으면 watchdog 주기로 연장되고 해제 후에는 연장 중단")
+    void tryLockAll_Watchdog_RenewsUntilUnlock() throws Exception {
+        // Given
+        String lockKey = key();
+        long watchdogTimeout = redissonClient.getConfig().getLockWatchdogTimeout();
+        RedisMultiLock.Held held = redisMultiLock.tryLockAll(List.of(lockKey), 100, -1, TimeUnit.MILLISECONDS);
+
+        // When - 첫 연장 주기(watchdog 시간의 1/3)를 넘겨 대기
+        Thread.sleep(watchdogTimeout / 3 + 1_000);
+
+        // Then - 연장되지 않았다면 남은 시간이 2/3 아래로 떨어짐
+        assertThat(redissonClient.getLock(lockKey).remainTimeToLive()).isGreaterThan(watchdogTimeout * 2 / 3);
+
+        redisMultiLock.unlockAll(held);
+        assertThat(redissonClient.getLock(lockKey).isLocked()).isFalse();
+    }
+
+    private String key() {
+        String lockKey = "LOCK:TEST:" + UUID.randomUUID();
+        usedKeys.add(lockKey);
+        return lockKey;
+    }
+
+    private boolean tryRLockFromOtherThread(String lockKey) {
+        return CompletableFuture.supplyAsync(() -> tryRLock(lockKey, 100)).join();
+    }
+
+    private boolean tryRLock(String lockKey, long waitMillis) {
+        RLock lock = redissonClient.getLock(lockKey);
+        try {
+            boolean acquired = lock.tryLock(waitMillis, 10_000, TimeUnit.MILLISECONDS);
+            if (acquired) {
+                lock.unlock();
+            }
+            return acquired;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package kr.hhplus.be.server.application.lock;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * lock.provider=redisson (기본)
+ */
+@SpringBootTest
+@Testcontainers
+class RedissonLockProviderIntegrationTest extends LockProviderIntegrationTestSupport {
+}
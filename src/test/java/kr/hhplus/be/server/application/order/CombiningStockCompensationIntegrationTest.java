@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 결합기(COMBINING) 차감은 주문 트랜잭션과 별도로 커밋되므로,
+ * 주문이 실패하면 보상(REQUIRES_NEW)으로 재고가 원래대로 돌아와야 함
+ */
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class CombiningStockCompensationIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("결합 차감 후 포인트 부족으로 주문이 롤백되면 차감된 재고 복구")
+    void placeOrder_OrderRollback_RestoresCombinedStock() {
+        // Given - 사용자999는 포인트 1000원만 보유
+        int originalStock1 = stockOf(1L);
+        int originalStock2 = stockOf(2L);
+        OrderRequest request = new OrderRequest(999L, List.of(
+                new OrderRequest.OrderItemRequest(1L, 2),
+                new OrderRequest.OrderItemRequest(2L, 1)
+        ));
+
+        // When
+        assertThatThrownBy(() -> orderFacade.placeOrderLockFree(request, StockDeductionMode.COMBINING))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("포인트가 부족합니다");
+
+        // Then
+        assertThat(stockOf(1L)).isEqualTo(originalStock1);
+        assertThat(stockOf(2L)).isEqualTo(originalStock2);
+    }
+
+    @Test
+    @DisplayName("일부 상품만 결합 차감에 성공하면 성공한 라인의 재고 복구")
+    void placeOrder_PartialFailure_RestoresDeductedLines() {
+        // Given - 상품4 재고 50개보다 많이 주문
+        int originalStock1 = stockOf(1L);
+        int originalStock4 = stockOf(4L);
+        OrderRequest request = new OrderRequest(1L, List.of(
+                new OrderRequest.OrderItemRequest(1L, 1),
+                new OrderRequest.OrderItemRequest(4L, originalStock4 + 1)
+        ));
+
+        // When
+        assertThatThrownBy(() -> orderFacade.placeOrderLockFree(request, StockDeductionMode.COMBINING))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족한 상품입니다");
+
+        // Then - 주문 트랜잭션 롤백과 무관하게 보상이 커밋되어 있어야 함
+        assertThat(stockOf(1L)).isEqualTo(originalStock1);
+        assertThat(stockOf(4L)).isEqualTo(originalStock4);
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStock();
+    }
+}
@@ -2,14 +2,13 @@ package kr.hhplus.be.server.application.order;
 
 import kr.hhplus.be.server.coupon.application.CouponService;
 import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.application.OrderOutboxService;
 import kr.hhplus.be.server.order.application.OrderService;
-import kr.hhplus.be.server.order.application.StockRollbackService;
 import kr.hhplus.be.server.order.domain.OrderItem;
 import kr.hhplus.be.server.product.application.ProductService;
 import kr.hhplus.be.server.user.application.UserService;
 import kr.hhplus.be.server.coupon.domain.Coupon;
 import kr.hhplus.be.server.product.domain.Product;
-import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
 import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
 import kr.hhplus.be.server.order.domain.Order;
@@ -24,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -44,10 +44,10 @@ class OrderFacadeTest {
     private UserService userService;
 
     @Mock
-    private StockRollbackService stockRollbackService;
+    private CouponService couponService;
 
     @Mock
-    private CouponService couponService;
+    private OrderOutboxService orderOutboxService;
 
     @Test
     @DisplayName("주문 성공")
@@ -57,12 +57,10 @@ class OrderFacadeTest {
         OrderRequest.OrderItemRequest itemRequest = new OrderRequest.OrderItemRequest(1L, 2);
         OrderRequest orderRequest = new OrderRequest(userId, Arrays.asList(itemRequest));
 
-        User user = createUserWithId(userId, 50000L);
         Product product = createProduct(1L, "iPhone 15", 20000, 10);
         Order savedOrder = createOrder(1L, userId, 40000);
 
-        given(userService.getPointByUserId(userId)).willReturn(user);
-        given(productService.getProductById(1L)).willReturn(product);
+        given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
 
         given(orderService.saveOrder(any(Long.class), any(List.class))).willReturn(savedOrder);
 
@@ -75,11 +73,12 @@ class OrderFacadeTest {
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getTotalAmount()).isEqualTo(40000);
 
-        // 사용자 포인트 차감 확인
-        assertThat(user.getPoint()).isEqualTo(10000L); // 50000 - 40000
+        // 사용자 포인트 차감 확인 (원장 기록은 UserService 책임)
+        verify(userService).usePoint(userId, 40000L);
 
-        // 상품 재고 차감 확인
-        assertThat(product.getStock()).isEqualTo(8); // 10 - 2
+        // 상품 재고 차감 확인 (조회한 엔티티는 바꾸지 않고 상대값 UPDATE로 차감)
+        verify(productService).decreaseStocksIfAvailable(Map.of(1L, 2));
+        assertThat(product.getStock()).isEqualTo(10);
 
         // Mock 호출 검증
         verify(orderService).saveOrder(eq(userId), any(List.class));
@@ -93,12 +92,10 @@ class OrderFacadeTest {
         OrderRequest.OrderItemRequest itemRequest = new OrderRequest.OrderItemRequest(1L, 2);
         OrderRequest orderRequest = new OrderRequest(userId, Arrays.asList(itemRequest));
 
-        User user = createUserWithId(userId, 50000L);
         Product product = createProduct(1L, "iPhone 15", 20000, 10);
         Order savedOrder = createOrder(1L, userId, 40000);
 
-        given(userService.getPointByUserId(userId)).willReturn(user);
-        given(productService.getProductById(1L)).willReturn(product);
+        given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
         given(orderService.saveOrder(any(Long.class), any(List.class))).willReturn(savedOrder);
 
         // When
@@ -129,62 +126,45 @@ class OrderFacadeTest {
         OrderRequest.OrderItemRequest itemRequest = new OrderRequest.OrderItemRequest(1L, 15);
         OrderRequest orderRequest = new OrderRequest(userId, Arrays.asList(itemRequest));
 
-        User user = createUserWithId(userId, 50000L);
         Product product = createProduct(1L, "iPhone 15", 20000, 10); // 재고 10개
 
-        given(userService.getPointByUserId(userId)).willReturn(user);
-        given(productService.getProductById(1L)).willReturn(product);
+        given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
+        willThrow(new IllegalStateException("재고가 부족한 상품입니다: 상품ID 1 (요청 수량: 15)"))
+                .given(productService).decreaseStocksIfAvailable(Map.of(1L, 15));
 
         // When & Then
         assertThatThrownBy(() -> orderFacade.placeOrder(orderRequest))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessage("재고가 부족한 상품입니다: iPhone 15");
+                .hasMessageStartingWith("재고가 부족한 상품입니다: 상품ID 1");
 
         // orderService.saveOrder는 호출되지 않아야 함
         verify(orderService, never()).saveOrder(any(), any());
     }
 
     @Test
-    @DisplayName("잔액 부족 시 주문 실패 및 재고 복구")
+    @DisplayName("잔액 부족 시 주문 실패 (재고 차감은 같은 트랜잭션 롤백으로 취소)")
     void placeOrder_InsufficientBalance_RollbackStock() {
         // Given
         Long userId = 1L;
         OrderRequest.OrderItemRequest itemRequest = new OrderRequest.OrderItemRequest(1L, 2);
         OrderRequest orderRequest = new OrderRequest(userId, Arrays.asList(itemRequest));
 
-        User user = createUserWithId(userId, 10000L); // 잔액 부족
         Product product = createProduct(1L, "iPhone 15", 20000, 10);
+        Order savedOrder = createOrder(1L, userId, 40000);
 
-        given(userService.getPointByUserId(userId)).willReturn(user);
-        given(productService.getProductById(1L)).willReturn(product);
+        given(productService.getProductsByIds(List.of(1L))).willReturn(Map.of(1L, product));
+        given(orderService.saveOrder(any(Long.class), any(List.class))).willReturn(savedOrder);
+        willThrow(new IllegalStateException("포인트가 부족합니다. (현재 잔액: 10000원, 필요 금액: 40000원)"))
+                .given(userService).usePoint(userId, 40000L);
 
         // When & Then
         assertThatThrownBy(() -> orderFacade.placeOrder(orderRequest))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessage("잔액이 부족합니다.");
-
-        // 재고 복구 및 orderService 호출 검증
-        verify(stockRollbackService).rollback(any(List.class));
-        verify(orderService, never()).saveOrder(any(), any());
-    }
-
-    private User createUserWithId(Long userId, long point) {
-        User user = new User();
-
-        try {
-            java.lang.reflect.Field idField = User.class.getDeclaredField("userId");
-            idField.setAccessible(true);
-            idField.set(user, userId);
-        } catch (Exception e) {
-            throw new RuntimeException("User ID 설정 실패", e);
-        }
-
-        // 포인트 충전
-        if (point > 0) {
-            user.charge(point);
-        }
+                .hasMessageStartingWith("포인트가 부족합니다");
 
-        return user;
+        // 별도 재고 복구 없이 예외 전파 (트랜잭션 롤백), 이벤트는 기록하지 않음
+        verify(productService, never()).increaseStocks(any());
+        verify(orderOutboxService, never()).append(any());
     }
 
     private Product createProduct(Long id, String name, int price, int stock) {
@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.application.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.order.application.OrderIdempotencyService;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.order.presentation.dto.response.OrderResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private TaskScheduler scheduler;
+
+    @Mock
+    private ScheduledFuture<Object> heartbeat;
+
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        orderIdempotencyService = new OrderIdempotencyService(
+                stringRedisTemplate, new ObjectMapper().registerModule(new JavaTimeModule()), new OrderProperties(),
+                scheduler);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        lenient().doReturn(heartbeat).when(scheduler).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 재요청하면 주문을 다시 처리하지 않고 저장된 응답 반환")
+    void execute_DuplicateKey_ReturnsCachedResponse() {
+        // Given
+        OrderRequest request = createRequest(1L, 2);
+        AtomicInteger placed = new AtomicInteger();
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        // When
+        OrderResponse first = orderIdempotencyService.execute("key-1", request,
+                () -> createResponse(placed.incrementAndGet()));
+        OrderResponse second = orderIdempotencyService.execute("key-1", request,
+                () -> createResponse(placed.incrementAndGet()));
+
+        // Then
+        assertThat(placed.get()).isEqualTo(1);
+        assertThat(second.getOrderId()).isEqualTo(first.getOrderId());
+        verify(valueOperations, times(1)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다른 주문 내용을 보내면 예외 발생")
+    void execute_SameKeyDifferentRequest_ThrowsException() {
+        // Given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        orderIdempotencyService.execute("key-1", createRequest(1L, 2), () -> createResponse(1));
+
+        // When & Then
+        assertThatThrownBy(() -> orderIdempotencyService.execute("key-1", createRequest(1L, 3),
+                () -> createResponse(2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 다른 주문 요청에 사용된 Idempotency-Key입니다.");
+    }
+
+    @Test
+    @DisplayName("주문 처리 실패 시 자신이 쓴 처리 중 표시만 해제하여 같은 키로 재시도 가능")
+    void execute_Failure_ReleasesOwnKey() {
+        // Given
+        OrderRequest request = createRequest(1L, 2);
+        ArgumentCaptor<String> inFlightValue = ArgumentCaptor.forClass(String.class);
+        given(valueOperations.setIfAbsent(anyString(), inFlightValue.capture(), any(Duration.class))).willReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> orderIdempotencyService.execute("key-1", request, () -> {
+            throw new IllegalStateException("잔액이 부족합니다.");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // 무조건 DELETE가 아니라 값 비교 후 삭제 (만료 후 다른 노드가 선점한 키는 유지)
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("order:idempotency:1:key-1")),
+                eq(inFlightValue.getValue()));
+        verify(stringRedisTemplate, never()).delete(anyString());
+        verify(heartbeat).cancel(false);
+    }
+
+    @Test
+    @DisplayName("주문 처리 중에는 처리 중 표시를 주기적으로 연장하고, 완료되면 연장을 멈춤")
+    void execute_RefreshesInFlightTtlWhileRunning() {
+        // Given
+        OrderRequest request = createRequest(1L, 2);
+        ArgumentCaptor<String> inFlightValue = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Runnable> refresh = ArgumentCaptor.forClass(Runnable.class);
+        given(valueOperations.setIfAbsent(anyString(), inFlightValue.capture(), any(Duration.class))).willReturn(true);
+
+        // When - 주문 처리 중 연장 주기가 한 번 돌아옴
+        orderIdempotencyService.execute("key-1", request, () -> {
+            verify(scheduler).scheduleAtFixedRate(refresh.capture(), eq(Duration.ofSeconds(10)));
+            refresh.getValue().run();
+            return createResponse(1);
+        });
+
+        // Then
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("order:idempotency:1:key-1")),
+                eq(inFlightValue.getValue()), eq("30000"));
+        verify(heartbeat).cancel(false);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 같은 키를 처리 중이면 재시도 가능 예외 발생")
+    void execute_InFlightOnOtherNode_ThrowsRetryable() {
+        // Given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.get("order:idempotency:1:key-1"))
+                .willReturn("{\"status\":\"IN_FLIGHT\",\"fingerprint\":\"1|1x2|null\",\"owner\":\"other\"}");
+
+        // When & Then
+        assertThatThrownBy(() -> orderIdempotencyService.execute("key-1", createRequest(1L, 2),
+                () -> createResponse(1)))
+                .isInstanceOf(RetryableException.class)
+                .hasMessage("동일한 주문 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        verify(scheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+    }
+
+    private OrderRequest createRequest(Long productId, int quantity) {
+        return new OrderRequest(1L, List.of(new OrderRequest.OrderItemRequest(productId, quantity)));
+    }
+
+    private OrderResponse createResponse(long orderId) {
+        return OrderResponse.builder()
+                .orderId(orderId)
+                .userId(1L)
+                .totalAmount(40000)
+                .orderDate(LocalDateTime.now())
+                .items(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.application.order;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.common.exception.RetryableException;
+import kr.hhplus.be.server.common.lock.exception.DistributedLockException;
+import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.application.OrderIdempotencyService;
+import kr.hhplus.be.server.order.application.OrderIntakeService;
+import kr.hhplus.be.server.order.domain.OrderTicket;
+import kr.hhplus.be.server.order.domain.event.OrderRequestedEvent;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderEventProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeServiceTest {
+
+    @Mock
+    private OrderEventProducer orderEventProducer;
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    @Mock
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private OrderIntakeService orderIntakeService;
+
+    @BeforeEach
+    void setUp() {
+        orderIntakeService = new OrderIntakeService(orderEventProducer, orderFacade, orderIdempotencyService,
+                new OrderProperties(), stringRedisTemplate, objectMapper);
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("재고 부족 같은 업무 실패는 티켓을 FAILED로 기록하고 재처리하지 않음")
+    void process_BusinessFailure_MarksTicketFailed() throws Exception {
+        // Given
+        given(orderIdempotencyService.execute(eq("ticket-1"), any(), any()))
+                .willThrow(new IllegalStateException("재고가 부족한 상품입니다: 상품ID 1 (요청 수량: 2)"));
+
+        // When
+        assertThatCode(() -> orderIntakeService.process(createEvent("ticket-1")))
+                .doesNotThrowAnyException();
+
+        // Then
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("order:ticket:ticket-1"), saved.capture(), any(Duration.class));
+        OrderTicket ticket = objectMapper.readValue(saved.getValue(), OrderTicket.class);
+        assertThat(ticket.getStatus()).isEqualTo(OrderTicket.Status.FAILED);
+        assertThat(ticket.getMessage()).contains("재고가 부족한 상품입니다");
+    }
+
+    @Test
+    @DisplayName("결합기 대기 시간 초과 같은 일시적 실패는 티켓을 확정하지 않고 예외를 전파하여 재처리")
+    void process_RetryableFailure_Rethrows() {
+        // Given
+        given(orderIdempotencyService.execute(eq("ticket-1"), any(), any()))
+                .willThrow(new RetryableException("재고 차감 대기 시간이 초과되었습니다."));
+
+        // When & Then
+        assertThatThrownBy(() -> orderIntakeService.process(createEvent("ticket-1")))
+                .isInstanceOf(RetryableException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("동일 티켓이 다른 Consumer에서 처리 중이면 실패로 기록하지 않고 재처리")
+    void process_InFlightDuplicate_Rethrows() {
+        // Given
+        given(orderIdempotencyService.execute(eq("ticket-1"), any(), any()))
+                .willThrow(new RetryableException("동일한 주문 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."));
+
+        // When & Then
+        assertThatThrownBy(() -> orderIntakeService.process(createEvent("ticket-1")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("처리 중입니다");
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("락 획득 실패는 티켓을 확정하지 않고 예외를 전파하여 재처리")
+    void process_LockFailure_Rethrows() {
+        // Given
+        given(orderIdempotencyService.execute(eq("ticket-1"), any(), any()))
+                .willThrow(new DistributedLockException("락 획득 실패: STOCK:1"));
+
+        // When & Then
+        assertThatThrownBy(() -> orderIntakeService.process(createEvent("ticket-1")))
+                .isInstanceOf(DistributedLockException.class);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    private OrderRequestedEvent createEvent(String ticketId) {
+        return new OrderRequestedEvent(ticketId, 1L,
+                List.of(new OrderRequestedEvent.ItemData(1L, 2)), null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.order.application.OrderItemDateBackfiller;
+import kr.hhplus.be.server.order.domain.ProductSales;
+import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class OrderItemDateBackfillIntegrationTest {
+
+    @Autowired
+    private OrderItemDateBackfiller orderItemDateBackfiller;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("order_date 도입 이전 주문 아이템에 주문 일시를 채워 인기상품 집계에 포함")
+    void backfill_FillsOrderDateFromOrders() {
+        // Given - order_date가 비어 있는 기존 주문 아이템 2건과 주문이 없는 아이템 1건
+        LocalDateTime orderedAt = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("INSERT INTO orders (order_id, user_id, total_amount, order_date) VALUES (1, 1, 50000, ?)",
+                Timestamp.valueOf(orderedAt));
+        insertItemWithoutDate(1L, 1L, 3);
+        insertItemWithoutDate(1L, 2L, 1);
+        insertItemWithoutDate(999L, 3L, 7);
+
+        // When
+        orderItemDateBackfiller.afterPropertiesSet();
+
+        // Then
+        List<Timestamp> filled = jdbcTemplate.queryForList(
+                "SELECT order_date FROM order_item WHERE order_id = 1", Timestamp.class);
+        assertThat(filled).hasSize(2)
+                .allSatisfy(orderDate -> assertThat(orderDate.toLocalDateTime()).isEqualTo(orderedAt));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_item WHERE order_id = 999 AND order_date IS NULL", Integer.class))
+                .isEqualTo(1);
+
+        List<ProductSales> top = orderItemRepository.findTopSellingProducts(
+                orderedAt.minusHours(1), orderedAt.plusHours(1), 5);
+        assertThat(top).extracting(ProductSales::productId).containsExactly(1L, 2L);
+    }
+
+    private void insertItemWithoutDate(Long orderId, Long productId, int quantity) {
+        jdbcTemplate.update("INSERT INTO order_item (order_id, product_id, quantity, unit_price, total_price) " +
+                "VALUES (?, ?, ?, 10000, ?)", orderId, productId, quantity, quantity * 10000);
+    }
+}
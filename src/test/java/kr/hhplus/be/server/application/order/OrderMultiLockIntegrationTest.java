@@ -10,6 +10,8 @@ import kr.hhplus.be.server.user.domain.repository.UserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
@@ -17,6 +19,8 @@ import org.springframework.test.context.jdbc.SqlGroup;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -40,6 +44,9 @@ public class OrderMultiLockIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RedissonClient redissonClient;
+
     @Test
     @DisplayName("주문 멀티락 - 1000명이 동시에 같은 상품 주문 (재고 100개)")
     void 멀티락_1000명_동시_같은상품주문_재고정확성() throws Exception {
@@ -321,4 +328,71 @@ public class OrderMultiLockIntegrationTest {
 
         executor.shutdown();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("주문 멀티락 비동기 - 다른 요청이 락을 보유하는 동안 호출 스레드를 점유하지 않고 대기 후 처리")
+    void 멀티락_비동기_락대기중_호출스레드_미점유() throws Exception {
+        // Given - 다른 요청이 상품5 재고 락을 보유
+        RLock heldLock = redissonClient.getLock("REDISSON_LOCK:STOCK:5");
+        heldLock.lock(10, TimeUnit.SECONDS);
+
+        OrderRequest orderRequest = new OrderRequest(1L, List.of(
+                new OrderRequest.OrderItemRequest(4L, 1),
+                new OrderRequest.OrderItemRequest(5L, 1)
+        ));
+
+        CompletableFuture<OrderResponse> future;
+        try {
+            // When - 호출은 락을 기다리지 않고 바로 반환
+            long startedAt = System.currentTimeMillis();
+            future = orderFacade.placeOrderAsync(orderRequest);
+            long elapsed = System.currentTimeMillis() - startedAt;
+
+            // Then - 락이 풀리기 전에는 처리되지 않음
+            assertThat(elapsed).isLessThan(1_000);
+            Thread.sleep(300);
+            assertThat(future).isNotDone();
+            assertThat(productRepository.findById(5L).orElseThrow().getStock()).isEqualTo(10);
+        } finally {
+            heldLock.unlock();
+        }
+
+        // 락 해제 후 주문이 처리되고 잡았던 키도 모두 해제됨
+        OrderResponse response = future.get(10, TimeUnit.SECONDS);
+        assertThat(response.getOrderId()).isNotNull();
+        assertThat(productRepository.findById(4L).orElseThrow().getStock()).isEqualTo(49);
+        assertThat(productRepository.findById(5L).orElseThrow().getStock()).isEqualTo(9);
+        assertThat(redissonClient.getLock("REDISSON_LOCK:STOCK:4").isLocked()).isFalse();
+        assertThat(redissonClient.getLock("REDISSON_LOCK:STOCK:5").isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("주문 멀티락 비동기 - 한 스레드에서 20건을 동시에 요청해도 재고(10개)만큼만 성공")
+    void 멀티락_비동기_단일스레드_동시주문_재고정확성() {
+        // Given - 상품5 재고 10개
+        OrderRequest orderRequest = new OrderRequest(1L, List.of(new OrderRequest.OrderItemRequest(5L, 1)));
+
+        // When - 결과를 기다리지 않고 연달아 요청 (락 대기에 호출 스레드를 쓰지 않음)
+        List<CompletableFuture<OrderResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(orderFacade.placeOrderAsync(orderRequest));
+        }
+
+        int successCount = 0;
+        List<String> errors = new ArrayList<>();
+        for (CompletableFuture<OrderResponse> future : futures) {
+            try {
+                future.join();
+                successCount++;
+            } catch (CompletionException e) {
+                errors.add(e.getCause().getMessage());
+            }
+        }
+
+        // Then
+        assertThat(successCount).isEqualTo(10);
+        assertThat(errors).hasSize(10).allMatch(error -> error.contains("재고가 부족"));
+        assertThat(productRepository.findById(5L).orElseThrow().getStock()).isEqualTo(0);
+        assertThat(redissonClient.getLock("REDISSON_LOCK:STOCK:5").isLocked()).isFalse();
+    }
+}
@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import kr.hhplus.be.server.order.domain.repository.OrderOutboxRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 스케줄된 릴레이가 테스트 중인 행을 가져가지 않도록 주기를 늘림
+@SpringBootTest(properties = "order.outbox.relay-interval-ms=3600000")
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class OrderOutboxClaimIntegrationTest {
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("선점된 아웃박스 행은 선점이 만료되거나 실패로 해제되기 전까지 다시 선점되지 않음")
+    void claim_ClaimedRowsAreSkippedUntilReleased() {
+        // Given - 3건 중 앞의 2건을 30초 동안 선점
+        List<Long> ids = transactionTemplate.execute(status -> List.of(
+                orderOutboxRepository.save(createOutbox()).getOutboxId(),
+                orderOutboxRepository.save(createOutbox()).getOutboxId(),
+                orderOutboxRepository.save(createOutbox()).getOutboxId()));
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> claimed = idsOf(orderOutboxRepository.findClaimableForUpdate(now, 2));
+            assertThat(claimed).containsExactly(ids.get(0), ids.get(1));
+            orderOutboxRepository.claim(claimed, now.plusSeconds(30));
+        });
+
+        // When & Then - 선점 중에는 나머지 1건만 보임
+        assertThat(claimable(now)).containsExactly(ids.get(2));
+
+        // 실패로 기록하면 선점이 풀려 바로 다시 보임
+        transactionTemplate.executeWithoutResult(status ->
+                orderOutboxRepository.markFailed(List.of(ids.get(0)), "broker down"));
+        assertThat(claimable(now)).containsExactly(ids.get(0), ids.get(2));
+
+        // 선점한 노드가 결과를 기록하지 못해도 만료 후에는 다시 보임
+        assertThat(claimable(now.plusSeconds(31))).containsExactlyElementsOf(ids);
+    }
+
+    private List<Long> claimable(LocalDateTime now) {
+        return transactionTemplate.execute(status -> idsOf(orderOutboxRepository.findClaimableForUpdate(now, 10)));
+    }
+
+    private static List<Long> idsOf(List<OrderOutbox> outboxes) {
+        return outboxes.stream().map(OrderOutbox::getOutboxId).toList();
+    }
+
+    private static OrderOutbox createOutbox() {
+        return new OrderOutbox("order.completed", "1", "OrderCompletedEvent", "{}");
+    }
+}
@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.order.domain.OrderOutbox;
+import kr.hhplus.be.server.order.domain.repository.OrderOutboxRepository;
+import kr.hhplus.be.server.order.infrastructure.kafka.OrderOutboxRelay;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, String> outboxKafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository, outboxKafkaTemplate,
+                new TransactionTemplate(transactionManager), new OrderProperties(), new SimpleMeterRegistry());
+        given(transactionManager.getTransaction(any())).willAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("선점 트랜잭션을 커밋한 뒤에 Kafka로 전송하고, 결과는 새 트랜잭션에서 기록")
+    void relay_CommitsClaimBeforeSending() {
+        // Given
+        OrderOutbox first = createOutbox(1L);
+        OrderOutbox second = createOutbox(2L);
+        given(orderOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500)))
+                .willReturn(List.of(first, second));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // When
+        orderOutboxRelay.relay();
+
+        // Then
+        InOrder inOrder = inOrder(orderOutboxRepository, transactionManager, outboxKafkaTemplate);
+        inOrder.verify(orderOutboxRepository).claim(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(outboxKafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(orderOutboxRepository).deleteAllByIds(List.of(1L, 2L));
+        inOrder.verify(transactionManager).commit(any());
+        verify(orderOutboxRepository, never()).markFailed(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("선점은 claimTimeout 뒤에 만료되도록 기록")
+    void relay_ClaimsUntilClaimTimeout() {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        OrderOutbox outbox = createOutbox(1L);
+        given(orderOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500)))
+                .willReturn(List.of(outbox));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class))).willReturn(sent());
+
+        // When
+        orderOutboxRelay.relay();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(orderOutboxRepository).claim(eq(List.of(1L)), claimedUntil.capture());
+        assertThat(claimedUntil.getValue()).isAfterOrEqualTo(before.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("브로커 확인에 실패한 이벤트는 삭제하지 않고 실패로 기록하여 선점 해제")
+    void relay_FailedSend_MarksFailed() {
+        // Given
+        OrderOutbox first = createOutbox(1L);
+        OrderOutbox second = createOutbox(2L);
+        given(orderOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500)))
+                .willReturn(List.of(first, second));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(sent())
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // When
+        orderOutboxRelay.relay();
+
+        // Then
+        verify(orderOutboxRepository).deleteAllByIds(List.of(1L));
+        verify(orderOutboxRepository).markFailed(eq(List.of(2L)), contains("broker down"));
+    }
+
+    @Test
+    @DisplayName("send 호출 자체가 예외를 던져도 남은 이벤트는 전송하고 실패 이벤트의 선점은 해제")
+    void relay_SendThrows_MarksFailed() {
+        // Given
+        OrderOutbox first = createOutbox(1L);
+        OrderOutbox second = createOutbox(2L);
+        given(orderOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500)))
+                .willReturn(List.of(first, second));
+        given(outboxKafkaTemplate.send(any(ProducerRecord.class)))
+                .willThrow(new IllegalStateException("metadata timeout"))
+                .willReturn(sent());
+
+        // When
+        orderOutboxRelay.relay();
+
+        // Then
+        verify(orderOutboxRepository).deleteAllByIds(List.of(2L));
+        verify(orderOutboxRepository).markFailed(eq(List.of(1L)), contains("metadata timeout"));
+    }
+
+    @Test
+    @DisplayName("선점할 이벤트가 없으면 전송하지 않음")
+    void relay_NothingClaimable_DoesNotSend() {
+        // Given
+        given(orderOutboxRepository.findClaimableForUpdate(any(LocalDateTime.class), eq(500))).willReturn(List.of());
+
+        // When
+        orderOutboxRelay.relay();
+
+        // Then
+        verify(orderOutboxRepository, never()).claim(anyCollection(), any());
+        verifyNoInteractions(outboxKafkaTemplate);
+    }
+
+    private OrderOutbox createOutbox(Long outboxId) {
+        OrderOutbox outbox = mock(OrderOutbox.class);
+        given(outbox.getOutboxId()).willReturn(outboxId);
+        given(outbox.getTopic()).willReturn("order.completed");
+        given(outbox.getMessageKey()).willReturn(String.valueOf(outboxId));
+        given(outbox.getPayload()).willReturn("{}");
+        given(outbox.getEventType()).willReturn("OrderCompletedEvent");
+        lenient().when(outbox.getCreatedAt()).thenReturn(LocalDateTime.now());
+        return outbox;
+    }
+
+    private static CompletableFuture<SendResult<String, String>> sent() {
+        return CompletableFuture.completedFuture(null);
+    }
+}
@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.order.application.OrderReservationService;
+import kr.hhplus.be.server.order.domain.OrderReservation;
+import kr.hhplus.be.server.order.domain.OrderReservationItem;
+import kr.hhplus.be.server.order.domain.ReservationStatus;
+import kr.hhplus.be.server.order.domain.repository.OrderReservationRepository;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.application.stock.StockDeductor;
+import kr.hhplus.be.server.product.application.stock.StockDeductorResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderReservationServiceTest {
+
+    @InjectMocks
+    private OrderReservationService orderReservationService;
+
+    @Mock
+    private OrderReservationRepository orderReservationRepository;
+
+    @Mock
+    private StockDeductorResolver stockDeductorResolver;
+
+    @Mock
+    private OrderProperties orderProperties;
+
+    @Mock
+    private StockDeductor stockDeductor;
+
+    @Test
+    @DisplayName("만료된 예약 해제 시 예약 당시 방식으로 상품별 재고 복구")
+    void release_RestoresStockWithReservedMode() {
+        // Given
+        Long reservationId = 1L;
+        OrderReservation reservation = new OrderReservation(1L, null, StockDeductionMode.CONDITIONAL_UPDATE,
+                30000, LocalDateTime.now().minusMinutes(1));
+
+        given(orderReservationRepository.updateStatus(reservationId, ReservationStatus.PENDING, ReservationStatus.EXPIRED))
+                .willReturn(1);
+        given(orderReservationRepository.findById(reservationId)).willReturn(Optional.of(reservation));
+        given(orderReservationRepository.findItems(reservationId)).willReturn(List.of(
+                new OrderReservationItem(reservationId, 1L, 2, 10000),
+                new OrderReservationItem(reservationId, 1L, 1, 10000)
+        ));
+        given(stockDeductorResolver.resolve(StockDeductionMode.CONDITIONAL_UPDATE)).willReturn(stockDeductor);
+
+        // When
+        boolean released = orderReservationService.release(reservationId, ReservationStatus.EXPIRED);
+
+        // Then
+        assertThat(released).isTrue();
+        verify(stockDeductor).restore(Map.of(1L, 3));
+    }
+
+    @Test
+    @DisplayName("이미 확정된 예약은 해제하지 않고 재고도 복구하지 않음")
+    void release_AlreadyConfirmed_DoesNothing() {
+        // Given
+        Long reservationId = 1L;
+        given(orderReservationRepository.updateStatus(reservationId, ReservationStatus.PENDING, ReservationStatus.EXPIRED))
+                .willReturn(0);
+
+        // When
+        boolean released = orderReservationService.release(reservationId, ReservationStatus.EXPIRED);
+
+        // Then
+        assertThat(released).isFalse();
+        verify(stockDeductorResolver, never()).resolve(any());
+    }
+
+    @Test
+    @DisplayName("만료되었거나 이미 처리된 예약 확정 시 예외 발생")
+    void claimForConfirm_Expired_ThrowsException() {
+        // Given
+        Long reservationId = 1L;
+        given(orderReservationRepository.confirmIfNotExpired(eq(reservationId), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> orderReservationService.claimForConfirm(reservationId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("확정할 수 없는 주문 예약입니다");
+        verify(orderReservationRepository, never()).findById(any());
+    }
+}
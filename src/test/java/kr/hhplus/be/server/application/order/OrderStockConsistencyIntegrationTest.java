@@ -0,0 +1,149 @@
+package kr.hhplus.be.server.application.order;
+
+import kr.hhplus.be.server.order.application.OrderFacade;
+import kr.hhplus.be.server.order.presentation.dto.request.OrderRequest;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 재고를 바꾸는 주문 경로가 섞여 실행될 때의 정합성 (기본 방식: DISTRIBUTED_LOCK)
+ * 멀티락 주문은 STOCK 락을 잡고, 예약/예약 해제/비동기 접수 주문은 락 없이 조건부 UPDATE로 재고를 바꿈
+ */
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class OrderStockConsistencyIntegrationTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("멀티락 주문과 재고 예약이 같은 상품을 동시에 차감해도 재고만큼만 성공하고 서로 덮어쓰지 않음")
+    void placeOrderAndReserveOrder_Concurrent_NoLostUpdate() throws InterruptedException {
+        // Given - 상품5 재고 10, 주문 20건 + 예약 20건 (각 1개)
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            OrderRequest request = orderRequest((long) (i % 3 + 1), 5L, 1);
+            tasks.add(i % 2 == 0
+                    ? () -> orderFacade.placeOrder(request)
+                    : () -> orderFacade.reserveOrder(request));
+        }
+
+        // When
+        Result result = runConcurrently(tasks);
+
+        // Then
+        assertThat(result.success()).isEqualTo(10);
+        assertThat(result.failures()).hasSize(30)
+                .allSatisfy(e -> assertThat(e).hasMessageContaining("재고가 부족"));
+        assertThat(stockOf(5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 취소의 재고 복구와 멀티락 주문이 섞여도 복구분이 사라지지 않음")
+    void placeOrderAndCancelReservation_Concurrent_NoLostUpdate() throws InterruptedException {
+        // Given - 상품4 재고 50에서 2개씩 10건 예약 (남은 재고 30)
+        List<Long> reservationIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            reservationIds.add(orderFacade.reserveOrder(orderRequest(1L, 4L, 2)).getReservationId());
+        }
+        assertThat(stockOf(4L)).isEqualTo(30);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            tasks.add(() -> orderFacade.cancelReservation(reservationId));
+        }
+        for (int i = 0; i < 20; i++) {
+            OrderRequest request = orderRequest((long) (i % 3 + 1), 4L, 1);
+            tasks.add(() -> orderFacade.placeOrder(request));
+        }
+
+        // When
+        Result result = runConcurrently(tasks);
+
+        // Then - 취소 10건(20개 복구)과 주문 20건(20개 차감)이 모두 반영
+        assertThat(result.failures()).isEmpty();
+        assertThat(result.success()).isEqualTo(30);
+        assertThat(stockOf(4L)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("동기 멀티락 주문과 비동기 접수 주문(락 없는 조건부 차감)이 섞여도 재고만큼만 성공")
+    void placeOrderAndIntakeOrder_Concurrent_NoLostUpdate() throws InterruptedException {
+        // Given - 상품5 재고 10, 동기 주문 20건 + 접수 Consumer 경로 20건 (각 1개)
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            OrderRequest request = orderRequest((long) (i % 3 + 1), 5L, 1);
+            tasks.add(i % 2 == 0
+                    ? () -> orderFacade.placeOrder(request)
+                    : () -> orderFacade.placeOrderLockFree(request, StockDeductionMode.CONDITIONAL_UPDATE));
+        }
+
+        // When
+        Result result = runConcurrently(tasks);
+
+        // Then
+        assertThat(result.success()).isEqualTo(10);
+        assertThat(result.failures()).hasSize(30)
+                .allSatisfy(e -> assertThat(e).hasMessageContaining("재고가 부족"));
+        assertThat(stockOf(5L)).isZero();
+    }
+
+    private Result runConcurrently(List<Runnable> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(tasks.size());
+        AtomicInteger success = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (Runnable task : tasks) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                    success.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return new Result(success.get(), failures);
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStock();
+    }
+
+    private static OrderRequest orderRequest(Long userId, Long productId, int quantity) {
+        return new OrderRequest(userId, List.of(new OrderRequest.OrderItemRequest(productId, quantity)));
+    }
+
+    private record Result(int success, ConcurrentLinkedQueue<Throwable> failures) {
+    }
+}
@@ -0,0 +1,91 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class ConditionalStockIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("조건부 일괄 차감 - 30명이 재고 10개 상품을 동시에 1개씩 주문하면 정확히 10건만 성공")
+    void decreaseStocksIfAvailable_Concurrent_NeverOversells() throws InterruptedException {
+        // Given - 상품5 재고 10
+        int threadCount = 30;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    productService.decreaseStocksIfAvailable(Map.of(5L, 1));
+                    success.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    outOfStock.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        assertThat(success.get()).isEqualTo(10);
+        assertThat(outOfStock.get()).isEqualTo(20);
+        assertThat(stockOf(5L)).isZero();
+    }
+
+    @Test
+    @DisplayName("조건부 일괄 차감 - 한 상품이라도 부족하면 같은 트랜잭션의 다른 상품 차감도 롤백")
+    void decreaseStocksIfAvailable_PartialFailure_RollsBackAllLines() {
+        // When - 상품1 재고 100, 상품5 재고 10
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                productService.decreaseStocksIfAvailable(Map.of(1L, 3, 5L, 11))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("상품ID 5");
+
+        // Then
+        assertThat(stockOf(1L)).isEqualTo(100);
+        assertThat(stockOf(5L)).isEqualTo(10);
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStock();
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.config.PopularRankingProperties;
+import kr.hhplus.be.server.order.domain.ProductSales;
+import kr.hhplus.be.server.product.application.PopularProductRanking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularProductRankingTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PopularProductRanking popularProductRanking;
+
+    @BeforeEach
+    void setUp() {
+        popularProductRanking = new PopularProductRanking(stringRedisTemplate, new PopularRankingProperties());
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).willReturn(Set.of());
+    }
+
+    @Test
+    @DisplayName("판매가 없는 기간은 빈 기간 표시 키를 남겨 다음 조회에서 다시 합산하지 않음")
+    void top_EmptyWindow_StoresMarkerAndSkipsNextRebuild() {
+        // Given - 합산 결과 0건 (ZUNIONSTORE가 대상 키를 지움), 표시 키 저장 후에는 존재
+        given(stringRedisTemplate.countExistingKeys(anyCollection())).willReturn(0L, 0L, 1L);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(0L, false));
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // When
+        List<ProductSales> first = popularProductRanking.top(3, 0, 5);
+        List<ProductSales> second = popularProductRanking.top(3, 0, 5);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(valueOperations).set(endsWith(":empty"), eq("1"), eq(Duration.ofMillis(5_000)));
+    }
+
+    @Test
+    @DisplayName("합산 결과가 있으면 빈 기간 표시 키를 남기지 않음")
+    void top_NonEmptyWindow_DoesNotStoreMarker() {
+        // Given
+        given(stringRedisTemplate.countExistingKeys(anyCollection())).willReturn(0L);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(3L, true));
+
+        // When
+        popularProductRanking.top(3, 0, 5);
+
+        // Then
+        verify(stringRedisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("합산 키가 없을 때 동시에 들어온 조회는 재생성을 한 번만 실행하고 그 결과를 기다림")
+    void top_ConcurrentMisses_RebuildsOnce() throws Exception {
+        // Given - 첫 재생성이 끝나기 전에 두 번째 조회가 도착
+        CountDownLatch rebuilding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(stringRedisTemplate.countExistingKeys(anyCollection())).willReturn(0L);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            rebuilding.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return List.of(3L, true);
+        });
+
+        CompletableFuture<List<ProductSales>> first = CompletableFuture.supplyAsync(
+                () -> popularProductRanking.top(3, 0, 5));
+        assertThat(rebuilding.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        Thread second = new Thread(() -> popularProductRanking.top(3, 0, 5));
+        second.start();
+        awaitWaiting(second);
+        release.countDown();
+        second.join(1_000);
+        first.get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(second.isAlive()).isFalse();
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    // 두 번째 조회가 진행 중인 재생성을 기다리기 시작할 때까지 대기
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+    }
+}
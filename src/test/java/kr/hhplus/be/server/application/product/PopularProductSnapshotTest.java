@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.config.PopularRankingProperties;
+import kr.hhplus.be.server.product.application.PopularProductSnapshot;
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.presentation.dto.response.PopularProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularProductSnapshotTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private PopularProductSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        PopularRankingProperties properties = new PopularRankingProperties();
+        properties.setWindows(List.of(3));
+        properties.setMaxPageSize(10);
+        snapshot = new PopularProductSnapshot(productService, properties, scheduler, listenerContainer);
+
+        // 갱신 작업을 호출 스레드에서 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(scheduler).execute(any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만들기 전에는 null을 반환하여 Redis/DB 조회로 넘김")
+    void get_BeforeRefresh_ReturnsNull() {
+        assertThat(snapshot.get(3, 0, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("순위 변경 알림을 받으면 스냅샷을 다시 만들고 기본 조회는 미리 잘라 둔 목록을 반환")
+    void changeNotification_RefreshesSnapshot() {
+        // Given
+        given(productService.getPopularProductsFromRedis(3, 0, 10)).willReturn(ranking(8));
+        MessageListener listener = startAndCaptureListener();
+
+        // When
+        listener.onMessage(null, null);
+
+        // Then
+        List<PopularProductResponse> head = snapshot.get(3, 0, 5);
+        assertThat(head).extracting(PopularProductResponse::getProductId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(snapshot.get(3, 0, 5)).isSameAs(head); // 같은 목록을 그대로 반환 (할당 없음)
+        assertThat(snapshot.get(3, 1, 3)).extracting(PopularProductResponse::getProductId).containsExactly(4L, 5L, 6L);
+        verify(productService, never()).getPopularProducts(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Redis 랭킹이 비어 있으면 DB 집계로 스냅샷을 만듦")
+    void refresh_RedisEmpty_FallsBackToDatabase() {
+        // Given
+        given(productService.getPopularProductsFromRedis(3, 0, 10)).willReturn(List.of());
+        given(productService.getPopularProducts(3, 10)).willReturn(ranking(2));
+        MessageListener listener = startAndCaptureListener();
+
+        // When
+        listener.onMessage(null, null);
+
+        // Then
+        assertThat(snapshot.get(3, 0, 5)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷 범위를 벗어난 요청과 미리 만들지 않은 기간은 null")
+    void get_OutOfSnapshotRange_ReturnsNull() {
+        // Given
+        given(productService.getPopularProductsFromRedis(3, 0, 10)).willReturn(ranking(10));
+        startAndCaptureListener().onMessage(null, null);
+
+        // When & Then
+        assertThat(snapshot.get(3, 2, 5)).isNull(); // 11~15위
+        assertThat(snapshot.get(7, 0, 5)).isNull();
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 스냅샷을 유지")
+    void refresh_Failure_KeepsPreviousSnapshot() {
+        // Given
+        given(productService.getPopularProductsFromRedis(3, 0, 10))
+                .willReturn(ranking(5))
+                .willThrow(new IllegalStateException("Redis 장애"));
+        MessageListener listener = startAndCaptureListener();
+        listener.onMessage(null, null);
+
+        // When
+        listener.onMessage(null, null);
+
+        // Then
+        assertThat(snapshot.get(3, 0, 5)).hasSize(5);
+    }
+
+    private MessageListener startAndCaptureListener() {
+        snapshot.start();
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), any(Topic.class));
+        return listener.getValue();
+    }
+
+    private List<PopularProductResponse> ranking(int size) {
+        return LongStream.rangeClosed(1, size)
+                .mapToObj(id -> PopularProductResponse.builder().productId(id).totalSold((int) (100 - id)).build())
+                .toList();
+    }
+}
@@ -0,0 +1,154 @@
+package kr.hhplus.be.server.application.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kr.hhplus.be.server.common.config.ProductSalesRollupProperties;
+import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.event.OrderCompletedEvent;
+import kr.hhplus.be.server.product.application.ProductSalesRollupService;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSalesRollupServiceTest {
+
+    @InjectMocks
+    private ProductSalesRollupService productSalesRollupService;
+
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Spy
+    private ProductSalesRollupProperties properties = new ProductSalesRollupProperties();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("주문 완료 이벤트 묶음을 판매일/상품별 합계로 한 번에 반영")
+    @SuppressWarnings("unchecked")
+    void apply_MergesQuantitiesByDateAndProduct() {
+        // Given
+        OrderCompletedEvent first = createEvent(1L, new OrderItem(1L, 2, 1000), new OrderItem(2L, 1, 1000));
+        OrderCompletedEvent second = createEvent(2L, new OrderItem(1L, 3, 1000));
+        given(productSalesDailyRepository.findAppliedEventIds(any())).willReturn(Set.of());
+
+        // When
+        int applied = productSalesRollupService.apply(List.of(first, second));
+
+        // Then
+        assertThat(applied).isEqualTo(2);
+
+        ArgumentCaptor<Map<LocalDate, Map<Long, Long>>> quantities = ArgumentCaptor.forClass(Map.class);
+        verify(productSalesDailyRepository).addQuantities(quantities.capture());
+        assertThat(quantities.getValue().get(LocalDate.now()))
+                .isEqualTo(Map.of(1L, 5L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("이미 반영했거나 묶음 안에서 중복된 이벤트는 다시 더하지 않음")
+    @SuppressWarnings("unchecked")
+    void apply_SkipsAlreadyAppliedAndDuplicateEvents() {
+        // Given
+        OrderCompletedEvent applied = createEvent(1L, new OrderItem(1L, 2, 1000));
+        OrderCompletedEvent fresh = createEvent(2L, new OrderItem(1L, 3, 1000));
+        given(productSalesDailyRepository.findAppliedEventIds(any())).willReturn(Set.of(applied.getEventId()));
+
+        // When
+        int count = productSalesRollupService.apply(List.of(applied, fresh, fresh));
+
+        // Then
+        assertThat(count).isEqualTo(1);
+
+        ArgumentCaptor<Map<LocalDate, Map<Long, Long>>> quantities = ArgumentCaptor.forClass(Map.class);
+        verify(productSalesDailyRepository).addQuantities(quantities.capture());
+        assertThat(quantities.getValue().get(LocalDate.now())).isEqualTo(Map.of(1L, 3L));
+
+        ArgumentCaptor<Collection<String>> eventIds = ArgumentCaptor.forClass(Collection.class);
+        verify(productSalesDailyRepository).markApplied(eventIds.capture(), any());
+        assertThat(eventIds.getValue()).containsExactly(fresh.getEventId());
+    }
+
+    @Test
+    @DisplayName("모두 반영된 이벤트면 아무것도 쓰지 않음")
+    void apply_AllApplied_WritesNothing() {
+        // Given
+        OrderCompletedEvent applied = createEvent(1L, new OrderItem(1L, 2, 1000));
+        given(productSalesDailyRepository.findAppliedEventIds(any())).willReturn(Set.of(applied.getEventId()));
+
+        // When
+        int count = productSalesRollupService.apply(List.of(applied));
+
+        // Then
+        assertThat(count).isZero();
+        verify(productSalesDailyRepository, never()).addQuantities(any());
+        verify(productSalesDailyRepository, never()).markApplied(any(), any());
+    }
+
+    @Test
+    @DisplayName("백필한 날짜의 이벤트는 재전달/지연 도착이어도 더하지 않음")
+    @SuppressWarnings("unchecked")
+    void apply_SkipsEventsOfRebuiltDays() {
+        // Given - 어제는 백필 완료, 오늘은 실시간 반영 중
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        OrderCompletedEvent late = createEvent(1L, yesterday.atTime(23, 59), new OrderItem(1L, 2, 1000));
+        OrderCompletedEvent live = createEvent(2L, LocalDateTime.now(), new OrderItem(1L, 3, 1000));
+        given(productSalesDailyRepository.findAppliedEventIds(any())).willReturn(Set.of());
+        given(productSalesDailyRepository.findRebuiltDays(Set.of(yesterday, LocalDate.now()))).willReturn(Set.of(yesterday));
+
+        // When
+        int count = productSalesRollupService.apply(List.of(late, live));
+
+        // Then
+        assertThat(count).isEqualTo(1);
+
+        ArgumentCaptor<Map<LocalDate, Map<Long, Long>>> quantities = ArgumentCaptor.forClass(Map.class);
+        verify(productSalesDailyRepository).addQuantities(quantities.capture());
+        assertThat(quantities.getValue()).containsOnlyKeys(LocalDate.now());
+
+        ArgumentCaptor<Collection<String>> eventIds = ArgumentCaptor.forClass(Collection.class);
+        verify(productSalesDailyRepository).markApplied(eventIds.capture(), any());
+        assertThat(eventIds.getValue()).containsExactly(live.getEventId());
+    }
+
+    @Test
+    @DisplayName("오늘 이후 날짜는 백필할 수 없음")
+    void backfill_IncludesToday_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> productSalesRollupService.backfill(LocalDate.now().minusDays(3), LocalDate.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(productSalesDailyRepository, never()).rebuildDay(any());
+    }
+
+    private OrderCompletedEvent createEvent(Long orderId, OrderItem... items) {
+        return new OrderCompletedEvent(orderId, 1L, List.of(items), 0, null);
+    }
+
+    // 주문 시각 지정 (컨슈머가 받는 것과 같이 역직렬화로 생성)
+    @SuppressWarnings("unchecked")
+    private OrderCompletedEvent createEvent(Long orderId, LocalDateTime orderTime, OrderItem... items) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        Map<String, Object> json = new HashMap<>(objectMapper.convertValue(createEvent(orderId, items), Map.class));
+        json.put("orderTime", orderTime.toString());
+        return objectMapper.convertValue(json, OrderCompletedEvent.class);
+    }
+}
@@ -5,6 +5,7 @@ import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
 import kr.hhplus.be.server.product.application.ProductService;
 import kr.hhplus.be.server.product.domain.Product;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
 import kr.hhplus.be.server.product.presentation.dto.response.PopularProductResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +18,7 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +44,9 @@ class ProductServiceCachePerformanceTest {
     @Autowired
     private OrderItemRepository orderItemRepository;
 
+    @Autowired
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
     @Autowired
     private CacheManager cacheManager;
 
@@ -461,10 +466,12 @@ class ProductServiceCachePerformanceTest {
                         product.getPrice(),
                         baseTime.plusMinutes(j * 10) // 10분 간격으로 주문
                 );
-                orderItem.assignToOrder((long)(j / 5 + 1)); // 5개씩 묶어서 주문
+                orderItem.assignToOrder((long)(j / 5 + 1), orderItem.getOrderDate()); // 5개씩 묶어서 주문
                 testOrderItems.add(orderItemRepository.save(orderItem));
             }
         }
+
+        rebuildSalesRollup();
     }
 
     private void createLargeOrderData() {
@@ -479,9 +486,19 @@ class ProductServiceCachePerformanceTest {
                     randomProduct.getPrice(),
                     baseTime.plusMinutes(i)
             );
-            orderItem.assignToOrder((long)(i / 10 + 100)); // 주문 ID를 다양하게 설정
+            orderItem.assignToOrder((long)(i / 10 + 100), orderItem.getOrderDate()); // 주문 ID를 다양하게 설정
             orderItemRepository.save(orderItem);
         }
+
+        rebuildSalesRollup();
+    }
+
+    // 주문 아이템을 직접 저장했으므로 인기상품 조회가 읽는 일 판매량 집계를 다시 계산
+    private void rebuildSalesRollup() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 3; i++) {
+            productSalesDailyRepository.rebuildDay(today.minusDays(i));
+        }
     }
 
     private void clearAllCaches() {
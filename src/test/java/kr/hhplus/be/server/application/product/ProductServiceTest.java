@@ -1,23 +1,40 @@
 package kr.hhplus.be.server.application.product;
 
+import kr.hhplus.be.server.common.lock.FencingTokens;
+import kr.hhplus.be.server.product.application.PopularProductRanking;
+import kr.hhplus.be.server.product.application.ProductDetailCache;
 import kr.hhplus.be.server.product.application.ProductService;
 import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductDetail;
 import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductSalesDailyRepository;
 import kr.hhplus.be.server.order.domain.repository.OrderItemRepository;
-import kr.hhplus.be.server.order.domain.OrderItem;
+import kr.hhplus.be.server.order.domain.ProductSales;
 import kr.hhplus.be.server.product.presentation.dto.response.PopularProductResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Statement;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -34,6 +51,26 @@ class ProductServiceTest {
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private ProductSalesDailyRepository productSalesDailyRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private PopularProductRanking popularProductRanking;
+
+    @BeforeEach
+    void setUp() {
+        // 캐시 미스: 요청한 상품 전부를 loader(IN 쿼리)로 조회
+        lenient().when(productDetailCache.getAll(any(), any())).thenAnswer(invocation ->
+                invocation.<Function<Collection<Long>, Map<Long, ProductDetail>>>getArgument(1)
+                        .apply(invocation.getArgument(0)));
+    }
+
     @Test
     @DisplayName("상품 조회 성공")
     void getProductById_Success() {
@@ -74,15 +111,44 @@ class ProductServiceTest {
                 .hasMessage("상품 ID는 null일 수 없습니다.");
     }
 
+    @Test
+    @DisplayName("재고 원장 증감분은 상대값으로 더하고 반영한 묶음 ID를 기록")
+    void applyLedgerDeltas_NewBatch_AddsDeltasAndRecordsBatch() {
+        // Given - 직전에 반영한 묶음은 b-1
+        given(productRepository.findLedgerBatchIdForUpdate("ledger")).willReturn(Optional.of("b-1"));
+
+        // When
+        boolean applied = productService.applyLedgerDeltas("ledger", "b-2", Map.of(2L, 5, 1L, -3));
+
+        // Then
+        assertThat(applied).isTrue();
+        verify(productRepository).increaseStocks(new TreeMap<>(Map.of(1L, -3, 2L, 5)));
+        verify(productRepository).saveLedgerBatchId(eq("ledger"), eq("b-2"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("이미 반영한 묶음이 다시 오면 재고를 다시 더하지 않음")
+    void applyLedgerDeltas_SameBatch_Skips() {
+        // Given
+        given(productRepository.findLedgerBatchIdForUpdate("ledger")).willReturn(Optional.of("b-1"));
+
+        // When
+        boolean applied = productService.applyLedgerDeltas("ledger", "b-1", Map.of(1L, -3));
+
+        // Then
+        assertThat(applied).isFalse();
+        verify(productRepository, never()).increaseStocks(anyMap());
+        verify(productRepository, never()).saveLedgerBatchId(anyString(), anyString(), any());
+    }
+
     @Test
     @DisplayName("인기 상품 TOP5 조회 성공")
     void getTop5PopularProducts_Success() {
-        // Given
-        List<OrderItem> orderItems = Arrays.asList(
-                createOrderItem(1L, 1L, 5), // 상품1: 5개 판매
-                createOrderItem(2L, 2L, 3), // 상품2: 3개 판매
-                createOrderItem(3L, 1L, 2), // 상품1: 추가 2개 (총 7개)
-                createOrderItem(4L, 3L, 8)  // 상품3: 8개 판매
+        // Given - 일 판매량 집계 결과 (판매량 내림차순)
+        List<ProductSales> topSales = Arrays.asList(
+                new ProductSales(3L, 8), // 상품3: 8개 판매
+                new ProductSales(1L, 7), // 상품1: 5 + 2개 판매
+                new ProductSales(2L, 3)  // 상품2: 3개 판매
         );
 
         Product product1 = createProduct(1L, "iPhone 15", 1000000, 10);
@@ -90,11 +156,9 @@ class ProductServiceTest {
         Product product3 = createProduct(3L, "iPad Pro", 1200000, 5);
 
         // Mock 설정
-        given(orderItemRepository.findByOrderDateBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(orderItems);
-        given(productRepository.findById(1L)).willReturn(Optional.of(product1));
-        given(productRepository.findById(2L)).willReturn(Optional.of(product2));
-        given(productRepository.findById(3L)).willReturn(Optional.of(product3));
+        given(productSalesDailyRepository.findTopSelling(any(LocalDate.class), any(LocalDate.class), eq(5)))
+                .willReturn(topSales);
+        given(productRepository.findAllById(any())).willReturn(List.of(product1, product2, product3));
 
         // When
         List<PopularProductResponse> result = productService.getTop5PopularProducts();
@@ -120,7 +184,7 @@ class ProductServiceTest {
     @DisplayName("판매 기록이 없을 때 빈 리스트 반환")
     void getTop5PopularProducts_NoSales_ReturnsEmptyList() {
         // Given
-        given(orderItemRepository.findByOrderDateBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+        given(productSalesDailyRepository.findTopSelling(any(LocalDate.class), any(LocalDate.class), eq(5)))
                 .willReturn(Arrays.asList()); // 빈 리스트
 
         // When
@@ -131,26 +195,111 @@ class ProductServiceTest {
     }
 
     @Test
-    @DisplayName("5개 이상의 상품이 있을 때 상위 5개만 반환")
-    void getTop5PopularProducts_MoreThan5Products_ReturnsTop5Only() {
-        // Given - 6개 상품의 판매 기록
-        List<OrderItem> orderItems = Arrays.asList(
-                createOrderItem(1L, 1L, 10), // 상품1: 10개 (1위)
-                createOrderItem(2L, 2L, 9),  // 상품2: 9개 (2위)
-                createOrderItem(3L, 3L, 8),  // 상품3: 8개 (3위)
-                createOrderItem(4L, 4L, 7),  // 상품4: 7개 (4위)
-                createOrderItem(5L, 5L, 6),  // 상품5: 6개 (5위)
-                createOrderItem(6L, 6L, 5)   // 상품6: 5개 (6위, TOP5에서 제외됨)
+    @DisplayName("일 판매량 집계 조회 실패 시 주문 아이템 집계로 대체")
+    void getTop5PopularProducts_RollupFails_FallsBackToOrderItemAggregation() {
+        // Given
+        given(productSalesDailyRepository.findTopSelling(any(LocalDate.class), any(LocalDate.class), eq(5)))
+                .willThrow(new QueryTimeoutException("집계 조회 타임아웃"));
+        given(orderItemRepository.findTopSellingProducts(any(LocalDateTime.class), any(LocalDateTime.class), eq(5)))
+                .willReturn(List.of(new ProductSales(1L, 4)));
+        given(productRepository.findAllById(any())).willReturn(List.of(createProduct(1L, "iPhone 15", 1000000, 10)));
+
+        // When
+        List<PopularProductResponse> result = productService.getTop5PopularProducts();
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTotalSold()).isEqualTo(4);
+        verify(orderItemRepository, never()).streamSalesBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("인기 상품 상세는 순위 수와 관계없이 한 번에 조회")
+    void getTop5PopularProducts_ResolvesProductDetailsInOneBatch() {
+        // Given
+        given(productSalesDailyRepository.findTopSelling(any(LocalDate.class), any(LocalDate.class), eq(5)))
+                .willReturn(List.of(new ProductSales(2L, 9), new ProductSales(1L, 7), new ProductSales(3L, 1)));
+        given(productRepository.findAllById(any())).willReturn(List.of(
+                createProduct(1L, "iPhone 15", 1000000, 10),
+                createProduct(2L, "Galaxy S24", 900000, 15)
+        )); // 상품3은 랭킹 집계 이후 삭제됨
+
+        // When
+        List<PopularProductResponse> result = productService.getTop5PopularProducts();
+
+        // Then
+        assertThat(result).extracting(PopularProductResponse::getProductId).containsExactly(2L, 1L);
+        verify(productRepository, times(1)).findAllById(any());
+        verify(productRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Redis 랭킹은 미리 합산된 기간 키에서 요청한 페이지만 조회")
+    void getPopularProductsFromRedis_ReadsRequestedPage() {
+        // Given
+        given(popularProductRanking.maxPageSize()).willReturn(100);
+        given(popularProductRanking.supports(7)).willReturn(true);
+        given(popularProductRanking.top(7, 10L, 10)).willReturn(List.of(new ProductSales(1L, 20)));
+        given(productRepository.findAllById(any())).willReturn(List.of(createProduct(1L, "iPhone 15", 1000000, 10)));
+
+        // When
+        List<PopularProductResponse> result = productService.getPopularProductsFromRedis(7, 1, 10);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getTotalSold()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("미리 합산하지 않는 기간은 Redis를 조회하지 않고 빈 목록 반환")
+    void getPopularProductsFromRedis_UnsupportedWindow_ReturnsEmpty() {
+        // Given
+        given(popularProductRanking.maxPageSize()).willReturn(100);
+        given(popularProductRanking.supports(30)).willReturn(false);
+
+        // When
+        List<PopularProductResponse> result = productService.getPopularProductsFromRedis(30, 0, 5);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(popularProductRanking, never()).top(anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("인기 상품 기간이 범위를 벗어나면 예외 발생")
+    void getPopularProducts_InvalidDays_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> productService.getPopularProducts(0, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getPopularProducts(91, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> productService.getPopularProducts(3, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productSalesDailyRepository);
+    }
+
+    @Test
+    @DisplayName("집계 쿼리 실패 시 스트리밍 집계로 상위 5개만 반환")
+    void getTop5PopularProducts_AggregationFails_FallsBackToStreamingTopK() {
+        // Given - 6개 상품의 판매 기록 (순서 무관하게 스트리밍)
+        List<ProductSales> rows = Arrays.asList(
+                new ProductSales(6L, 5),  // 상품6: 5개 (6위, TOP5에서 제외됨)
+                new ProductSales(3L, 8),  // 상품3: 8개 (3위)
+                new ProductSales(1L, 10), // 상품1: 10개 (1위)
+                new ProductSales(5L, 6),  // 상품5: 6개 (5위)
+                new ProductSales(2L, 9),  // 상품2: 9개 (2위)
+                new ProductSales(4L, 7)   // 상품4: 7개 (4위)
         );
 
-        given(orderItemRepository.findByOrderDateBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(orderItems);
+        givenAggregationFailsAndStreams(rows);
 
-        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, "Product 1", 10000, 10)));
-        given(productRepository.findById(2L)).willReturn(Optional.of(createProduct(2L, "Product 2", 20000, 10)));
-        given(productRepository.findById(3L)).willReturn(Optional.of(createProduct(3L, "Product 3", 30000, 10)));
-        given(productRepository.findById(4L)).willReturn(Optional.of(createProduct(4L, "Product 4", 40000, 10)));
-        given(productRepository.findById(5L)).willReturn(Optional.of(createProduct(5L, "Product 5", 50000, 10)));
+        given(productRepository.findAllById(any())).willReturn(List.of(
+                createProduct(1L, "Product 1", 10000, 10),
+                createProduct(2L, "Product 2", 20000, 10),
+                createProduct(3L, "Product 3", 30000, 10),
+                createProduct(4L, "Product 4", 40000, 10),
+                createProduct(5L, "Product 5", 50000, 10)
+        ));
 
         // When
         List<PopularProductResponse> result = productService.getTop5PopularProducts();
@@ -180,21 +329,19 @@ class ProductServiceTest {
     @Test
     @DisplayName("같은 상품의 여러 주문이 합계되는지 확인")
     void getTop5PopularProducts_SameProductMultipleOrders_SumsCorrectly() {
-        // Given - 같은 상품의 여러 주문
-        List<OrderItem> orderItems = Arrays.asList(
-                createOrderItem(1L, 1L, 3), // 상품1: 첫 번째 주문 3개
-                createOrderItem(2L, 1L, 2), // 상품1: 두 번째 주문 2개
-                createOrderItem(3L, 1L, 4), // 상품1: 세 번째 주문 4개
-                createOrderItem(4L, 2L, 5)  // 상품2: 5개
+        // Given - 같은 상품의 여러 주문 (스트리밍 집계 경로)
+        List<ProductSales> rows = Arrays.asList(
+                new ProductSales(1L, 3), // 상품1: 첫 번째 주문 3개
+                new ProductSales(1L, 2), // 상품1: 두 번째 주문 2개
+                new ProductSales(1L, 4), // 상품1: 세 번째 주문 4개
+                new ProductSales(2L, 5)  // 상품2: 5개
         );
 
         Product product1 = createProduct(1L, "iPhone 15", 1000000, 10);
         Product product2 = createProduct(2L, "Galaxy S24", 900000, 15);
 
-        given(orderItemRepository.findByOrderDateBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .willReturn(orderItems);
-        given(productRepository.findById(1L)).willReturn(Optional.of(product1));
-        given(productRepository.findById(2L)).willReturn(Optional.of(product2));
+        givenAggregationFailsAndStreams(rows);
+        given(productRepository.findAllById(any())).willReturn(List.of(product1, product2));
 
         // When
         List<PopularProductResponse> result = productService.getTop5PopularProducts();
@@ -219,8 +366,95 @@ class ProductServiceTest {
         return product;
     }
 
-    private OrderItem createOrderItem(Long orderItemId, Long productId, int quantity) {
-        OrderItem item = new OrderItem(productId, quantity, 1000);
-        return item;
+    private void givenAggregationFailsAndStreams(List<ProductSales> rows) {
+        given(productSalesDailyRepository.findTopSelling(any(LocalDate.class), any(LocalDate.class), eq(5)))
+                .willThrow(new QueryTimeoutException("집계 조회 타임아웃"));
+        given(orderItemRepository.findTopSellingProducts(any(LocalDateTime.class), any(LocalDateTime.class), eq(5)))
+                .willThrow(new QueryTimeoutException("집계 쿼리 타임아웃"));
+        given(orderItemRepository.streamSalesBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn(rows.stream());
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("조건부 일괄 차감 - 상품 ID 오름차순으로 한 번에 실행")
+    void decreaseStocksIfAvailable_ExecutesInProductIdOrder() {
+        // Given
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(3L, 1);
+        quantities.put(1L, 2);
+        given(productRepository.decreaseStocksIfAvailable(anyMap())).willReturn(new int[]{1, 1});
+
+        // When
+        productService.decreaseStocksIfAvailable(quantities);
+
+        // Then
+        ArgumentCaptor<Map<Long, Integer>> executed = ArgumentCaptor.forClass(Map.class);
+        verify(productRepository).decreaseStocksIfAvailable(executed.capture());
+        assertThat(executed.getValue().keySet()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("조건부 일괄 차감 - 한 상품이라도 조건에 걸리면 해당 상품으로 재고 부족 예외")
+    void decreaseStocksIfAvailable_OneLineInsufficient_Throws() {
+        // Given
+        given(productRepository.decreaseStocksIfAvailable(anyMap())).willReturn(new int[]{1, 0});
+
+        // When & Then
+        assertThatThrownBy(() -> productService.decreaseStocksIfAvailable(Map.of(1L, 2, 2L, 5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("상품ID 2 (요청 수량: 5)");
+    }
+
+    @Test
+    @DisplayName("조건부 일괄 차감 - 드라이버가 영향 행 수를 주지 않으면 성공으로 간주하지 않음")
+    void decreaseStocksIfAvailable_NoInfo_Throws() {
+        // Given
+        given(productRepository.decreaseStocksIfAvailable(anyMap())).willReturn(new int[]{Statement.SUCCESS_NO_INFO});
+
+        // When & Then
+        assertThatThrownBy(() -> productService.decreaseStocksIfAvailable(Map.of(1L, 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고 차감 결과를 확인할 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("펜싱 재고 증감 - 더 최신 토큰이 이미 쓴 경우 이전 락 보유자의 쓰기 거부")
+    void increaseStockWithDistributedLock_StaleFencingToken_Rejected() {
+        // Given - 토큰 5로 진입했지만 토큰 7을 받은 다음 보유자가 이미 재고를 씀
+        given(productRepository.adjustStockFenced(1L, 3, 5L)).willReturn(0);
+        given(productRepository.findStockVersion(1L)).willReturn(Optional.of(7L));
+
+        // When & Then
+        Map<String, Long> previous = FencingTokens.bind(Map.of("STOCK:1", 5L));
+        try {
+            assertThatThrownBy(() -> productService.increaseStockWithDistributedLock(1L, 3))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("점유 시간이 만료");
+        } finally {
+            FencingTokens.unbind(previous);
+        }
+    }
+
+    @Test
+    @DisplayName("펜싱 재고 차감 - 조회 이후 다른 경로로 재고가 줄어 음수가 되면 재고 부족으로 거부")
+    void decreaseStockWithDistributedLock_StockChangedConcurrently_Rejected() {
+        // Given - 조회 시 재고 5, 조건부 차감이 먼저 반영되어 상대값 UPDATE가 음수 조건에 걸림
+        Product product = createProduct(1L, "상품", 1000, 5);
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        given(productRepository.adjustStockFenced(1L, -4, 5L)).willReturn(0);
+        given(productRepository.findStockVersion(1L)).willReturn(Optional.of(5L));
+
+        // When & Then
+        Map<String, Long> previous = FencingTokens.bind(Map.of("STOCK:1", 5L));
+        try {
+            assertThatThrownBy(() -> productService.decreaseStockWithDistributedLock(1L, 4))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("재고가 부족합니다");
+        } finally {
+            FencingTokens.unbind(previous);
+        }
+        verify(productRepository, never()).save(any());
     }
 }
@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class ProductStockFencingIntegrationTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("펜싱 재고 쓰기 - 다음 보유자가 쓴 뒤 도착한 이전 보유자의 쓰기는 거부")
+    void adjustStockFenced_StaleHolder_Rejected() {
+        // Given - 상품1 재고 100, 토큰 7(다음 보유자)이 먼저 1개 차감
+        assertThat(adjustFenced(1L, -1, 7L)).isEqualTo(1);
+
+        // When - 점유 시간이 만료된 토큰 5(이전 보유자)가 늦게 도착
+        int updated = adjustFenced(1L, -1, 5L);
+
+        // Then
+        assertThat(updated).isZero();
+        assertThat(stockOf(1L)).isEqualTo(99);
+        assertThat(productRepository.findStockVersion(1L)).contains(7L);
+    }
+
+    @Test
+    @DisplayName("펜싱 재고 쓰기 - 펜싱을 쓰지 않는 보상 복구(stock + ?)를 덮어쓰지 않음")
+    void adjustStockFenced_DoesNotOverwriteNonFencedWriters() {
+        // Given - 펜싱 보유자가 재고를 읽은 뒤 보상 복구가 먼저 반영됨
+        transactionTemplate.executeWithoutResult(status -> productRepository.increaseStocks(Map.of(1L, 10)));
+
+        // When
+        assertThat(adjustFenced(1L, -3, 1L)).isEqualTo(1);
+
+        // Then - 100 + 10 - 3
+        assertThat(stockOf(1L)).isEqualTo(107);
+    }
+
+    @Test
+    @DisplayName("펜싱 재고 쓰기 - 재고가 음수가 되는 차감은 반영하지 않음")
+    void adjustStockFenced_InsufficientStock_Rejected() {
+        // When - 상품5 재고 10
+        int updated = adjustFenced(5L, -11, 1L);
+
+        // Then
+        assertThat(updated).isZero();
+        assertThat(stockOf(5L)).isEqualTo(10);
+    }
+
+    private int adjustFenced(Long productId, int delta, long token) {
+        return transactionTemplate.execute(status -> productRepository.adjustStockFenced(productId, delta, token));
+    }
+
+    private int stockOf(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStock();
+    }
+}
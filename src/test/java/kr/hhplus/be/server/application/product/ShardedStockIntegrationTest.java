@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.application.stock.ShardedStockService;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "order.stock-mode=SHARDED")
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class ShardedStockIntegrationTest {
+
+    @Autowired
+    private ShardedStockService shardedStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("버킷이 바닥나 나눠 차감으로 넘어가는 동시 차감도 교착 없이 정확히 재고만큼만 성공")
+    void decrease_ConcurrentEscalation_NoDeadlock() throws InterruptedException {
+        // Given - 상품1 재고 100을 4개 버킷(25개씩)으로 분할, 3개씩 40건 요청 → 33건 성공 (99개)
+        shardedStockService.reshard(1L, 4);
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        int threadCount = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger success = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    readCommitted.executeWithoutResult(status -> shardedStockService.decrease(1L, 3));
+                    success.incrementAndGet();
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then - 실패는 모두 재고 부족이어야 하고 교착(데드락) 롤백은 없어야 함
+        assertThat(success.get()).isEqualTo(33);
+        assertThat(failures).hasSize(7)
+                .allSatisfy(e -> assertThat(e)
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("재고가 부족한 상품입니다"));
+        Product product = productRepository.findById(1L).orElseThrow();
+        assertThat(product.getStock()).isZero();
+        assertThat(shardedStockService.getAvailableStock(product)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("분할 해제하면 버킷 재고가 상품 행으로 합쳐짐")
+    void reshard_ToZero_MergesBucketStock() {
+        // Given
+        shardedStockService.reshard(5L, 3);
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        readCommitted.executeWithoutResult(status -> shardedStockService.decrease(5L, 4));
+
+        // When
+        shardedStockService.reshard(5L, 0);
+
+        // Then - 상품5 재고 10 - 4, 버킷 재고 없음
+        Product product = productRepository.findById(5L).orElseThrow();
+        assertThat(product.getStock()).isEqualTo(6);
+        assertThat(shardedStockService.getAvailableStock(product)).isEqualTo(6);
+        assertThat(product.getStockBucketCount()).isZero();
+    }
+}
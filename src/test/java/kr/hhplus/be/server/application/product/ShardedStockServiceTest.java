@@ -0,0 +1,191 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.common.config.OrderProperties;
+import kr.hhplus.be.server.product.application.stock.ShardedStockService;
+import kr.hhplus.be.server.product.application.stock.StockDeductionMode;
+import kr.hhplus.be.server.product.domain.Product;
+import kr.hhplus.be.server.product.domain.ProductStockBucket;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.ProductStockBucketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedStockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockBucketRepository productStockBucketRepository;
+
+    private OrderProperties orderProperties;
+
+    private ShardedStockService shardedStockService;
+
+    @BeforeEach
+    void setUp() {
+        orderProperties = new OrderProperties();
+        orderProperties.setStockMode(StockDeductionMode.SHARDED);
+        shardedStockService = new ShardedStockService(productRepository, productStockBucketRepository, orderProperties);
+        // @Transactional(isolation = READ_COMMITTED)로 시작된 트랜잭션과 같은 상태
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(
+                TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+    }
+
+    @Test
+    @DisplayName("SHARDED 모드가 아니면 재고 버킷 분할 거부")
+    void reshard_NotShardedMode_Rejected() {
+        // Given
+        orderProperties.setStockMode(StockDeductionMode.CONDITIONAL_UPDATE);
+
+        // When & Then
+        assertThatThrownBy(() -> shardedStockService.reshard(1L, 4))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SHARDED");
+        verify(productRepository, never()).findByIdForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("SHARDED 모드가 아니어도 분할 해제는 허용하여 버킷 재고를 상품 행으로 되돌림")
+    void reshard_UnshardOutsideShardedMode_MergesBuckets() {
+        // Given
+        orderProperties.setStockMode(StockDeductionMode.CONDITIONAL_UPDATE);
+        Product product = createProduct(1L, 0, 2);
+        given(productRepository.findByIdForUpdate(1L)).willReturn(Optional.of(product));
+        given(productStockBucketRepository.findAllByProductIdForUpdate(1L)).willReturn(List.of(
+                new ProductStockBucket(1L, 0, 30), new ProductStockBucket(1L, 1, 12)));
+
+        // When
+        shardedStockService.reshard(1L, 0);
+
+        // Then
+        assertThat(product.getStock()).isEqualTo(42);
+        assertThat(product.getStockBucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("후보 버킷 차감에 성공하면 전체 버킷을 잠그지 않음")
+    void decrease_CandidateSucceeds_DoesNotLockAllBuckets() {
+        // Given
+        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 0, 4)));
+        given(productStockBucketRepository.findBucketNosWithStock(1L, 3)).willReturn(List.of(2));
+        given(productStockBucketRepository.decreaseIfAvailable(1L, 2, 3)).willReturn(1);
+
+        // When
+        shardedStockService.decrease(1L, 3);
+
+        // Then
+        verify(productStockBucketRepository, never()).findAllByProductIdForUpdate(anyLong());
+    }
+
+    @Test
+    @DisplayName("후보 버킷이 모두 실패하면 조건을 만족하지 않은 버킷은 건드리지 않고 전체 버킷을 순서대로 잠가 나눠 차감")
+    void decrease_CandidatesFail_LocksAllBucketsInOrder() {
+        // Given
+        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 0, 3)));
+        given(productStockBucketRepository.findBucketNosWithStock(1L, 5)).willReturn(List.of(1));
+        given(productStockBucketRepository.decreaseIfAvailable(1L, 1, 5)).willReturn(0);
+        ProductStockBucket bucket0 = new ProductStockBucket(1L, 0, 2);
+        ProductStockBucket bucket1 = new ProductStockBucket(1L, 1, 4);
+        ProductStockBucket bucket2 = new ProductStockBucket(1L, 2, 0);
+        given(productStockBucketRepository.findAllByProductIdForUpdate(1L))
+                .willReturn(List.of(bucket0, bucket1, bucket2));
+
+        // When
+        shardedStockService.decrease(1L, 5);
+
+        // Then - 후보가 아닌 버킷에는 조건부 차감(행 락)을 시도하지 않음
+        InOrder inOrder = inOrder(productStockBucketRepository);
+        inOrder.verify(productStockBucketRepository).decreaseIfAvailable(1L, 1, 5);
+        inOrder.verify(productStockBucketRepository).findAllByProductIdForUpdate(1L);
+        verify(productStockBucketRepository, times(1)).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+        assertThat(bucket0.getStock()).isZero();
+        assertThat(bucket1.getStock()).isEqualTo(1);
+        assertThat(bucket2.getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 버킷 합이 부족하면 재고 부족 예외")
+    void decrease_TotalInsufficient_Throws() {
+        // Given
+        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 0, 2)));
+        given(productStockBucketRepository.findBucketNosWithStock(1L, 5)).willReturn(List.of());
+        given(productStockBucketRepository.findAllByProductIdForUpdate(1L)).willReturn(List.of(
+                new ProductStockBucket(1L, 0, 2), new ProductStockBucket(1L, 1, 2)));
+
+        // When & Then
+        assertThatThrownBy(() -> shardedStockService.decrease(1L, 5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족한 상품입니다");
+        verify(productStockBucketRepository, never()).decreaseIfAvailable(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("READ COMMITTED가 아닌 트랜잭션에서 분할 상품 차감 거부")
+    void decrease_NotReadCommitted_Rejected() {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(
+                TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 0, 4)));
+
+        // When & Then
+        assertThatThrownBy(() -> shardedStockService.decrease(1L, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("READ COMMITTED");
+        verifyNoInteractions(productStockBucketRepository);
+    }
+
+    @Test
+    @DisplayName("분할된 상품의 판매 가능 재고는 상품 행 재고 + 버킷 재고 합계")
+    void getAvailableStock_Sharded_AddsBucketSum() {
+        // Given
+        given(productStockBucketRepository.sumStock(1L)).willReturn(42);
+
+        // When
+        int available = shardedStockService.getAvailableStock(createProduct(1L, 3, 4));
+
+        // Then
+        assertThat(available).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("분할하지 않은 상품은 버킷 합계를 조회하지 않고 상품 행 재고만 사용")
+    void getAvailableStock_NotSharded_UsesRowStock() {
+        // When
+        int available = shardedStockService.getAvailableStock(createProduct(1L, 7, 0));
+
+        // Then
+        assertThat(available).isEqualTo(7);
+        verify(productStockBucketRepository, never()).sumStock(anyLong());
+    }
+
+    private Product createProduct(Long productId, int stock, int bucketCount) {
+        Product product = new Product();
+        product.setProductId(productId);
+        product.setProductName("상품" + productId);
+        product.setPrice(1000);
+        product.setStock(stock);
+        product.setStockBucketCount(bucketCount);
+        return product;
+    }
+}
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.stock.StockCombiner;
+import kr.hhplus.be.server.product.application.stock.StockCompensationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockCombinerTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private StockCompensationService stockCompensationService;
+
+    @Mock
+    private TaskScheduler scheduler;
+
+    private StockCombiner stockCombiner;
+
+    @BeforeEach
+    void setUp() {
+        stockCombiner = new StockCombiner(productService, stockCompensationService, scheduler, 1, 200, 50);
+    }
+
+    @Test
+    @DisplayName("같은 상품 요청을 한 묶음으로 도착 순서대로 반영")
+    void drain_AppliesQueuedRequestsAsOneBatch() {
+        // Given
+        given(productService.decreaseStockInArrivalOrder(1L, List.of(2, 5))).willReturn(List.of(true, false));
+        StockCombiner.Request first = stockCombiner.submit(1L, 2);
+        StockCombiner.Request second = stockCombiner.submit(1L, 5);
+
+        // When
+        scheduledDrain().run();
+
+        // Then
+        assertThatCode(() -> stockCombiner.await(first)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> stockCombiner.await(second))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족한 상품입니다");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과된 요청은 이후 묶음 반영에서 제외")
+    void await_TimeoutWhileQueued_RequestIsNotApplied() {
+        // Given
+        StockCombiner.Request request = stockCombiner.submit(1L, 3);
+
+        // When
+        assertThatThrownBy(() -> stockCombiner.await(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간이 초과");
+        scheduledDrain().run();
+
+        // Then
+        verify(productService, never()).decreaseStockInArrivalOrder(anyLong(), anyList());
+        verify(stockCompensationService, never()).compensateOrDefer(anyString(), anyMap(), anyString());
+    }
+
+    @Test
+    @DisplayName("반영 중에 대기 시간이 초과되고 늦게 성공하면 차감분을 보상")
+    void await_TimeoutWhileApplying_CompensatesLateSuccess() throws Exception {
+        // Given
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(productService.decreaseStockInArrivalOrder(1L, List.of(3))).willAnswer(invocation -> {
+            applying.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return List.of(true);
+        });
+        StockCombiner.Request request = stockCombiner.submit(1L, 3);
+        Thread drainer = new Thread(scheduledDrain());
+        drainer.start();
+        assertThat(applying.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        assertThatThrownBy(() -> stockCombiner.await(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("대기 시간이 초과");
+        release.countDown();
+        drainer.join();
+
+        // Then
+        verify(stockCompensationService).compensateOrDefer(startsWith("COMBINER_TIMEOUT:"), eq(Map.of(1L, 3)),
+                eq("COMBINER_TIMEOUT"));
+    }
+
+    private Runnable scheduledDrain() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(task.capture(), any(Instant.class));
+        return task.getValue();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.application.stock.StockCompensationService;
+import kr.hhplus.be.server.product.domain.event.StockCompensationEvent;
+import kr.hhplus.be.server.product.domain.repository.ProductRepository;
+import kr.hhplus.be.server.product.domain.repository.StockCompensationRepository;
+import kr.hhplus.be.server.product.infrastructure.kafka.StockCompensationProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockCompensationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockCompensationRepository stockCompensationRepository;
+
+    @Mock
+    private StockCompensationProducer stockCompensationProducer;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StockCompensationService stockCompensationService;
+
+    @BeforeEach
+    void setUp() {
+        stockCompensationService = new StockCompensationService(
+                productRepository, stockCompensationRepository, stockCompensationProducer, transactionManager);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("compensateOrDefer 내부 호출도 새 트랜잭션(REQUIRES_NEW)에서 보상 키 등록과 재고 복구를 커밋")
+    void compensateOrDefer_RunsInNewTransaction() {
+        // Given
+        given(stockCompensationRepository.register("key-1", "TEST", 3)).willReturn(true);
+
+        // When
+        stockCompensationService.compensateOrDefer("key-1", Map.of(2L, 1, 1L, 2), "TEST");
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        verify(productRepository).increaseStocks(Map.of(1L, 2, 2L, 1));
+        verify(transactionManager).commit(any());
+        verify(stockCompensationProducer, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("이미 처리된 보상 키면 재고를 다시 복구하지 않음")
+    void compensate_DuplicateKey_Skips() {
+        // Given
+        given(stockCompensationRepository.register("key-1", "TEST", 1)).willReturn(false);
+
+        // When
+        boolean applied = stockCompensationService.compensate("key-1", Map.of(1L, 1), "TEST");
+
+        // Then
+        assertThat(applied).isFalse();
+        verify(productRepository, never()).increaseStocks(any());
+    }
+
+    @Test
+    @DisplayName("보상 트랜잭션이 실패하면 롤백 후 Kafka로 넘겨 재시도")
+    void compensateOrDefer_Failure_PublishesEvent() {
+        // Given
+        given(stockCompensationRepository.register("key-1", "TEST", 1)).willReturn(true);
+        willThrow(new IllegalStateException("DB 장애")).given(productRepository).increaseStocks(any());
+
+        // When
+        stockCompensationService.compensateOrDefer("key-1", Map.of(1L, 1), "TEST");
+
+        // Then
+        verify(transactionManager).rollback(any());
+        ArgumentCaptor<StockCompensationEvent> event = ArgumentCaptor.forClass(StockCompensationEvent.class);
+        verify(stockCompensationProducer).publish(event.capture());
+        assertThat(event.getValue().getCompensationKey()).isEqualTo("key-1");
+    }
+}
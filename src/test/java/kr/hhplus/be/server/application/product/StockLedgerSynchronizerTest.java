@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.application.product;
+
+import kr.hhplus.be.server.product.application.ProductService;
+import kr.hhplus.be.server.product.application.stock.StockLedgerSynchronizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockLedgerSynchronizerTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock leaderLock;
+
+    private StockLedgerSynchronizer stockLedgerSynchronizer;
+
+    @BeforeEach
+    void setUp() {
+        stockLedgerSynchronizer = new StockLedgerSynchronizer(stringRedisTemplate, productService, redissonClient);
+        given(redissonClient.getLock("stock:ledger:sync-leader")).willReturn(leaderLock);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 리더 락을 잡고 있으면 증감분을 옮기지도 DB에 쓰지도 않음")
+    void synchronize_NotLeader_Skips() {
+        // Given
+        given(leaderLock.tryLock()).willReturn(false);
+
+        // When
+        stockLedgerSynchronizer.synchronize();
+
+        // Then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(productService, never()).applyLedgerDeltas(anyString(), anyString(), anyMap());
+        verify(leaderLock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("리더 락을 잡은 노드만 증감분을 DB에 상대값으로 반영하고 묶음 정리 후 락 반납")
+    void synchronize_Leader_AppliesDeltasAndReleases() {
+        // Given - 상품1은 3개 차감, 상품2는 차감 후 전량 복구(증감 0)
+        givenBatch(List.of("1", "-3", "2", "0", "batch", "b-1"));
+        given(productService.applyLedgerDeltas(anyString(), anyString(), anyMap())).willReturn(true);
+
+        // When
+        stockLedgerSynchronizer.synchronize();
+
+        // Then
+        verify(productService).applyLedgerDeltas("redis-stock-ledger", "b-1", Map.of(1L, -3));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("{stock:ledger}:syncing")),
+                eq("b-1"));
+        verify(leaderLock).unlock();
+    }
+
+    @Test
+    @DisplayName("이미 반영한 묶음이 다시 전달되면 DB에는 한 번만 더해지고 묶음은 정리")
+    void synchronize_AlreadyAppliedBatch_CompletesWithoutReapplying() {
+        // Given - 이전 주기에 DB 반영 후 syncing 정리에 실패한 묶음
+        givenBatch(List.of("1", "-3", "batch", "b-1"));
+        given(productService.applyLedgerDeltas(anyString(), anyString(), anyMap())).willReturn(false);
+
+        // When
+        stockLedgerSynchronizer.synchronize();
+
+        // Then
+        verify(productService).applyLedgerDeltas("redis-stock-ledger", "b-1", Map.of(1L, -3));
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("{stock:ledger}:syncing")),
+                eq("b-1"));
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 묶음을 남겨 두고 락은 반납")
+    void synchronize_ApplyFails_KeepsBatchAndReleases() {
+        // Given
+        givenBatch(List.of("1", "-3", "batch", "b-1"));
+        willThrow(new IllegalStateException("DB 장애")).given(productService)
+                .applyLedgerDeltas(anyString(), anyString(), anyMap());
+
+        // When
+        stockLedgerSynchronizer.synchronize();
+
+        // Then
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class),
+                eq(List.of("{stock:ledger}:syncing")), any(Object[].class));
+        verify(leaderLock).unlock();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenBatch(List<String> entries) {
+        given(leaderLock.tryLock()).willReturn(true);
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("{stock:ledger}:dirty", "{stock:ledger}:syncing")), anyString()))
+                .willReturn(entries);
+    }
+}
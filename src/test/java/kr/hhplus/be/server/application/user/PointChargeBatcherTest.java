@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.application.user;
+
+import kr.hhplus.be.server.common.config.PointLedgerProperties;
+import kr.hhplus.be.server.user.application.PointBalanceCache;
+import kr.hhplus.be.server.user.application.PointChargeBatcher;
+import kr.hhplus.be.server.user.domain.PointTransaction;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointChargeBatcherTest {
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TaskScheduler scheduler;
+
+    private PointChargeBatcher pointChargeBatcher;
+
+    @BeforeEach
+    void setUp() {
+        PointLedgerProperties properties = new PointLedgerProperties();
+        properties.setChargeBatchSize(2);
+        pointChargeBatcher = new PointChargeBatcher(pointLedgerRepository, pointBalanceCache,
+                new TransactionTemplate(transactionManager), scheduler, properties);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("window 동안 모인 충전 요청을 최대 묶음 크기 단위의 batch INSERT로 기록")
+    void drain_FlushesQueuedChargesInBatches() {
+        // Given
+        CompletableFuture<Void> first = pointChargeBatcher.submit(PointTransaction.charge(1L, 1000L));
+        CompletableFuture<Void> second = pointChargeBatcher.submit(PointTransaction.charge(2L, 2000L));
+        CompletableFuture<Void> third = pointChargeBatcher.submit(PointTransaction.charge(1L, 3000L));
+
+        // When
+        scheduledDrain().run();
+
+        // Then - 묶음 크기 2: [1번, 2번], [3번]
+        ArgumentCaptor<List<PointTransaction>> batches = ArgumentCaptor.forClass(List.class);
+        verify(pointLedgerRepository, times(2)).appendAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        verify(pointLedgerRepository).ensureSnapshots(Set.of(1L, 2L));
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(List.of(first, second, third)).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("window 안의 요청은 처리 예약을 한 번만 등록")
+    void submit_SchedulesDrainOncePerWindow() {
+        // When
+        pointChargeBatcher.submit(PointTransaction.charge(1L, 1000L));
+        pointChargeBatcher.submit(PointTransaction.charge(1L, 1000L));
+
+        // Then
+        verify(scheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("묶음 기록이 실패하면 롤백하고 묶음의 모든 요청에 같은 예외를 전달")
+    void drain_FlushFailure_CompletesAllExceptionally() {
+        // Given
+        willThrow(new IllegalStateException("DB 장애")).given(pointLedgerRepository).appendAll(any());
+        CompletableFuture<Void> first = pointChargeBatcher.submit(PointTransaction.charge(1L, 1000L));
+        CompletableFuture<Void> second = pointChargeBatcher.submit(PointTransaction.charge(2L, 2000L));
+
+        // When
+        scheduledDrain().run();
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(pointBalanceCache, never()).evictAfterCommit(any());
+        assertThatThrownBy(first::join).hasRootCauseMessage("DB 장애");
+        assertThatThrownBy(second::join).hasRootCauseMessage("DB 장애");
+    }
+
+    @Test
+    @DisplayName("충전 호출은 묶음 커밋까지 기다렸다가 원래 예외를 그대로 전달")
+    void charge_PropagatesOriginalException() {
+        // Given - 예약되는 즉시 같은 스레드에서 처리
+        willAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).given(scheduler).schedule(any(Runnable.class), any(Instant.class));
+        willThrow(new IllegalArgumentException("잘못된 사용자")).given(pointLedgerRepository).ensureSnapshots(any());
+
+        // When & Then
+        assertThatThrownBy(() -> pointChargeBatcher.charge(PointTransaction.charge(1L, 1000L)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 사용자");
+    }
+
+    private Runnable scheduledDrain() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(task.capture(), any(Instant.class));
+        return task.getValue();
+    }
+}
@@ -0,0 +1,245 @@
+package kr.hhplus.be.server.application.user;
+
+import kr.hhplus.be.server.user.application.PointLedgerService;
+import kr.hhplus.be.server.user.application.UserService;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlGroup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@Testcontainers
+@SqlGroup(@Sql(scripts = {"/sql/cleanup-test-data.sql", "/sql/order-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD))
+class PointLedgerIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("원장 잔액 - 초기 잔액 + 충전 - 사용이 압축 전후 모두 같음")
+    void balance_SameBeforeAndAfterCompaction() {
+        // Given - 사용자999 초기 잔액 1000원
+        userService.charge(999L, 5000L);
+        userService.charge(999L, 2000L);
+        userService.usePoint(999L, 3000L);
+        long beforeCompaction = pointLedgerRepository.findBalance(999L).orElseThrow();
+
+        // When
+        long lastId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(point_transaction_id), 0) FROM point_transaction", Long.class);
+        transactionTemplate.execute(status -> pointLedgerRepository.compactSnapshots(0L, lastId));
+        // 이미 압축한 구간을 다시 압축해도 중복 합산되지 않음
+        transactionTemplate.execute(status -> pointLedgerRepository.compactSnapshots(0L, lastId));
+
+        // Then
+        assertThat(beforeCompaction).isEqualTo(1000L + 5000L + 2000L - 3000L);
+        assertThat(pointLedgerRepository.findBalance(999L)).hasValue(5000L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_transaction_id FROM point_snapshot WHERE user_id = 999", Long.class))
+                .isEqualTo(lastId);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 동시에 사용해도 잔액을 넘겨 쓰지 않음")
+    void usePoint_Concurrent_NeverOverdraws() throws Exception {
+        // Given - 사용자999 잔액 1000원, 200원씩 10건
+        int requestCount = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientCount = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requestCount];
+        for (int i = 0; i < requestCount; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    startLatch.await();
+                    userService.usePoint(999L, 200L);
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    if (e.getMessage().startsWith("포인트가 부족합니다")) {
+                        insufficientCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, executor);
+        }
+
+        // When
+        startLatch.countDown();
+        CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(insufficientCount.get()).isEqualTo(5);
+        assertThat(pointLedgerRepository.findBalance(999L)).hasValue(0L);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 트랜잭션이 스냅샷 락을 잡고 있어도 같은 사용자의 충전은 기다리지 않음")
+    void charge_NotBlockedByOpenUseTransaction() throws Exception {
+        // Given - 스냅샷이 이미 있는 사용자가 포인트 사용 후 커밋하지 않은 트랜잭션
+        createSnapshot(999L);
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        CountDownLatch used = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> openUse = CompletableFuture.runAsync(() -> readCommitted.executeWithoutResult(status -> {
+            pointLedgerService.use(999L, 500L);
+            used.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(used.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When - 충전 대기 한도(5초)보다 짧게 끝나야 함
+        long startedAt = System.nanoTime();
+        try {
+            userService.charge(999L, 3000L);
+        } finally {
+            release.countDown();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        openUse.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(elapsedMillis).isLessThan(1000L);
+        assertThat(pointLedgerRepository.findBalance(999L)).hasValue(1000L - 500L + 3000L);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 먼저 커밋된 사용 기록을 반영해 잔액을 검증 (락 대기 중 커밋된 사용 포함)")
+    void usePoint_SeesUseCommittedWhileWaitingForLock() throws Exception {
+        // Given - 첫 번째 트랜잭션이 800원 사용 후 커밋 대기
+        createSnapshot(999L);
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        CountDownLatch used = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> readCommitted.executeWithoutResult(status -> {
+            pointLedgerService.use(999L, 800L);
+            used.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(used.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When - 두 번째 트랜잭션은 락을 얻기 전에 읽기를 한 번 수행한 뒤 스냅샷 락을 기다림
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> readCommitted.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM point_transaction", Long.class);
+            pointLedgerService.use(999L, 800L);
+        }));
+        Thread.sleep(200);
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("포인트가 부족합니다. (현재 잔액: 200원, 필요 금액: 800원)");
+        assertThat(pointLedgerRepository.findBalance(999L)).hasValue(200L);
+    }
+
+    @Test
+    @DisplayName("압축 - 더 큰 ID의 충전이 먼저 커밋되어도 늦게 커밋된 사용 기록을 스냅샷에 반영")
+    void compact_IncludesUseCommittedLate() throws Exception {
+        // Given - 사용 기록(작은 ID)이 커밋되기 전에 충전 기록(큰 ID)이 커밋됨
+        createSnapshot(999L);
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        CountDownLatch used = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> lateUse = CompletableFuture.runAsync(() -> readCommitted.executeWithoutResult(status -> {
+            pointLedgerService.use(999L, 500L);
+            used.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(used.await(10, TimeUnit.SECONDS)).isTrue();
+        userService.charge(999L, 3000L);
+        long lastId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(point_transaction_id), 0) FROM point_transaction", Long.class);
+
+        // When - 압축은 사용 트랜잭션이 잡은 스냅샷 락을 기다린 뒤 합을 읽음
+        CompletableFuture<Integer> compaction = CompletableFuture.supplyAsync(() ->
+                readCommitted.execute(status -> pointLedgerRepository.compactSnapshots(0L, lastId)));
+        Thread.sleep(200);
+        assertThat(compaction).isNotDone();
+        release.countDown();
+        lateUse.get(10, TimeUnit.SECONDS);
+        compaction.get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT balance FROM point_snapshot WHERE user_id = 999", Long.class))
+                .isEqualTo(1000L - 500L + 3000L);
+        assertThat(pointLedgerRepository.findBalance(999L)).hasValue(1000L - 500L + 3000L);
+    }
+
+    @Test
+    @DisplayName("압축 시작 위치 - 압축할 거래가 남은 스냅샷 중 가장 작은 last_transaction_id")
+    void findCompactionStart_SlowestPendingSnapshot() {
+        // Given - 사용자1은 압축 완료, 사용자999는 압축 후 새 거래 발생
+        userService.charge(1L, 1000L);
+        userService.charge(999L, 1000L);
+        long compactedId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(point_transaction_id), 0) FROM point_transaction", Long.class);
+        transactionTemplate.execute(status -> pointLedgerRepository.compactSnapshots(0L, compactedId));
+        assertThat(pointLedgerRepository.findCompactionStart()).isEqualTo(compactedId);
+
+        // When
+        userService.charge(999L, 1000L);
+
+        // Then
+        assertThat(pointLedgerRepository.findCompactionStart()).isEqualTo(compactedId);
+        assertThat(pointLedgerRepository.findTransactionIds(compactedId, Long.MAX_VALUE)).hasSize(1);
+    }
+
+    private void createSnapshot(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> pointLedgerRepository.ensureSnapshots(List.of(userId)));
+    }
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.application.user;
+
+import kr.hhplus.be.server.user.application.PointBalanceCache;
+import kr.hhplus.be.server.user.application.PointChargeBatcher;
+import kr.hhplus.be.server.user.application.PointLedgerService;
+import kr.hhplus.be.server.user.domain.PointTransaction;
+import kr.hhplus.be.server.user.domain.PointTransactionType;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerServiceTest {
+
+    @InjectMocks
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private PointChargeBatcher pointChargeBatcher;
+
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
+    @BeforeEach
+    void setUp() {
+        // @Transactional(isolation = READ_COMMITTED)로 시작된 트랜잭션과 같은 상태
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(
+                TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 스냅샷 + 이후 거래 합이 충분하면 음수 금액으로 사용 기록")
+    void use_SufficientBalance_AppendsNegativeTransaction() {
+        // Given
+        given(pointLedgerRepository.lockBalance(1L)).willReturn(OptionalLong.of(5000L));
+
+        // When
+        pointLedgerService.use(1L, 5000L);
+
+        // Then
+        ArgumentCaptor<List<PointTransaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointLedgerRepository).appendAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(transaction -> {
+            assertThat(transaction.getAmount()).isEqualTo(-5000L);
+            assertThat(transaction.getType()).isEqualTo(PointTransactionType.USE);
+        });
+        verify(pointBalanceCache).evictAfterCommit(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 잔액이 부족하면 기록하지 않음")
+    void use_InsufficientBalance_ThrowsException() {
+        // Given
+        given(pointLedgerRepository.lockBalance(1L)).willReturn(OptionalLong.of(4999L));
+
+        // When & Then
+        assertThatThrownBy(() -> pointLedgerService.use(1L, 5000L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("포인트가 부족합니다. (현재 잔액: 4999원, 필요 금액: 5000원)");
+        verify(pointLedgerRepository, never()).appendAll(any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 스냅샷이 없으면 생성 후 다시 잠가서 잔액 확인")
+    void use_NoSnapshot_CreatesSnapshotThenLocks() {
+        // Given
+        given(pointLedgerRepository.lockBalance(1L))
+                .willReturn(OptionalLong.empty())
+                .willReturn(OptionalLong.of(10000L));
+
+        // When
+        pointLedgerService.use(1L, 3000L);
+
+        // Then
+        verify(pointLedgerRepository).ensureSnapshots(List.of(1L));
+        verify(pointLedgerRepository, times(2)).lockBalance(1L);
+        verify(pointLedgerRepository).appendAll(any());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - 사용자가 없으면 예외")
+    void use_UserNotFound_ThrowsException() {
+        // Given
+        given(pointLedgerRepository.lockBalance(1L)).willReturn(OptionalLong.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> pointLedgerService.use(1L, 3000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("사용자를 찾을 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("포인트 사용 - READ COMMITTED가 아닌 트랜잭션에서는 잔액을 읽기 전에 거부")
+    void use_NotReadCommitted_Rejected() {
+        // Given - 기본 격리 수준(REPEATABLE READ)으로 이미 시작된 트랜잭션에 참여
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+
+        // When & Then
+        assertThatThrownBy(() -> pointLedgerService.use(1L, 3000L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("READ COMMITTED");
+        verifyNoInteractions(pointLedgerRepository);
+    }
+}
@@ -0,0 +1,174 @@
+package kr.hhplus.be.server.application.user;
+
+import kr.hhplus.be.server.common.config.PointLedgerProperties;
+import kr.hhplus.be.server.user.application.PointSnapshotCompactor;
+import kr.hhplus.be.server.user.domain.repository.PointLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointSnapshotCompactorTest {
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PointSnapshotCompactor pointSnapshotCompactor;
+
+    @BeforeEach
+    void setUp() {
+        PointLedgerProperties properties = new PointLedgerProperties();
+        properties.setCompactionBatchSize(5000);
+        properties.setCompactionLag(Duration.ofSeconds(10));
+        pointSnapshotCompactor = new PointSnapshotCompactor(pointLedgerRepository, properties,
+                new TransactionTemplate(transactionManager));
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // 기본: 구간 안의 모든 거래가 커밋됨
+        lenient().when(pointLedgerRepository.findTransactionIds(anyLong(), anyLong())).thenAnswer(invocation ->
+                LongStream.rangeClosed((long) invocation.getArgument(0) + 1, invocation.getArgument(1)).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("압축 상한까지 거래 ID 구간을 batch 크기로 나누어 트랜잭션별로 압축")
+    void compact_SplitsRangeIntoBatches() {
+        // Given
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(12000L));
+
+        // When
+        pointSnapshotCompactor.compact();
+
+        // Then
+        InOrder inOrder = inOrder(pointLedgerRepository);
+        inOrder.verify(pointLedgerRepository).compactSnapshots(0L, 5000L);
+        inOrder.verify(pointLedgerRepository).compactSnapshots(5000L, 10000L);
+        inOrder.verify(pointLedgerRepository).compactSnapshots(10000L, 12000L);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    @DisplayName("다음 실행은 이전에 압축한 ID 이후 구간만 처리")
+    void compact_ResumesFromLastCompactedId() {
+        // Given
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(3000L))
+                .willReturn(Optional.of(3000L))
+                .willReturn(Optional.of(4000L));
+
+        // When
+        pointSnapshotCompactor.compact();
+        pointSnapshotCompactor.compact();
+        pointSnapshotCompactor.compact();
+
+        // Then
+        verify(pointLedgerRepository).compactSnapshots(0L, 3000L);
+        verify(pointLedgerRepository).compactSnapshots(3000L, 4000L);
+        verify(pointLedgerRepository, times(2)).compactSnapshots(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("압축 대상 경과 시간보다 오래된 거래만 압축 상한으로 사용")
+    void compact_UsesLagAsHorizon() {
+        // Given
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class))).willReturn(Optional.empty());
+        LocalDateTime before = LocalDateTime.now().minusSeconds(10);
+
+        // When
+        pointSnapshotCompactor.compact();
+
+        // Then
+        verify(pointLedgerRepository).findLastTransactionIdBefore(argThat(horizon ->
+                !horizon.isBefore(before) && horizon.isBefore(LocalDateTime.now().minusSeconds(9))));
+        verify(pointLedgerRepository, never()).compactSnapshots(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("구간 안에 아직 커밋되지 않은 거래 ID가 있으면 그 앞까지만 압축하고, 커밋된 뒤 나머지를 압축")
+    void compact_StopsBeforeUncommittedTransaction() {
+        // Given - 5번 거래가 늦게 커밋됨
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(10L));
+        given(pointLedgerRepository.findTransactionIds(0L, 10L)).willReturn(List.of(1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L, 10L));
+
+        // When
+        pointSnapshotCompactor.compact();
+        pointSnapshotCompactor.compact();
+
+        // Then
+        InOrder inOrder = inOrder(pointLedgerRepository);
+        inOrder.verify(pointLedgerRepository).compactSnapshots(0L, 4L);
+        inOrder.verify(pointLedgerRepository).compactSnapshots(4L, 10L);
+        verify(pointLedgerRepository, times(2)).compactSnapshots(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("구간 첫 거래가 커밋되지 않았으면 이번 주기에는 압축하지 않음")
+    void compact_SkipsWhenFirstTransactionUncommitted() {
+        // Given
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(3L));
+        given(pointLedgerRepository.findTransactionIds(0L, 3L)).willReturn(List.of(2L, 3L));
+
+        // When
+        pointSnapshotCompactor.compact();
+
+        // Then
+        verify(pointLedgerRepository, never()).compactSnapshots(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("빠진 거래 ID가 압축 대상 경과 시간 이상 비어 있으면 롤백된 것으로 보고 건너뜀")
+    void compact_SkipsAbandonedGap() {
+        // Given - 경과 시간 0: 처음 발견한 빈 ID를 바로 롤백으로 간주
+        PointLedgerProperties properties = new PointLedgerProperties();
+        properties.setCompactionBatchSize(5000);
+        properties.setCompactionLag(Duration.ZERO);
+        PointSnapshotCompactor compactor = new PointSnapshotCompactor(pointLedgerRepository, properties,
+                new TransactionTemplate(transactionManager));
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(10L));
+        given(pointLedgerRepository.findTransactionIds(0L, 10L)).willReturn(List.of(1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L, 10L));
+
+        // When
+        compactor.compact();
+
+        // Then
+        verify(pointLedgerRepository).compactSnapshots(0L, 10L);
+    }
+
+    @Test
+    @DisplayName("재시작 후 첫 압축은 스냅샷에 기록된 압축 위치부터 시작")
+    void compact_StartsFromSnapshotPosition() {
+        // Given
+        given(pointLedgerRepository.findCompactionStart()).willReturn(7000L);
+        given(pointLedgerRepository.findLastTransactionIdBefore(any(LocalDateTime.class)))
+                .willReturn(Optional.of(12000L));
+
+        // When
+        pointSnapshotCompactor.compact();
+        pointSnapshotCompactor.compact();
+
+        // Then
+        verify(pointLedgerRepository, times(1)).findCompactionStart();
+        verify(pointLedgerRepository).compactSnapshots(7000L, 12000L);
+        verify(pointLedgerRepository, times(1)).compactSnapshots(anyLong(), anyLong());
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.application.user;
 
+import kr.hhplus.be.server.user.application.PointLedgerService;
 import kr.hhplus.be.server.user.application.UserService;
 import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.domain.repository.UserRepository;
@@ -25,22 +26,25 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PointLedgerService pointLedgerService;
+
     @Test
     @DisplayName("잔액 충전 성공")
     void charge_Success() {
         // Given
         Long userId = 1L;
         long chargeAmount = 10000L;
-        User user = createUser(userId, 5000L);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findById(userId)).willReturn(Optional.of(createUser(userId, 5000L)));
 
         // When
         userService.charge(userId, chargeAmount);
 
         // Then
-        assertThat(user.getPoint()).isEqualTo(15000L);
-        verify(userRepository).save(user);
+        verify(pointLedgerService).charge(userId, chargeAmount);
+        verify(userRepository).findById(userId);
+        verifyNoMoreInteractions(userRepository);
     }
 
     @Test
@@ -56,6 +60,7 @@ class UserServiceTest {
         assertThatThrownBy(() -> userService.charge(userId, chargeAmount))
                 .isInstanceOf(NoSuchElementException.class)
                 .hasMessage("해당 사용자를 찾을 수 없습니다.");
+        verify(pointLedgerService, never()).charge(any(), anyLong());
     }
 
     @Test
@@ -64,16 +69,13 @@ class UserServiceTest {
         // Given
         Long userId = 2L;
         long useAmount = 3000L;
-        User user = createUser(userId, 5000L);
-
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
 
         // When
         userService.usePoint(userId, useAmount);
 
         // Then
-        assertThat(user.getPoint()).isEqualTo(2000L);
-        verify(userRepository).save(user);
+        verify(pointLedgerService).use(userId, useAmount);
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -82,19 +84,20 @@ class UserServiceTest {
         // Given
         Long userId = 3L;
         long useAmount = 10000L;
-        User user = createUser(userId, 5000L);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        willThrow(new IllegalStateException("포인트가 부족합니다. (현재 잔액: 5000원, 필요 금액: 10000원)"))
+                .given(pointLedgerService).use(userId, useAmount);
 
         // When & Then
         assertThatThrownBy(() -> userService.usePoint(userId, useAmount))
                 .isInstanceOf(IllegalStateException.class)
-                .hasMessage("포인트가 부족합니다.");
+                .hasMessageStartingWith("포인트가 부족합니다.");
     }
 
     private User createUser(Long userId, long point) {
         User user = new User();
-        user.charge(point);
+        user.setUserId(userId);
+        user.setPoint(point);
         return user;
     }
 }
\ No newline at end of file